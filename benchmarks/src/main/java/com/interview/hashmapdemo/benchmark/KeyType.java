@@ -0,0 +1,98 @@
+package com.interview.hashmapdemo.benchmark;
+
+import com.interview.hashmapdemo.hash.HashCombiner;
+
+import java.util.Objects;
+
+// Key families shared by the benchmarks so every problem is measured against the same inputs
+public enum KeyType {
+    INTEGER {
+        @Override
+        public Object key(int i) {
+            return i;
+        }
+    },
+    STRING {
+        @Override
+        public Object key(int i) {
+            return "key" + i;
+        }
+    },
+    // Same shape as BadHashKey in HashCollisionProblem (a wrapper hashed with HashCombiner.hash),
+    // which is package-private to problem3
+    WRAPPED_STRING {
+        @Override
+        public Object key(int i) {
+            return new WrappedKey("key" + i);
+        }
+    },
+    // Degenerate hashCode: every key lands in the same bucket
+    CONSTANT_HASH {
+        @Override
+        public Object key(int i) {
+            return new ConstantHashKey("key" + i);
+        }
+    };
+
+    public abstract Object key(int i);
+
+    public Object[] keys(int count) {
+        Object[] keys = new Object[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = key(i);
+        }
+        return keys;
+    }
+
+    public static final class WrappedKey {
+        private final String value;
+
+        public WrappedKey(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (obj == null || getClass() != obj.getClass()) return false;
+            WrappedKey that = (WrappedKey) obj;
+            return Objects.equals(value, that.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return HashCombiner.hash(value);
+        }
+
+        @Override
+        public String toString() {
+            return value;
+        }
+    }
+
+    public static final class ConstantHashKey {
+        private final String value;
+
+        public ConstantHashKey(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (obj == null || getClass() != obj.getClass()) return false;
+            ConstantHashKey that = (ConstantHashKey) obj;
+            return Objects.equals(value, that.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return 1;
+        }
+
+        @Override
+        public String toString() {
+            return value;
+        }
+    }
+}
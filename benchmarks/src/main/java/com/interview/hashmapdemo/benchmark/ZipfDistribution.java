@@ -0,0 +1,45 @@
+package com.interview.hashmapdemo.benchmark;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+// Draws ranks 0..n-1 where rank r is requested with probability proportional to
+// 1 / (r + 1)^exponent, the skewed popularity typical of cache traffic. The cumulative
+// distribution is precomputed once so each draw is a binary search.
+public class ZipfDistribution {
+    private final double[] cumulative;
+    private final SplittableRandom random;
+
+    public ZipfDistribution(int n, double exponent, long seed) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("Illegal item count: " + n);
+        }
+        if (exponent < 0 || Double.isNaN(exponent)) {
+            throw new IllegalArgumentException("Illegal exponent: " + exponent);
+        }
+        cumulative = new double[n];
+        double sum = 0;
+        for (int rank = 0; rank < n; rank++) {
+            sum += 1.0 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = sum;
+        }
+        for (int rank = 0; rank < n; rank++) {
+            cumulative[rank] /= sum;
+        }
+        random = new SplittableRandom(seed);
+    }
+
+    public int next() {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulative.length - 1);
+    }
+
+    public int[] samples(int count) {
+        int[] samples = new int[count];
+        for (int i = 0; i < count; i++) {
+            samples[i] = next();
+        }
+        return samples;
+    }
+}
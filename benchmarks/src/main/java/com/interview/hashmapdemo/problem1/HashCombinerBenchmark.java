@@ -0,0 +1,136 @@
+package com.interview.hashmapdemo.problem1;
+
+import com.interview.hashmapdemo.hash.HashCombiner;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// HashMap.get on a composite (name, age, id) key whose hashCode() uses Objects.hash,
+// HashCombiner's static form or its fluent form. All three produce the same hash, so
+// the maps are laid out identically and only the cost of hashCode() differs. Run with
+// -prof gc: Objects.hash allocates its varargs array, and boxes id, on every get.
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class HashCombinerBenchmark {
+    public enum Combiner {
+        OBJECTS_HASH {
+            @Override
+            Object key(String name, int age, long id) {
+                return new ObjectsHashKey(name, age, id);
+            }
+        },
+        STATIC {
+            @Override
+            Object key(String name, int age, long id) {
+                return new StaticKey(name, age, id);
+            }
+        },
+        FLUENT {
+            @Override
+            Object key(String name, int age, long id) {
+                return new FluentKey(name, age, id);
+            }
+        };
+
+        abstract Object key(String name, int age, long id);
+    }
+
+    abstract static class Key {
+        final String name;
+        final int age;
+        final long id;
+
+        Key(String name, int age, long id) {
+            this.name = name;
+            this.age = age;
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (obj == null || getClass() != obj.getClass()) return false;
+            Key key = (Key) obj;
+            return age == key.age && id == key.id && Objects.equals(name, key.name);
+        }
+    }
+
+    static final class ObjectsHashKey extends Key {
+        ObjectsHashKey(String name, int age, long id) {
+            super(name, age, id);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, age, id);
+        }
+    }
+
+    static final class StaticKey extends Key {
+        StaticKey(String name, int age, long id) {
+            super(name, age, id);
+        }
+
+        @Override
+        public int hashCode() {
+            return HashCombiner.hash(name, age, id);
+        }
+    }
+
+    static final class FluentKey extends Key {
+        FluentKey(String name, int age, long id) {
+            super(name, age, id);
+        }
+
+        @Override
+        public int hashCode() {
+            return HashCombiner.start().with(name).with(age).with(id).hash();
+        }
+    }
+
+    @Param({"1000", "100000"})
+    int keyCount;
+
+    @Param({"OBJECTS_HASH", "STATIC", "FLUENT"})
+    Combiner combiner;
+
+    private HashMap<Object, Integer> map;
+    private Object[] probes;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        map = new HashMap<>();
+        probes = new Object[keyCount];
+        Random random = new Random(42);
+        for (int i = 0; i < keyCount; i++) {
+            String name = "user" + random.nextInt(keyCount);
+            int age = 18 + random.nextInt(63);
+            // Ids past Long's box cache, as real ids are
+            long id = 1_000_000L + i;
+            map.put(combiner.key(name, age, id), i);
+            // Equal but not identical probes, so get() always calls hashCode() and equals()
+            probes[i] = combiner.key(new String(name), age, id);
+        }
+        for (int i = keyCount - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Object tmp = probes[i];
+            probes[i] = probes[j];
+            probes[j] = tmp;
+        }
+    }
+
+    @Benchmark
+    public Integer get() {
+        int i = index;
+        index = i + 1 == probes.length ? 0 : i + 1;
+        return map.get(probes[i]);
+    }
+}
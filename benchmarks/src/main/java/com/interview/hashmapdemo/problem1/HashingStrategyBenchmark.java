@@ -0,0 +1,86 @@
+package com.interview.hashmapdemo.problem1;
+
+import com.interview.hashmapdemo.map.HashingStrategy;
+import com.interview.hashmapdemo.map.StrategyHashMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Lookups that need a different equality than the key class provides. The HashMap
+// variants build a wrapper key per get (a lower-cased String, a ByteBuffer around the
+// array), as our code does today; StrategyHashMap hashes the caller's object directly.
+// Run with "-prof gc" to see the wrapper allocation.
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class HashingStrategyBenchmark {
+    @Param({"1000", "100000"})
+    int keyCount;
+
+    private String[] mixedCaseProbes;
+    private byte[][] byteProbes;
+    private HashMap<String, Integer> lowerCaseMap;
+    private StrategyHashMap<CharSequence, Integer> caseInsensitiveMap;
+    private HashMap<ByteBuffer, Integer> byteBufferMap;
+    private StrategyHashMap<byte[], Integer> byteArrayMap;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        lowerCaseMap = new HashMap<>();
+        caseInsensitiveMap = new StrategyHashMap<>(HashingStrategy.caseInsensitive());
+        byteBufferMap = new HashMap<>();
+        byteArrayMap = new StrategyHashMap<>(HashingStrategy.byteArray());
+        for (int i = 0; i < keyCount; i++) {
+            String header = "X-Request-Header-" + i;
+            lowerCaseMap.put(header.toLowerCase(Locale.ROOT), i);
+            caseInsensitiveMap.put(header, i);
+            byte[] bytes = ("session:" + i).getBytes(StandardCharsets.UTF_8);
+            byteBufferMap.put(ByteBuffer.wrap(bytes), i);
+            byteArrayMap.put(bytes, i);
+        }
+        // Fresh objects per probe, as if they had just been parsed off the wire
+        Random random = new Random(42);
+        mixedCaseProbes = new String[keyCount];
+        byteProbes = new byte[keyCount][];
+        for (int i = 0; i < keyCount; i++) {
+            int key = random.nextInt(keyCount);
+            mixedCaseProbes[i] = random.nextBoolean() ? "x-request-header-" + key : "X-REQUEST-HEADER-" + key;
+            byteProbes[i] = ("session:" + key).getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    private int nextIndex() {
+        int i = index;
+        index = i + 1 == keyCount ? 0 : i + 1;
+        return i;
+    }
+
+    @Benchmark
+    public Integer lowerCaseWrapperGet() {
+        return lowerCaseMap.get(mixedCaseProbes[nextIndex()].toLowerCase(Locale.ROOT));
+    }
+
+    @Benchmark
+    public Integer caseInsensitiveStrategyGet() {
+        return caseInsensitiveMap.get(mixedCaseProbes[nextIndex()]);
+    }
+
+    @Benchmark
+    public Integer byteBufferWrapperGet() {
+        return byteBufferMap.get(ByteBuffer.wrap(byteProbes[nextIndex()]));
+    }
+
+    @Benchmark
+    public Integer byteArrayStrategyGet() {
+        return byteArrayMap.get(byteProbes[nextIndex()]);
+    }
+}
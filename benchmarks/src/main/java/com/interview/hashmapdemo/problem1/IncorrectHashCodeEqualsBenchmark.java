@@ -0,0 +1,56 @@
+package com.interview.hashmapdemo.problem1;
+
+import com.interview.hashmapdemo.problem1.IncorrectHashCodeEqualsProblem.PersonBadHashCode;
+import com.interview.hashmapdemo.problem1.IncorrectHashCodeEqualsProblem.PersonCorrect;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class IncorrectHashCodeEqualsBenchmark {
+    @Param({"1000", "100000"})
+    int keyCount;
+
+    private HashMap<PersonBadHashCode, String> badMap;
+    private HashMap<PersonCorrect, String> goodMap;
+    private PersonBadHashCode[] badProbes;
+    private PersonCorrect[] goodProbes;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        badMap = new HashMap<>();
+        goodMap = new HashMap<>();
+        badProbes = new PersonBadHashCode[keyCount];
+        goodProbes = new PersonCorrect[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            badMap.put(new PersonBadHashCode("person" + i, i % 100), "role" + i);
+            goodMap.put(new PersonCorrect("person" + i, i % 100), "role" + i);
+            // Probes are equal but distinct instances, as in demonstrate()
+            badProbes[i] = new PersonBadHashCode("person" + i, i % 100);
+            goodProbes[i] = new PersonCorrect("person" + i, i % 100);
+        }
+    }
+
+    private int nextIndex() {
+        int i = index;
+        index = i + 1 == keyCount ? 0 : i + 1;
+        return i;
+    }
+
+    @Benchmark
+    public String lookupWithoutHashCode() {
+        return badMap.get(badProbes[nextIndex()]);
+    }
+
+    @Benchmark
+    public String lookupWithHashCode() {
+        return goodMap.get(goodProbes[nextIndex()]);
+    }
+}
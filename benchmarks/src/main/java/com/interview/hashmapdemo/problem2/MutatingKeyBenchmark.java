@@ -0,0 +1,57 @@
+package com.interview.hashmapdemo.problem2;
+
+import com.interview.hashmapdemo.problem2.MutatingKeyProblem.MutableKey;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class MutatingKeyBenchmark {
+    @Param({"1000", "100000"})
+    int keyCount;
+
+    private HashMap<MutableKey, String> map;
+    private MutableKey[] intactKeys;
+    private MutableKey[] mutatedKeys;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        map = new HashMap<>();
+        int half = keyCount / 2;
+        intactKeys = new MutableKey[half];
+        mutatedKeys = new MutableKey[half];
+        for (int i = 0; i < half; i++) {
+            intactKeys[i] = new MutableKey("intact" + i);
+            mutatedKeys[i] = new MutableKey("mutated" + i);
+            map.put(intactKeys[i], "value" + i);
+            map.put(mutatedKeys[i], "value" + i);
+        }
+        // Mutate after insertion so these keys are stranded in their old bucket
+        for (int i = 0; i < half; i++) {
+            mutatedKeys[i].setValue("mutated" + i + "-changed");
+        }
+    }
+
+    private int nextIndex() {
+        int i = index;
+        index = i + 1 == intactKeys.length ? 0 : i + 1;
+        return i;
+    }
+
+    @Benchmark
+    public String lookupIntactKey() {
+        return map.get(intactKeys[nextIndex()]);
+    }
+
+    @Benchmark
+    public String lookupMutatedKey() {
+        return map.get(mutatedKeys[nextIndex()]);
+    }
+}
@@ -0,0 +1,54 @@
+package com.interview.hashmapdemo.problem3;
+
+import com.interview.hashmapdemo.benchmark.KeyType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class HashCollisionBenchmark {
+    @Param({"1000", "10000"})
+    int keyCount;
+
+    @Param({"STRING", "WRAPPED_STRING", "CONSTANT_HASH"})
+    KeyType keyType;
+
+    private Object[] keys;
+    private Object[] probes;
+    private HashMap<Object, Integer> map;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        keys = keyType.keys(keyCount);
+        // Equal but distinct instances, so lookups pay for hashCode() and equals()
+        probes = keyType.keys(keyCount);
+        map = new HashMap<>();
+        for (int i = 0; i < keyCount; i++) {
+            map.put(keys[i], i);
+        }
+    }
+
+    @Benchmark
+    public Integer get() {
+        int i = index;
+        index = i + 1 == keyCount ? 0 : i + 1;
+        return map.get(probes[i]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1000)
+    public HashMap<Object, Integer> populate() {
+        HashMap<Object, Integer> target = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            target.put(keys[i % keyCount], i);
+        }
+        return target;
+    }
+}
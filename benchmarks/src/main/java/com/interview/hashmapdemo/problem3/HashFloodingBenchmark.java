@@ -0,0 +1,110 @@
+package com.interview.hashmapdemo.problem3;
+
+import com.interview.hashmapdemo.hash.CollidingStrings;
+import com.interview.hashmapdemo.map.RobinHoodHashMap;
+import com.interview.hashmapdemo.map.SeededHashMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// A hash-flooding attack: keyCount Strings that all share one String.hashCode(), as an
+// attacker would send in query parameters or JSON field names, against ordinary keys.
+// HashMap survives on treeified bins (String is Comparable), RobinHoodHashMap degrades
+// to a linear scan per operation, and SeededHashMap never sees the collision because
+// its SipHash key is secret.
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class HashFloodingBenchmark {
+    public enum MapType {
+        HASH_MAP {
+            @Override
+            Map<String, Integer> create() {
+                return new HashMap<>();
+            }
+        },
+        ROBIN_HOOD {
+            @Override
+            Map<String, Integer> create() {
+                return new RobinHoodHashMap<>();
+            }
+        },
+        SEEDED {
+            @Override
+            Map<String, Integer> create() {
+                return SeededHashMap.forStrings();
+            }
+        };
+
+        abstract Map<String, Integer> create();
+    }
+
+    public enum Keys {
+        // Ordinary keys of the same length as the colliding ones
+        BENIGN {
+            @Override
+            String[] generate(int count) {
+                String[] colliding = CollidingStrings.generate(count);
+                String[] keys = new String[count];
+                for (int i = 0; i < count; i++) {
+                    String key = Integer.toString(i, 36);
+                    keys[i] = "0".repeat(Math.max(0, colliding[i].length() - key.length())) + key;
+                }
+                return keys;
+            }
+        },
+        COLLIDING {
+            @Override
+            String[] generate(int count) {
+                return CollidingStrings.generate(count);
+            }
+        };
+
+        abstract String[] generate(int count);
+    }
+
+    @Param({"1024", "16384"})
+    int keyCount;
+
+    @Param({"BENIGN", "COLLIDING"})
+    Keys keys;
+
+    @Param({"HASH_MAP", "ROBIN_HOOD", "SEEDED"})
+    MapType mapType;
+
+    private String[] keyArray;
+    private Map<String, Integer> filled;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        keyArray = keys.generate(keyCount);
+        filled = build();
+    }
+
+    private Map<String, Integer> build() {
+        Map<String, Integer> map = mapType.create();
+        for (int i = 0; i < keyArray.length; i++) {
+            map.put(keyArray[i], i);
+        }
+        return map;
+    }
+
+    // The attack itself: one request that inserts every key
+    @Benchmark
+    public Map<String, Integer> insertAll() {
+        return build();
+    }
+
+    @Benchmark
+    public Integer get() {
+        int i = index;
+        index = i + 1 == keyArray.length ? 0 : i + 1;
+        return filled.get(keyArray[i]);
+    }
+}
@@ -0,0 +1,106 @@
+package com.interview.hashmapdemo.problem3;
+
+import com.interview.hashmapdemo.benchmark.KeyType;
+import com.interview.hashmapdemo.map.RobinHoodHashMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// HashMap versus RobinHoodHashMap on the String and BadHashKey workloads of HashCollisionProblem
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class RobinHoodHashMapBenchmark {
+    public enum MapType {
+        HASH_MAP {
+            @Override
+            Map<Object, Integer> create() {
+                return new HashMap<>();
+            }
+        },
+        ROBIN_HOOD {
+            @Override
+            Map<Object, Integer> create() {
+                return new RobinHoodHashMap<>();
+            }
+        };
+
+        abstract Map<Object, Integer> create();
+    }
+
+    @Param({"10000", "1000000"})
+    int keyCount;
+
+    @Param({"STRING", "WRAPPED_STRING"})
+    KeyType keyType;
+
+    @Param({"HASH_MAP", "ROBIN_HOOD"})
+    MapType mapType;
+
+    private Object[] keys;
+    private Object[] hitProbes;
+    private Object[] missProbes;
+    private Map<Object, Integer> map;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        keys = keyType.keys(keyCount);
+        hitProbes = keyType.keys(keyCount);
+        missProbes = new Object[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            missProbes[i] = keyType.key(keyCount + i);
+        }
+        map = mapType.create();
+        for (int i = 0; i < keyCount; i++) {
+            map.put(keys[i], i);
+        }
+        // Probe in random order: HashMap's Nodes are allocated in insertion order, so
+        // sequential probes would flatter it with prefetch-friendly access
+        Random random = new Random(42);
+        for (int i = keyCount - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            swap(hitProbes, i, j);
+            swap(missProbes, i, j);
+        }
+    }
+
+    private static void swap(Object[] array, int i, int j) {
+        Object tmp = array[i];
+        array[i] = array[j];
+        array[j] = tmp;
+    }
+
+    private int nextIndex() {
+        int i = index;
+        index = i + 1 == keyCount ? 0 : i + 1;
+        return i;
+    }
+
+    @Benchmark
+    public Integer getHit() {
+        return map.get(hitProbes[nextIndex()]);
+    }
+
+    @Benchmark
+    public Integer getMiss() {
+        return map.get(missProbes[nextIndex()]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Map<Object, Integer> populate() {
+        Map<Object, Integer> target = mapType.create();
+        for (int i = 0; i < keyCount; i++) {
+            target.put(keys[i], i);
+        }
+        return target;
+    }
+}
@@ -0,0 +1,68 @@
+package com.interview.hashmapdemo.problem4;
+
+import com.interview.hashmapdemo.problem4.EqualsVsDoubleEqualsProblem.Employee;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class EqualsVsDoubleEqualsBenchmark {
+    @Param({"100", "10000"})
+    int keyCount;
+
+    private HashMap<Employee, String> employees;
+    private Employee[] probes;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        employees = new HashMap<>();
+        probes = new Employee[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            employees.put(new Employee("E" + i, "Employee " + i), "Department " + (i % 10));
+            probes[i] = new Employee("E" + i, "Employee " + i);
+        }
+    }
+
+    private Employee nextProbe() {
+        int i = index;
+        index = i + 1 == keyCount ? 0 : i + 1;
+        return probes[i];
+    }
+
+    @Benchmark
+    public String hashMapGet() {
+        return employees.get(nextProbe());
+    }
+
+    // The manual lookup from demonstrate(), done correctly with equals()
+    @Benchmark
+    public String linearScanWithEquals() {
+        Employee probe = nextProbe();
+        for (Map.Entry<Employee, String> entry : employees.entrySet()) {
+            if (entry.getKey().equals(probe)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    // The broken manual lookup from demonstrate(): always scans the whole map
+    @Benchmark
+    public String linearScanWithDoubleEquals() {
+        Employee probe = nextProbe();
+        for (Map.Entry<Employee, String> entry : employees.entrySet()) {
+            if (entry.getKey() == probe) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+}
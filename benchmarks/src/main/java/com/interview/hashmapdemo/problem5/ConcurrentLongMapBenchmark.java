@@ -0,0 +1,64 @@
+package com.interview.hashmapdemo.problem5;
+
+import com.interview.hashmapdemo.map.ConcurrentLong2ObjectMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// ConcurrentHashMap<Long, V> against ConcurrentLong2ObjectMap for ID-to-state lookups.
+// Ids are spread far beyond the Long cache, so every boxed get and put allocates a key.
+// Run with "-prof gc" to see the difference in allocation per operation, and with
+// "-t" to vary the thread count.
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(4)
+@State(Scope.Benchmark)
+public class ConcurrentLongMapBenchmark {
+    private static final long ID_STRIDE = 1_000_003L;
+
+    @Param({"1000", "1000000"})
+    int keyCount;
+
+    private ConcurrentHashMap<Long, String> boxedMap;
+    private ConcurrentLong2ObjectMap<String> longMap;
+    private String[] values;
+
+    @Setup
+    public void setUp() {
+        boxedMap = new ConcurrentHashMap<>();
+        longMap = new ConcurrentLong2ObjectMap<>();
+        values = new String[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            values[i] = "state" + i;
+            boxedMap.put(i * ID_STRIDE, values[i]);
+            longMap.put(i * ID_STRIDE, values[i]);
+        }
+    }
+
+    @Benchmark
+    public String boxedGet() {
+        return boxedMap.get(ThreadLocalRandom.current().nextInt(keyCount) * ID_STRIDE);
+    }
+
+    @Benchmark
+    public String longGet() {
+        return longMap.get(ThreadLocalRandom.current().nextInt(keyCount) * ID_STRIDE);
+    }
+
+    @Benchmark
+    public String boxedPut() {
+        int i = ThreadLocalRandom.current().nextInt(keyCount);
+        return boxedMap.put(i * ID_STRIDE, values[i]);
+    }
+
+    @Benchmark
+    public String longPut() {
+        int i = ThreadLocalRandom.current().nextInt(keyCount);
+        return longMap.put(i * ID_STRIDE, values[i]);
+    }
+}
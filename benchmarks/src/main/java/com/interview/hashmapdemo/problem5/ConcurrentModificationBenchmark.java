@@ -0,0 +1,68 @@
+package com.interview.hashmapdemo.problem5;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// The multi-writer pattern from ConcurrentModificationProblem without the Thread.sleep(1),
+// so the numbers reflect the map rather than the scheduler.
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(4)
+@State(Scope.Benchmark)
+public class ConcurrentModificationBenchmark {
+    public enum MapType {
+        SYNCHRONIZED_MAP {
+            @Override
+            Map<Integer, String> create() {
+                return Collections.synchronizedMap(new HashMap<>());
+            }
+        },
+        CONCURRENT_HASH_MAP {
+            @Override
+            Map<Integer, String> create() {
+                return new ConcurrentHashMap<>();
+            }
+        };
+
+        abstract Map<Integer, String> create();
+    }
+
+    @Param({"1000", "100000"})
+    int keyCount;
+
+    @Param({"SYNCHRONIZED_MAP", "CONCURRENT_HASH_MAP"})
+    MapType mapType;
+
+    private Map<Integer, String> map;
+    private String[] values;
+
+    @Setup
+    public void setUp() {
+        map = mapType.create();
+        values = new String[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            values[i] = "Value " + i;
+            map.put(i, values[i]);
+        }
+    }
+
+    @Benchmark
+    public String put() {
+        int key = ThreadLocalRandom.current().nextInt(keyCount);
+        return map.put(key, values[key]);
+    }
+
+    @Benchmark
+    public String get() {
+        return map.get(ThreadLocalRandom.current().nextInt(keyCount));
+    }
+}
@@ -0,0 +1,324 @@
+package com.interview.hashmapdemo.problem5;
+
+import com.interview.hashmapdemo.benchmark.ZipfDistribution;
+import com.interview.hashmapdemo.map.ConcurrentLong2ObjectMap;
+import com.interview.hashmapdemo.map.PersistentHashMap;
+import com.interview.hashmapdemo.tracing.LatencyHistogram;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Closed-loop load generator for the concurrent maps in ConcurrentModificationProblem.
+// Every thread runs get/put/remove back to back for a fixed time, with no Thread.sleep
+// between them, and the harness reports throughput and per-operation latency
+// percentiles for each thread count. The result is a scaling curve per map.
+//
+//   java -cp benchmarks/target/benchmarks.jar com.interview.hashmapdemo.problem5.ContentionHarness \
+//       threads=1,2,4,8,16,32,64 mix=90/9/1 keys=100000 distribution=zipf exponent=0.99 \
+//       warmup=2 duration=5 maps=SYNCHRONIZED_MAP,CONCURRENT_HASH_MAP
+//
+// mix is the read/write/remove percentage. Keys come from a precomputed uniform or Zipf
+// trace shared by all threads, each thread starting at its own offset. The map is
+// filled with every key before warmup. Each thread records into its own
+// LatencyHistogram, and those are merged once the run is over. Timing every
+// operation adds two System.nanoTime calls (~20-40ns) to each one, and every map pays
+// that same overhead.
+public class ContentionHarness {
+    private static final int TRACE_SIZE = 1 << 20;
+
+    // The three operations the harness drives, so maps without the Map interface fit too
+    interface Target {
+        String get(Integer key);
+
+        void put(Integer key, String value);
+
+        void remove(Integer key);
+    }
+
+    public enum MapType {
+        // HashMap with every call in a synchronized block, as a hand-rolled service would do
+        SYNCHRONIZED_HASH_MAP {
+            @Override
+            Target create() {
+                HashMap<Integer, String> map = new HashMap<>();
+                return new Target() {
+                    @Override
+                    public String get(Integer key) {
+                        synchronized (map) {
+                            return map.get(key);
+                        }
+                    }
+
+                    @Override
+                    public void put(Integer key, String value) {
+                        synchronized (map) {
+                            map.put(key, value);
+                        }
+                    }
+
+                    @Override
+                    public void remove(Integer key) {
+                        synchronized (map) {
+                            map.remove(key);
+                        }
+                    }
+                };
+            }
+        },
+        SYNCHRONIZED_MAP {
+            @Override
+            Target create() {
+                return mapTarget(Collections.synchronizedMap(new HashMap<>()));
+            }
+        },
+        CONCURRENT_HASH_MAP {
+            @Override
+            Target create() {
+                return mapTarget(new ConcurrentHashMap<>());
+            }
+        },
+        CONCURRENT_LONG_MAP {
+            @Override
+            Target create() {
+                ConcurrentLong2ObjectMap<String> map = new ConcurrentLong2ObjectMap<>();
+                return new Target() {
+                    @Override
+                    public String get(Integer key) {
+                        return map.get(key);
+                    }
+
+                    @Override
+                    public void put(Integer key, String value) {
+                        map.put(key, value);
+                    }
+
+                    @Override
+                    public void remove(Integer key) {
+                        map.remove(key);
+                    }
+                };
+            }
+        },
+        // Copy-on-write: reads are a volatile load, writes CAS in a new trie version
+        PERSISTENT_HASH_MAP {
+            @Override
+            Target create() {
+                AtomicReference<PersistentHashMap<Integer, String>> ref =
+                        new AtomicReference<>(PersistentHashMap.empty());
+                return new Target() {
+                    @Override
+                    public String get(Integer key) {
+                        return ref.get().get(key);
+                    }
+
+                    @Override
+                    public void put(Integer key, String value) {
+                        ref.updateAndGet(map -> map.with(key, value));
+                    }
+
+                    @Override
+                    public void remove(Integer key) {
+                        ref.updateAndGet(map -> map.without(key));
+                    }
+                };
+            }
+        };
+
+        abstract Target create();
+    }
+
+    static Target mapTarget(Map<Integer, String> map) {
+        return new Target() {
+            @Override
+            public String get(Integer key) {
+                return map.get(key);
+            }
+
+            @Override
+            public void put(Integer key, String value) {
+                map.put(key, value);
+            }
+
+            @Override
+            public void remove(Integer key) {
+                map.remove(key);
+            }
+        };
+    }
+
+    record Config(int[] threads, int readPercent, int writePercent, int keyCount,
+                  String distribution, double exponent, int warmupSeconds, int durationSeconds,
+                  List<MapType> maps) {
+
+        static Config parse(String[] args) {
+            int[] threads = {1, 2, 4, 8, 16, 32, 64};
+            int[] mix = {90, 9, 1};
+            int keyCount = 100_000;
+            String distribution = "uniform";
+            double exponent = 0.99;
+            int warmup = 2;
+            int duration = 5;
+            List<MapType> maps = List.of(MapType.values());
+            for (String arg : args) {
+                int eq = arg.indexOf('=');
+                if (eq < 0) {
+                    throw new IllegalArgumentException("Expected name=value: " + arg);
+                }
+                String value = arg.substring(eq + 1);
+                switch (arg.substring(0, eq)) {
+                    case "threads" -> threads = Arrays.stream(value.split(",")).mapToInt(Integer::parseInt).toArray();
+                    case "mix" -> mix = Arrays.stream(value.split("/")).mapToInt(Integer::parseInt).toArray();
+                    case "keys" -> keyCount = Integer.parseInt(value);
+                    case "distribution" -> distribution = value;
+                    case "exponent" -> exponent = Double.parseDouble(value);
+                    case "warmup" -> warmup = Integer.parseInt(value);
+                    case "duration" -> duration = Integer.parseInt(value);
+                    case "maps" -> maps = Arrays.stream(value.split(",")).map(MapType::valueOf).toList();
+                    default -> throw new IllegalArgumentException("Unknown option: " + arg);
+                }
+            }
+            if (mix.length != 3 || Arrays.stream(mix).anyMatch(p -> p < 0) || Arrays.stream(mix).sum() != 100) {
+                throw new IllegalArgumentException("Illegal mix, expected read/write/remove summing to 100: "
+                        + Arrays.toString(mix));
+            }
+            if (Arrays.stream(threads).anyMatch(t -> t <= 0)) {
+                throw new IllegalArgumentException("Illegal thread counts: " + Arrays.toString(threads));
+            }
+            if (keyCount <= 0) {
+                throw new IllegalArgumentException("Illegal key count: " + keyCount);
+            }
+            if (!distribution.equals("uniform") && !distribution.equals("zipf")) {
+                throw new IllegalArgumentException("Unknown distribution: " + distribution);
+            }
+            if (warmup < 0 || duration <= 0) {
+                throw new IllegalArgumentException("Illegal warmup/duration: " + warmup + "/" + duration);
+            }
+            return new Config(threads, mix[0], mix[1], keyCount, distribution, exponent, warmup, duration, maps);
+        }
+    }
+
+    record Result(long operations, long reads, long hits, long elapsedNanos, LatencyHistogram latency) {
+        double opsPerSecond() {
+            return operations * 1e9 / elapsedNanos;
+        }
+
+        // Over the reads actually performed, which the random mix only approximates
+        double hitPercent() {
+            return reads == 0 ? 0 : 100.0 * hits / reads;
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        Config config = Config.parse(args);
+        Integer[] keys = new Integer[config.keyCount()];
+        String[] values = new String[config.keyCount()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = i;
+            values[i] = "Value " + i;
+        }
+        int[] trace = config.distribution().equals("zipf")
+                ? new ZipfDistribution(config.keyCount(), config.exponent(), 42).samples(TRACE_SIZE)
+                : new SplittableRandom(42).ints(TRACE_SIZE, 0, config.keyCount()).toArray();
+
+        System.out.printf("keys=%d distribution=%s mix=%d/%d/%d warmup=%ds duration=%ds cpus=%d%n",
+                config.keyCount(), config.distribution().equals("zipf")
+                        ? "zipf(" + config.exponent() + ")" : "uniform",
+                config.readPercent(), config.writePercent(), 100 - config.readPercent() - config.writePercent(),
+                config.warmupSeconds(), config.durationSeconds(), Runtime.getRuntime().availableProcessors());
+        for (MapType mapType : config.maps()) {
+            System.out.printf("%n%s%n", mapType);
+            System.out.printf("%-8s %-14s %-8s %-9s %-9s %-10s %-11s%n",
+                    "threads", "ops/sec", "hit%", "p50(ns)", "p99(ns)", "p99.9(ns)", "max(ns)");
+            for (int threads : config.threads()) {
+                Target target = mapType.create();
+                for (int i = 0; i < keys.length; i++) {
+                    target.put(keys[i], values[i]);
+                }
+                if (config.warmupSeconds() > 0) {
+                    run(target, config, threads, config.warmupSeconds(), keys, values, trace);
+                }
+                Result result = run(target, config, threads, config.durationSeconds(), keys, values, trace);
+                LatencyHistogram latency = result.latency();
+                System.out.printf("%-8d %-14.0f %-8.1f %-9d %-9d %-10d %-11d%n", threads, result.opsPerSecond(),
+                        result.hitPercent(),
+                        latency.percentile(0.5), latency.percentile(0.99), latency.percentile(0.999), latency.max());
+            }
+        }
+    }
+
+    static Result run(Target target, Config config, int threadCount, int seconds,
+                      Integer[] keys, String[] values, int[] trace) throws InterruptedException {
+        int readBound = config.readPercent();
+        int writeBound = readBound + config.writePercent();
+        CountDownLatch ready = new CountDownLatch(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        long[] operations = new long[threadCount];
+        long[] reads = new long[threadCount];
+        long[] hits = new long[threadCount];
+        LatencyHistogram[] latencies = new LatencyHistogram[threadCount];
+        Thread[] threads = new Thread[threadCount];
+        AtomicBoolean running = new AtomicBoolean(true);
+        for (int t = 0; t < threadCount; t++) {
+            int thread = t;
+            LatencyHistogram latency = latencies[t] = new LatencyHistogram();
+            threads[t] = new Thread(() -> {
+                SplittableRandom random = new SplittableRandom(thread * 0x9E3779B97F4A7C15L);
+                int index = (int) ((long) thread * TRACE_SIZE / threadCount);
+                long ops = 0;
+                long read = 0;
+                long hit = 0;
+                ready.countDown();
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                while (running.get()) {
+                    int k = trace[index++ & (TRACE_SIZE - 1)];
+                    int op = random.nextInt(100);
+                    long begin = System.nanoTime();
+                    if (op < readBound) {
+                        if (target.get(keys[k]) != null) {
+                            hit++;
+                        }
+                        read++;
+                    } else if (op < writeBound) {
+                        target.put(keys[k], values[k]);
+                    } else {
+                        target.remove(keys[k]);
+                    }
+                    latency.record(System.nanoTime() - begin);
+                    ops++;
+                }
+                operations[thread] = ops;
+                reads[thread] = read;
+                hits[thread] = hit;
+            }, "contention-" + t);
+            threads[t].start();
+        }
+        ready.await();
+        long begin = System.nanoTime();
+        start.countDown();
+        Thread.sleep(seconds * 1000L);
+        running.set(false);
+        long elapsed = System.nanoTime() - begin;
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        LatencyHistogram combined = new LatencyHistogram();
+        long totalOps = 0;
+        long totalReads = 0;
+        long totalHits = 0;
+        for (int t = 0; t < threadCount; t++) {
+            combined.add(latencies[t]);
+            totalOps += operations[t];
+            totalReads += reads[t];
+            totalHits += hits[t];
+        }
+        return new Result(totalOps, totalReads, totalHits, elapsed, combined);
+    }
+}
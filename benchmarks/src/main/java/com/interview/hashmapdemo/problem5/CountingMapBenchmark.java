@@ -0,0 +1,81 @@
+package com.interview.hashmapdemo.problem5;
+
+import com.interview.hashmapdemo.benchmark.ZipfDistribution;
+import com.interview.hashmapdemo.map.CountingMap;
+import com.interview.hashmapdemo.map.LongCountingMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Concurrent word counting on Zipf-distributed keys, the multi-writer pattern from
+// ConcurrentModificationProblem with counting instead of put. merge and compute lock the
+// hot keys' bins and box a new Long per update; CountingMap increments a LongAdder
+// found with a lock-free get. The higher the exponent, the more the threads pile onto
+// the same few keys.
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(4)
+@State(Scope.Benchmark)
+public class CountingMapBenchmark {
+    private static final int TRACE_SIZE = 1 << 20;
+
+    @Param({"0.8", "1.2"})
+    double exponent;
+
+    @Param({"100000"})
+    int keyCount;
+
+    private String[] words;
+    private int[] trace;
+    private ConcurrentHashMap<String, Long> mergeCounts;
+    private ConcurrentHashMap<String, Long> computeCounts;
+    private CountingMap<String> countingMap;
+    private LongCountingMap longCountingMap;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int index = ThreadLocalRandom.current().nextInt(TRACE_SIZE);
+
+        int next(int[] trace) {
+            return trace[index++ & (TRACE_SIZE - 1)];
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        words = new String[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            words[i] = "word" + i;
+        }
+        trace = new ZipfDistribution(keyCount, exponent, 42).samples(TRACE_SIZE);
+        mergeCounts = new ConcurrentHashMap<>();
+        computeCounts = new ConcurrentHashMap<>();
+        countingMap = new CountingMap<>();
+        longCountingMap = new LongCountingMap();
+    }
+
+    @Benchmark
+    public Long chmMerge(Cursor cursor) {
+        return mergeCounts.merge(words[cursor.next(trace)], 1L, Long::sum);
+    }
+
+    @Benchmark
+    public Long chmCompute(Cursor cursor) {
+        return computeCounts.compute(words[cursor.next(trace)], (word, count) -> count == null ? 1L : count + 1);
+    }
+
+    @Benchmark
+    public void countingMapIncrement(Cursor cursor) {
+        countingMap.increment(words[cursor.next(trace)]);
+    }
+
+    @Benchmark
+    public void longCountingMapIncrement(Cursor cursor) {
+        longCountingMap.increment(cursor.next(trace));
+    }
+}
@@ -0,0 +1,56 @@
+package com.interview.hashmapdemo.problem6;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Hashtable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class NullKeyBenchmark {
+    // Stand-in for null in maps that reject null keys
+    private static final String NULL_SENTINEL = "\u0000null";
+
+    @Param({"1000", "100000"})
+    int keyCount;
+
+    private HashMap<String, String> hashMap;
+    private Hashtable<String, String> hashtable;
+    private ConcurrentHashMap<String, String> concurrentHashMap;
+
+    @Setup
+    public void setUp() {
+        hashMap = new HashMap<>();
+        hashtable = new Hashtable<>();
+        concurrentHashMap = new ConcurrentHashMap<>();
+        for (int i = 0; i < keyCount; i++) {
+            hashMap.put("key" + i, "value" + i);
+            hashtable.put("key" + i, "value" + i);
+            concurrentHashMap.put("key" + i, "value" + i);
+        }
+        hashMap.put(null, "Value for null key");
+        hashtable.put(NULL_SENTINEL, "Value for null key");
+        concurrentHashMap.put(NULL_SENTINEL, "Value for null key");
+    }
+
+    @Benchmark
+    public String hashMapNullKey() {
+        return hashMap.get(null);
+    }
+
+    @Benchmark
+    public String hashtableSentinelKey() {
+        return hashtable.get(NULL_SENTINEL);
+    }
+
+    @Benchmark
+    public String concurrentHashMapSentinelKey() {
+        return concurrentHashMap.get(NULL_SENTINEL);
+    }
+}
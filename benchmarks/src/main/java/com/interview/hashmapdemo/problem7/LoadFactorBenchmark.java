@@ -0,0 +1,57 @@
+package com.interview.hashmapdemo.problem7;
+
+import com.interview.hashmapdemo.benchmark.KeyType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class LoadFactorBenchmark {
+    @Param({"1000", "100000"})
+    int keyCount;
+
+    @Param({"INTEGER", "STRING"})
+    KeyType keyType;
+
+    @Param({"16", "131072"})
+    int initialCapacity;
+
+    @Param({"0.5", "0.75", "0.9"})
+    float loadFactor;
+
+    private Object[] keys;
+    private HashMap<Object, String> map;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        keys = keyType.keys(keyCount);
+        map = new HashMap<>(initialCapacity, loadFactor);
+        for (int i = 0; i < keyCount; i++) {
+            map.put(keys[i], "value" + i);
+        }
+    }
+
+    @Benchmark
+    public String get() {
+        int i = index;
+        index = i + 1 == keyCount ? 0 : i + 1;
+        return map.get(keys[i]);
+    }
+
+    // Includes every resize between initialCapacity and the final table size
+    @Benchmark
+    public HashMap<Object, String> populate() {
+        HashMap<Object, String> target = new HashMap<>(initialCapacity, loadFactor);
+        for (Object key : keys) {
+            target.put(key, "value");
+        }
+        return target;
+    }
+}
@@ -0,0 +1,100 @@
+package com.interview.hashmapdemo.problem7;
+
+import com.interview.hashmapdemo.map.Int2ObjectMap;
+import com.interview.hashmapdemo.map.IntIntMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// HashMap<Integer, V> versus the primitive int-keyed maps on LoadFactorProblem's workload.
+// Run with "-prof gc" to compare the boxing garbage each variant produces per operation.
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class PrimitiveMapBenchmark {
+    @Param({"1000", "1000000"})
+    int keyCount;
+
+    private int[] probes;
+    private String[] values;
+    private HashMap<Integer, String> boxedObjectMap;
+    private Int2ObjectMap<String> int2ObjectMap;
+    private HashMap<Integer, Integer> boxedIntMap;
+    private IntIntMap intIntMap;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        values = new String[keyCount];
+        boxedObjectMap = new HashMap<>();
+        int2ObjectMap = new Int2ObjectMap<>();
+        boxedIntMap = new HashMap<>();
+        intIntMap = new IntIntMap();
+        for (int i = 0; i < keyCount; i++) {
+            values[i] = "value" + i;
+            boxedObjectMap.put(i, values[i]);
+            int2ObjectMap.put(i, values[i]);
+            boxedIntMap.put(i, i);
+            intIntMap.put(i, i);
+        }
+        // Large ids are outside the Integer cache, so the boxed maps really allocate
+        Random random = new Random(42);
+        probes = new int[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            probes[i] = random.nextInt(keyCount);
+        }
+    }
+
+    private int nextProbe() {
+        int i = index;
+        index = i + 1 == keyCount ? 0 : i + 1;
+        return probes[i];
+    }
+
+    @Benchmark
+    public String boxedObjectGet() {
+        return boxedObjectMap.get(nextProbe());
+    }
+
+    @Benchmark
+    public String int2ObjectGet() {
+        return int2ObjectMap.get(nextProbe());
+    }
+
+    @Benchmark
+    public Integer boxedIntGet() {
+        return boxedIntMap.get(nextProbe());
+    }
+
+    @Benchmark
+    public int intIntGet() {
+        return intIntMap.get(nextProbe());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public HashMap<Integer, String> boxedObjectPopulate() {
+        HashMap<Integer, String> target = new HashMap<>();
+        for (int i = 0; i < keyCount; i++) {
+            target.put(i, values[i]);
+        }
+        return target;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Int2ObjectMap<String> int2ObjectPopulate() {
+        Int2ObjectMap<String> target = new Int2ObjectMap<>();
+        for (int i = 0; i < keyCount; i++) {
+            target.put(i, values[i]);
+        }
+        return target;
+    }
+}
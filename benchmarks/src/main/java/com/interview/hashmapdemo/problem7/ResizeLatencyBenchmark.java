@@ -0,0 +1,117 @@
+package com.interview.hashmapdemo.problem7;
+
+import com.interview.hashmapdemo.map.IncrementalRehashMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Put latency of HashMap versus IncrementalRehashMap around the resize boundary that
+// LoadFactorProblem computes as (int) (initialCapacity * loadFactor).
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+// A fixed, large heap keeps GC pauses from the per-invocation refill out of the
+// measured put; add "-gc true" to also collect between iterations.
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ResizeLatencyBenchmark {
+    public enum MapType {
+        HASH_MAP {
+            @Override
+            Map<Integer, String> create(int initialCapacity, float loadFactor) {
+                return new HashMap<>(initialCapacity, loadFactor);
+            }
+        },
+        INCREMENTAL {
+            @Override
+            Map<Integer, String> create(int initialCapacity, float loadFactor) {
+                return new IncrementalRehashMap<>(initialCapacity, loadFactor);
+            }
+        };
+
+        abstract Map<Integer, String> create(int initialCapacity, float loadFactor);
+    }
+
+    // One fresh map per invocation, filled right up to the resize threshold, so that
+    // the single measured put is the one that makes the map grow
+    @State(Scope.Thread)
+    public static class BoundaryState {
+        @Param({"65536", "1048576"})
+        int initialCapacity;
+
+        @Param({"0.75"})
+        float loadFactor;
+
+        @Param({"HASH_MAP", "INCREMENTAL"})
+        MapType mapType;
+
+        Integer[] keys;
+        Map<Integer, String> map;
+        Integer boundaryKey;
+
+        @Setup(Level.Trial)
+        public void createKeys() {
+            int resizeThreshold = (int) (initialCapacity * loadFactor);
+            keys = new Integer[resizeThreshold + 1];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = i;
+            }
+            boundaryKey = keys[resizeThreshold];
+        }
+
+        @Setup(Level.Invocation)
+        public void fillToThreshold() {
+            map = mapType.create(initialCapacity, loadFactor);
+            for (int i = 0; i < keys.length - 1; i++) {
+                map.put(keys[i], "value");
+            }
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 50)
+    public String boundaryPut(BoundaryState state) {
+        return state.map.put(state.boundaryKey, "value");
+    }
+
+    // Continuous growth from the default capacity: the sampled distribution contains
+    // every resize up to maxEntries, which shows up in p99.9 and max
+    @State(Scope.Thread)
+    public static class GrowthState {
+        @Param({"4194304"})
+        int maxEntries;
+
+        @Param({"HASH_MAP", "INCREMENTAL"})
+        MapType mapType;
+
+        Integer[] keys;
+        Map<Integer, String> map;
+        int next;
+
+        @Setup(Level.Trial)
+        public void createKeys() {
+            keys = new Integer[maxEntries];
+            for (int i = 0; i < maxEntries; i++) {
+                keys[i] = i;
+            }
+        }
+
+        @Setup(Level.Iteration)
+        public void createMap() {
+            map = mapType.create(16, 0.75f);
+            next = 0;
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public String growingPut(GrowthState state) {
+        int i = state.next;
+        state.next = i + 1 == state.maxEntries ? 0 : i + 1;
+        return state.map.put(state.keys[i], "value");
+    }
+}
@@ -0,0 +1,39 @@
+package com.interview.hashmapdemo.problem8;
+
+import com.interview.hashmapdemo.benchmark.ZipfDistribution;
+import com.interview.hashmapdemo.cache.LruCache;
+import com.interview.hashmapdemo.cache.TinyLfuCache;
+
+// Replays the same Zipf traces through LruCache and TinyLfuCache and prints both hit
+// rates. Single-threaded, with TinyLfuCache draining synchronously, so the numbers are
+// deterministic for a given seed.
+//
+//   java -cp benchmarks/target/benchmarks.jar com.interview.hashmapdemo.problem8.CacheHitRateSimulation
+public class CacheHitRateSimulation {
+    private static final int KEY_SPACE = 1_000_000;
+    private static final int REQUESTS = 5_000_000;
+
+    public static void main(String[] args) {
+        double[] exponents = {0.7, 0.9, 1.1};
+        int[] cacheSizes = {1_000, 10_000, 100_000};
+
+        System.out.printf("%-9s %-11s %-10s %-10s%n", "exponent", "cacheSize", "LRU", "TinyLFU");
+        for (double exponent : exponents) {
+            int[] trace = new ZipfDistribution(KEY_SPACE, exponent, 42).samples(REQUESTS);
+            for (int cacheSize : cacheSizes) {
+                LruCache<Integer, Integer> lru = new LruCache<>(cacheSize);
+                TinyLfuCache<Integer, Integer> tinyLfu = new TinyLfuCache<>(cacheSize, Runnable::run);
+                for (int key : trace) {
+                    if (lru.get(key) == null) {
+                        lru.put(key, key);
+                    }
+                    if (tinyLfu.get(key) == null) {
+                        tinyLfu.put(key, key);
+                    }
+                }
+                System.out.printf("%-9.1f %-11d %-10.4f %-10.4f%n", exponent, cacheSize,
+                        lru.stats().getHitRate(), tinyLfu.stats().getHitRate());
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.interview.hashmapdemo.problem8;
+
+import com.interview.hashmapdemo.map.CompactLinkedMap;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+// Iteration and lookup on the insertion-ordered maps from KeyOrderingProblem.
+// LinkedHashMap follows after-pointers from entry to entry scattered across the heap;
+// CompactLinkedMap scans dense arrays. "churned" maps had a third of their keys removed
+// and re-added, so LinkedHashMap's list order no longer matches allocation order.
+// Run OrderedMapFootprint for the memory side of the comparison.
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class CompactLinkedMapBenchmark {
+    public enum MapType {
+        LINKED_HASH_MAP {
+            @Override
+            Map<Integer, Integer> create() {
+                return new LinkedHashMap<>();
+            }
+        },
+        COMPACT_LINKED_MAP {
+            @Override
+            Map<Integer, Integer> create() {
+                return new CompactLinkedMap<>();
+            }
+        };
+
+        abstract Map<Integer, Integer> create();
+    }
+
+    @Param({"1000", "100000"})
+    int keyCount;
+
+    @Param({"LINKED_HASH_MAP", "COMPACT_LINKED_MAP"})
+    MapType mapType;
+
+    @Param({"false", "true"})
+    boolean churned;
+
+    private Map<Integer, Integer> map;
+    private Integer[] probes;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        map = mapType.create();
+        for (int i = 0; i < keyCount; i++) {
+            map.put(i, i);
+        }
+        Random random = new Random(42);
+        if (churned) {
+            for (int i = 0; i < keyCount / 3; i++) {
+                Integer key = random.nextInt(keyCount);
+                Integer value = map.remove(key);
+                if (value != null) {
+                    map.put(key, value);
+                }
+            }
+        }
+        List<Integer> shuffled = new ArrayList<>(map.keySet());
+        Collections.shuffle(shuffled, random);
+        probes = shuffled.toArray(new Integer[0]);
+    }
+
+    @Benchmark
+    public void iterateEntrySet(Blackhole blackhole) {
+        for (Map.Entry<Integer, Integer> entry : map.entrySet()) {
+            blackhole.consume(entry.getValue());
+        }
+    }
+
+    @Benchmark
+    public void forEach(Blackhole blackhole) {
+        map.forEach((key, value) -> blackhole.consume(value));
+    }
+
+    @Benchmark
+    public Integer get() {
+        int i = index;
+        index = i + 1 == probes.length ? 0 : i + 1;
+        return map.get(probes[i]);
+    }
+}
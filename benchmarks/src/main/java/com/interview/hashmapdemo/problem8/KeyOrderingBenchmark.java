@@ -0,0 +1,84 @@
+package com.interview.hashmapdemo.problem8;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class KeyOrderingBenchmark {
+    public enum MapType {
+        HASH_MAP {
+            @Override
+            Map<Integer, String> create() {
+                return new HashMap<>();
+            }
+        },
+        LINKED_HASH_MAP {
+            @Override
+            Map<Integer, String> create() {
+                return new LinkedHashMap<>();
+            }
+        },
+        ACCESS_ORDER_LINKED_HASH_MAP {
+            @Override
+            Map<Integer, String> create() {
+                return new LinkedHashMap<>(16, 0.75f, true);
+            }
+        },
+        TREE_MAP {
+            @Override
+            Map<Integer, String> create() {
+                return new TreeMap<>();
+            }
+        };
+
+        abstract Map<Integer, String> create();
+    }
+
+    @Param({"1000", "100000"})
+    int keyCount;
+
+    @Param({"HASH_MAP", "LINKED_HASH_MAP", "ACCESS_ORDER_LINKED_HASH_MAP", "TREE_MAP"})
+    MapType mapType;
+
+    private Integer[] keys;
+    private Map<Integer, String> map;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        // Shuffled so TreeMap and HashMap see the same "random order" inserts as demonstrate()
+        List<Integer> shuffled = new ArrayList<>(keyCount);
+        for (int i = 0; i < keyCount; i++) {
+            shuffled.add(i);
+        }
+        Collections.shuffle(shuffled, new Random(42));
+        keys = shuffled.toArray(new Integer[0]);
+        map = mapType.create();
+        for (Integer key : keys) {
+            map.put(key, "value" + key);
+        }
+    }
+
+    @Benchmark
+    public String get() {
+        int i = index;
+        index = i + 1 == keyCount ? 0 : i + 1;
+        return map.get(keys[i]);
+    }
+
+    @Benchmark
+    public void iterate(Blackhole blackhole) {
+        for (Map.Entry<Integer, String> entry : map.entrySet()) {
+            blackhole.consume(entry.getKey());
+            blackhole.consume(entry.getValue());
+        }
+    }
+}
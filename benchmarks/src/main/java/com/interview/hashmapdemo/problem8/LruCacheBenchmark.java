@@ -0,0 +1,104 @@
+package com.interview.hashmapdemo.problem8;
+
+import com.interview.hashmapdemo.cache.LruCache;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+// LruCache versus a hand-rolled synchronized access-order LinkedHashMap at several hit
+// ratios. Keys are drawn uniformly from maximumSize / hitRatio distinct keys, so an LRU
+// cache of maximumSize entries settles at roughly the requested hit ratio.
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class LruCacheBenchmark {
+    private static final int SAMPLES = 1 << 20;
+
+    @Param({"10000"})
+    int maximumSize;
+
+    @Param({"0.5", "0.9", "0.99"})
+    double hitRatio;
+
+    private LruCache<Integer, String> cache;
+    private Map<Integer, String> handRolled;
+    private Integer[] samples;
+    private List<List<Integer>> batches;
+    private String value;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        cache = new LruCache<>(maximumSize);
+        int max = maximumSize;
+        handRolled = Collections.synchronizedMap(new LinkedHashMap<Integer, String>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, String> eldest) {
+                return size() > max;
+            }
+        });
+        int keySpace = (int) (maximumSize / hitRatio);
+        Random random = new Random(42);
+        samples = new Integer[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            samples[i] = random.nextInt(keySpace);
+        }
+        batches = new ArrayList<>();
+        for (int i = 0; i + 16 <= SAMPLES; i += 16) {
+            batches.add(Arrays.asList(samples).subList(i, i + 16));
+        }
+        value = "value";
+        // Warm both caches to their steady-state contents
+        for (Integer key : samples) {
+            cache.put(key, value);
+            handRolled.put(key, value);
+        }
+    }
+
+    private Integer nextKey() {
+        int i = index;
+        index = (i + 1) & (SAMPLES - 1);
+        return samples[i];
+    }
+
+    @Benchmark
+    public String lruCacheGetOrLoad() {
+        Integer key = nextKey();
+        String cached = cache.get(key);
+        if (cached == null) {
+            cache.put(key, value);
+            return value;
+        }
+        return cached;
+    }
+
+    @Benchmark
+    public String handRolledGetOrLoad() {
+        Integer key = nextKey();
+        String cached = handRolled.get(key);
+        if (cached == null) {
+            handRolled.put(key, value);
+            return value;
+        }
+        return cached;
+    }
+
+    // 16 keys per invocation through the single-lock bulk path
+    @Benchmark
+    @OperationsPerInvocation(16)
+    public Map<Integer, String> lruCacheGetAll() {
+        int i = index;
+        index = (i + 1) % batches.size();
+        return cache.getAll(batches.get(i), missing -> {
+            Map<Integer, String> loaded = new HashMap<>();
+            for (Integer key : missing) {
+                loaded.put(key, value);
+            }
+            return loaded;
+        });
+    }
+}
@@ -0,0 +1,53 @@
+package com.interview.hashmapdemo.problem8;
+
+import com.interview.hashmapdemo.analysis.RetainedHeap;
+import com.interview.hashmapdemo.map.CompactLinkedMap;
+
+import java.util.*;
+import java.util.function.IntFunction;
+
+// Retained heap per entry for HashMap, LinkedHashMap and CompactLinkedMap, excluding the
+// keys and values themselves (they are shared, preallocated Integers). Small maps are
+// measured as many copies at once, since a single one is below the heap gauge's resolution.
+//
+//   java -cp benchmarks/target/benchmarks.jar com.interview.hashmapdemo.problem8.OrderedMapFootprint
+public class OrderedMapFootprint {
+    private static final int MINIMUM_MEASURED_ENTRIES = 2_000_000;
+
+    public static void main(String[] args) {
+        int[] sizes = {1_000, 100_000, 1_000_000};
+        Map<String, IntFunction<Map<Integer, Integer>>> factories = new LinkedHashMap<>();
+        factories.put("HashMap", size -> new HashMap<>());
+        factories.put("LinkedHashMap", size -> new LinkedHashMap<>());
+        factories.put("CompactLinkedMap", size -> new CompactLinkedMap<>());
+
+        Integer[] keys = new Integer[sizes[sizes.length - 1]];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = i;
+        }
+        // Throwaway measurement so class loading and JIT work are not charged to the first row
+        RetainedHeap.measure(() -> fill(new HashMap<>(), keys, 1000));
+
+        System.out.printf("%-18s %-10s %-14s%n", "map", "entries", "bytes/entry");
+        for (Map.Entry<String, IntFunction<Map<Integer, Integer>>> factory : factories.entrySet()) {
+            for (int size : sizes) {
+                int copies = Math.max(1, MINIMUM_MEASURED_ENTRIES / size);
+                long bytes = RetainedHeap.measure(() -> {
+                    List<Map<Integer, Integer>> maps = new ArrayList<>(copies);
+                    for (int i = 0; i < copies; i++) {
+                        maps.add(fill(factory.getValue().apply(size), keys, size));
+                    }
+                    return maps;
+                });
+                System.out.printf("%-18s %-10d %-14.1f%n", factory.getKey(), size, (double) bytes / ((long) size * copies));
+            }
+        }
+    }
+
+    private static Map<Integer, Integer> fill(Map<Integer, Integer> map, Integer[] keys, int size) {
+        for (int i = 0; i < size; i++) {
+            map.put(keys[i], keys[i]);
+        }
+        return map;
+    }
+}
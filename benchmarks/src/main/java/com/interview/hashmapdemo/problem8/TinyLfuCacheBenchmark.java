@@ -0,0 +1,136 @@
+package com.interview.hashmapdemo.problem8;
+
+import com.interview.hashmapdemo.benchmark.ZipfDistribution;
+import com.interview.hashmapdemo.cache.LruCache;
+import com.interview.hashmapdemo.cache.TinyLfuCache;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// Eight threads doing get-or-load on Zipf-distributed keys. An unbounded, preloaded
+// ConcurrentHashMap is the throughput ceiling; LruCache serialises every read on its
+// monitor, while TinyLfuCache only records reads in its striped buffers.
+// Run CacheHitRateSimulation for the hit-rate side of the comparison.
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(8)
+@State(Scope.Benchmark)
+public class TinyLfuCacheBenchmark {
+    private static final int SAMPLES = 1 << 20;
+
+    interface Cache {
+        Integer get(Integer key);
+
+        void put(Integer key, Integer value);
+    }
+
+    public enum CacheType {
+        CONCURRENT_HASH_MAP {
+            @Override
+            Cache create(int maximumSize) {
+                ConcurrentHashMap<Integer, Integer> map = new ConcurrentHashMap<>();
+                return new Cache() {
+                    @Override
+                    public Integer get(Integer key) {
+                        return map.get(key);
+                    }
+
+                    @Override
+                    public void put(Integer key, Integer value) {
+                        map.put(key, value);
+                    }
+                };
+            }
+        },
+        LRU_CACHE {
+            @Override
+            Cache create(int maximumSize) {
+                LruCache<Integer, Integer> cache = new LruCache<>(maximumSize);
+                return new Cache() {
+                    @Override
+                    public Integer get(Integer key) {
+                        return cache.get(key);
+                    }
+
+                    @Override
+                    public void put(Integer key, Integer value) {
+                        cache.put(key, value);
+                    }
+                };
+            }
+        },
+        TINY_LFU_CACHE {
+            @Override
+            Cache create(int maximumSize) {
+                TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>(maximumSize);
+                return new Cache() {
+                    @Override
+                    public Integer get(Integer key) {
+                        return cache.get(key);
+                    }
+
+                    @Override
+                    public void put(Integer key, Integer value) {
+                        cache.put(key, value);
+                    }
+                };
+            }
+        };
+
+        abstract Cache create(int maximumSize);
+    }
+
+    @Param({"10000"})
+    int maximumSize;
+
+    @Param({"CONCURRENT_HASH_MAP", "LRU_CACHE", "TINY_LFU_CACHE"})
+    CacheType cacheType;
+
+    private Cache cache;
+    private Integer[] keys;
+
+    // Each thread replays its own Zipf trace so threads do not share an index
+    @State(Scope.Thread)
+    public static class Trace {
+        int[] samples;
+        int index;
+
+        @Setup
+        public void setUp(TinyLfuCacheBenchmark benchmark) {
+            samples = new ZipfDistribution(benchmark.keys.length, 1.0, Thread.currentThread().getId())
+                    .samples(SAMPLES);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        cache = cacheType.create(maximumSize);
+        // Ten times more distinct keys than the cache holds
+        keys = new Integer[maximumSize * 10];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = i;
+        }
+        ZipfDistribution warmUp = new ZipfDistribution(keys.length, 1.0, 42);
+        for (int i = 0; i < SAMPLES; i++) {
+            Integer key = keys[warmUp.next()];
+            cache.put(key, key);
+        }
+    }
+
+    @Benchmark
+    public Integer getOrLoad(Trace trace) {
+        int i = trace.index;
+        trace.index = (i + 1) & (SAMPLES - 1);
+        Integer key = keys[trace.samples[i]];
+        Integer cached = cache.get(key);
+        if (cached == null) {
+            cache.put(key, key);
+            return key;
+        }
+        return cached;
+    }
+}
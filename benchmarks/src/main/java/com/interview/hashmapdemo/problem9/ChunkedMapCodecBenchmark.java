@@ -0,0 +1,79 @@
+package com.interview.hashmapdemo.problem9;
+
+import com.interview.hashmapdemo.io.ChunkedMapCodec;
+import com.interview.hashmapdemo.io.StringMapCodec;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+// Single-threaded StringMapCodec snapshots against ChunkedMapCodec on pools of 1 and
+// of all available cores. Chunked with parallelism 1 shows the format's own overhead;
+// the gap to the full pool is the scaling with core count.
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ChunkedMapCodecBenchmark {
+    @Param({"1000000", "10000000"})
+    int entryCount;
+
+    // 0 means all available processors
+    @Param({"1", "0"})
+    int parallelism;
+
+    private HashMap<String, String> map;
+    private ForkJoinPool pool;
+    private int partitions;
+    private Path codecFile;
+    private Path chunkedFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        map = new HashMap<>();
+        for (int i = 0; i < entryCount; i++) {
+            map.put("key" + i, "value" + i);
+        }
+        int threads = parallelism == 0 ? Runtime.getRuntime().availableProcessors() : parallelism;
+        pool = new ForkJoinPool(threads);
+        partitions = Math.min(1 << 12, Integer.highestOneBit(threads * 4 - 1) << 1);
+        codecFile = Files.createTempFile("map", ".bin");
+        chunkedFile = Files.createTempFile("map", ".chunked");
+        codecWriteFile();
+        chunkedWriteFile();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        pool.shutdown();
+        Files.deleteIfExists(codecFile);
+        Files.deleteIfExists(chunkedFile);
+    }
+
+    @Benchmark
+    public void codecWriteFile() throws IOException {
+        StringMapCodec.writeFile(map, codecFile);
+    }
+
+    @Benchmark
+    public Map<String, String> codecReadFile() throws IOException {
+        return StringMapCodec.readFile(codecFile);
+    }
+
+    @Benchmark
+    public void chunkedWriteFile() throws IOException {
+        ChunkedMapCodec.writeFile(map, chunkedFile, partitions, pool);
+    }
+
+    @Benchmark
+    public Map<String, String> chunkedReadFile() throws IOException {
+        return ChunkedMapCodec.readFile(chunkedFile, pool);
+    }
+}
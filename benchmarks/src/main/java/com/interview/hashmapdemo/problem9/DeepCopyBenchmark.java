@@ -0,0 +1,121 @@
+package com.interview.hashmapdemo.problem9;
+
+import com.interview.hashmapdemo.copy.DeepCopier;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Ways to copy SerializationProblem's HashMap<String, StringBuilder>, scaled up:
+// clone() (shallow, the lower bound), the hand-written loop, a serialization round
+// trip, and DeepCopier sequentially and in parallel. A value class with several
+// fields exercises DeepCopier's MethodHandle field copier.
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class DeepCopyBenchmark {
+    public static class Record implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        String name;
+        long updated;
+        int[] counters = new int[4];
+        StringBuilder note;
+
+        public Record() {
+        }
+
+        Record copy() {
+            Record r = new Record();
+            r.name = name;
+            r.updated = updated;
+            r.counters = counters.clone();
+            r.note = new StringBuilder(note);
+            return r;
+        }
+    }
+
+    @Param({"1000", "1000000"})
+    int entryCount;
+
+    private HashMap<String, StringBuilder> builders;
+    private HashMap<String, Record> records;
+
+    @Setup
+    public void setUp() {
+        builders = new HashMap<>();
+        records = new HashMap<>();
+        for (int i = 0; i < entryCount; i++) {
+            builders.put("key" + i, new StringBuilder("value" + i));
+            Record r = new Record();
+            r.name = "record" + i;
+            r.updated = i;
+            r.note = new StringBuilder("note" + i);
+            records.put("key" + i, r);
+        }
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public Object cloneShallow() {
+        return builders.clone();
+    }
+
+    @Benchmark
+    public Map<String, StringBuilder> manualLoop() {
+        HashMap<String, StringBuilder> copy = new HashMap<>();
+        for (Map.Entry<String, StringBuilder> entry : builders.entrySet()) {
+            copy.put(entry.getKey(), new StringBuilder(entry.getValue().toString()));
+        }
+        return copy;
+    }
+
+    @Benchmark
+    public Object serializationRoundTrip() throws IOException, ClassNotFoundException {
+        return roundTrip(builders);
+    }
+
+    @Benchmark
+    public Map<String, StringBuilder> deepCopier() {
+        return DeepCopier.copyMap(builders);
+    }
+
+    @Benchmark
+    public Map<String, StringBuilder> deepCopierParallel() {
+        return DeepCopier.copyMapParallel(builders);
+    }
+
+    @Benchmark
+    public Map<String, Record> recordsManual() {
+        HashMap<String, Record> copy = new HashMap<>();
+        for (Map.Entry<String, Record> entry : records.entrySet()) {
+            copy.put(entry.getKey(), entry.getValue().copy());
+        }
+        return copy;
+    }
+
+    @Benchmark
+    public Object recordsSerialization() throws IOException, ClassNotFoundException {
+        return roundTrip(records);
+    }
+
+    @Benchmark
+    public Map<String, Record> recordsDeepCopier() {
+        return DeepCopier.copyMap(records);
+    }
+
+    private static Object roundTrip(Object value) throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return in.readObject();
+        }
+    }
+}
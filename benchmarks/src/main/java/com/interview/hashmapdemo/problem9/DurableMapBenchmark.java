@@ -0,0 +1,69 @@
+package com.interview.hashmapdemo.problem9;
+
+import com.interview.hashmapdemo.io.DurableMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// Durable put throughput with 8 writers for different group-commit batch windows.
+// Window 0 still batches whatever arrives while the previous fsync runs; longer
+// windows trade per-write latency for fewer fsyncs. Results depend heavily on the
+// disk's fsync cost, so compare windows on the same machine.
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(8)
+@State(Scope.Benchmark)
+public class DurableMapBenchmark {
+    @Param({"0", "100", "1000"})
+    long batchWindowMicros;
+
+    private Path directory;
+    private DurableMap map;
+
+    @State(Scope.Thread)
+    public static class Writer {
+        private static int nextId;
+        private final String prefix;
+        private int counter;
+
+        public Writer() {
+            synchronized (Writer.class) {
+                prefix = "writer" + nextId++ + "-";
+            }
+        }
+
+        String nextKey() {
+            counter = (counter + 1) & 0xFFFF;
+            return prefix + counter;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("durable-map");
+        map = DurableMap.open(directory, Duration.ofNanos(batchWindowMicros * 1000), 16L << 20);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        System.out.println("syncs: " + map.syncCount());
+        map.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public String durablePut(Writer writer) {
+        return map.put(writer.nextKey(), "value");
+    }
+}
@@ -0,0 +1,74 @@
+package com.interview.hashmapdemo.problem9;
+
+import com.interview.hashmapdemo.io.FrontCodedMapCodec;
+import com.interview.hashmapdemo.io.StringMapCodec;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// StringMapCodec against FrontCodedMapCodec on "key" + i keys, with either unique values
+// or values drawn from a small set. The file sizes are printed at setup; front coding
+// trades a sort on write for smaller files and fewer bytes to decode on read.
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class FrontCodedMapCodecBenchmark {
+    @Param({"100000", "1000000"})
+    int entryCount;
+
+    // 0 means every value is unique
+    @Param({"0", "100"})
+    int distinctValues;
+
+    private HashMap<String, String> map;
+    private Path codecFile;
+    private Path frontCodedFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        map = new HashMap<>();
+        for (int i = 0; i < entryCount; i++) {
+            map.put("key" + i, "value" + (distinctValues == 0 ? i : i % distinctValues));
+        }
+        codecFile = Files.createTempFile("map", ".bin");
+        frontCodedFile = Files.createTempFile("map", ".fc");
+        codecWriteFile();
+        frontCodedWriteFile();
+        System.out.printf("%nStringMapCodec: %,d bytes, FrontCodedMapCodec: %,d bytes%n",
+                Files.size(codecFile), Files.size(frontCodedFile));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(codecFile);
+        Files.deleteIfExists(frontCodedFile);
+    }
+
+    @Benchmark
+    public void codecWriteFile() throws IOException {
+        StringMapCodec.writeFile(map, codecFile);
+    }
+
+    @Benchmark
+    public Map<String, String> codecReadFile() throws IOException {
+        return StringMapCodec.readFile(codecFile);
+    }
+
+    @Benchmark
+    public void frontCodedWriteFile() throws IOException {
+        FrontCodedMapCodec.writeFile(map, frontCodedFile);
+    }
+
+    @Benchmark
+    public Map<String, String> frontCodedReadFile() throws IOException {
+        return FrontCodedMapCodec.readFile(frontCodedFile);
+    }
+}
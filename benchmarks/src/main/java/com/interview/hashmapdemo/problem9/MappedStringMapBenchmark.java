@@ -0,0 +1,89 @@
+package com.interview.hashmapdemo.problem9;
+
+import com.interview.hashmapdemo.io.MappedStringMap;
+import com.interview.hashmapdemo.io.StringMapCodec;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Time from "the data is in a file" to "the first lookup answered": reopening a
+// MappedStringMap maps the file and checks the header, while StringMapCodec.readFile
+// decodes and rehashes every entry. The get benchmarks show what a lookup then costs
+// on each side. Both files sit in the page cache.
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class MappedStringMapBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    int entryCount;
+
+    private Path mappedFile;
+    private Path codecFile;
+    private MappedStringMap mapped;
+    private HashMap<String, String> decoded;
+    private String[] keys;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        mappedFile = Files.createTempFile("map", ".mapped");
+        codecFile = Files.createTempFile("map", ".bin");
+        Files.delete(mappedFile);
+        keys = new String[entryCount];
+        HashMap<String, String> source = new HashMap<>();
+        for (int i = 0; i < entryCount; i++) {
+            keys[i] = "key" + i;
+            source.put(keys[i], "value" + i);
+        }
+        try (MappedStringMap map = MappedStringMap.open(mappedFile, entryCount)) {
+            map.putAll(source);
+        }
+        StringMapCodec.writeFile(source, codecFile);
+        mapped = MappedStringMap.open(mappedFile);
+        decoded = StringMapCodec.readFile(codecFile);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        mapped.close();
+        Files.deleteIfExists(mappedFile);
+        Files.deleteIfExists(codecFile);
+    }
+
+    private String nextKey() {
+        String key = keys[next];
+        next = next + 1 == keys.length ? 0 : next + 1;
+        return key;
+    }
+
+    @Benchmark
+    public String reopenMappedAndGet() throws IOException {
+        try (MappedStringMap map = MappedStringMap.open(mappedFile)) {
+            return map.get(nextKey());
+        }
+    }
+
+    @Benchmark
+    public String readCodecFileAndGet() throws IOException {
+        Map<String, String> map = StringMapCodec.readFile(codecFile);
+        return map.get(nextKey());
+    }
+
+    @Benchmark
+    public String mappedGet() {
+        return mapped.get(nextKey());
+    }
+
+    @Benchmark
+    public String hashMapGet() {
+        return decoded.get(nextKey());
+    }
+}
@@ -0,0 +1,71 @@
+package com.interview.hashmapdemo.problem9;
+
+import com.interview.hashmapdemo.map.PersistentHashMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Snapshot-on-every-change: copying a HashMap and then updating the copy, against a
+// PersistentHashMap update that shares all untouched structure with the previous
+// version. The get benchmarks show what the trie costs on the read side.
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class PersistentHashMapBenchmark {
+    @Param({"1000", "100000"})
+    int entryCount;
+
+    private HashMap<String, String> hashMap;
+    private PersistentHashMap<String, String> persistent;
+    private String[] keys;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        keys = new String[entryCount];
+        hashMap = new HashMap<>();
+        for (int i = 0; i < entryCount; i++) {
+            keys[i] = "key" + i;
+            hashMap.put(keys[i], "value" + i);
+        }
+        persistent = PersistentHashMap.copyOf(hashMap);
+    }
+
+    private String nextKey() {
+        String key = keys[next];
+        next = next + 1 == keys.length ? 0 : next + 1;
+        return key;
+    }
+
+    @Benchmark
+    public Map<String, String> hashMapCopyAndPut() {
+        HashMap<String, String> snapshot = new HashMap<>(hashMap);
+        snapshot.put(nextKey(), "updated");
+        return snapshot;
+    }
+
+    @Benchmark
+    public Map<String, String> persistentWith() {
+        return persistent.with(nextKey(), "updated");
+    }
+
+    @Benchmark
+    public String hashMapGet() {
+        return hashMap.get(nextKey());
+    }
+
+    @Benchmark
+    public String persistentGet() {
+        return persistent.get(nextKey());
+    }
+
+    @Benchmark
+    public PersistentHashMap<String, String> builderBulkLoad() {
+        return PersistentHashMap.copyOf(hashMap);
+    }
+}
@@ -0,0 +1,64 @@
+package com.interview.hashmapdemo.problem9;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class SerializationBenchmark {
+    @Param({"1000", "100000"})
+    int entryCount;
+
+    private HashMap<String, String> originalMap;
+    private HashMap<String, StringBuilder> mutableMap;
+    private byte[] serialized;
+
+    @Setup
+    public void setUp() throws IOException {
+        originalMap = new HashMap<>();
+        mutableMap = new HashMap<>();
+        for (int i = 0; i < entryCount; i++) {
+            originalMap.put("key" + i, "value" + i);
+            mutableMap.put("key" + i, new StringBuilder("value" + i));
+        }
+        serialized = serialize();
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream(baos);
+        oos.writeObject(originalMap);
+        oos.close();
+        return baos.toByteArray();
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public HashMap<String, String> deserialize() throws IOException, ClassNotFoundException {
+        ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(serialized));
+        return (HashMap<String, String>) ois.readObject();
+    }
+
+    @Benchmark
+    public Object shallowClone() {
+        return mutableMap.clone();
+    }
+
+    @Benchmark
+    public HashMap<String, StringBuilder> deepCopy() {
+        HashMap<String, StringBuilder> deepCopy = new HashMap<>();
+        for (Map.Entry<String, StringBuilder> entry : mutableMap.entrySet()) {
+            deepCopy.put(entry.getKey(), new StringBuilder(entry.getValue().toString()));
+        }
+        return deepCopy;
+    }
+}
@@ -0,0 +1,102 @@
+package com.interview.hashmapdemo.problem9;
+
+import com.interview.hashmapdemo.io.StringMapCodec;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+// StringMapCodec against the ObjectOutputStream path from SerializationProblem, in memory
+// and through a file. The file benchmarks include the page cache, not the disk.
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class StringMapCodecBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    int entryCount;
+
+    private HashMap<String, String> map;
+    private byte[] serialized;
+    private ByteBuffer encoded;
+    private Path objectStreamFile;
+    private Path codecFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        map = new HashMap<>();
+        for (int i = 0; i < entryCount; i++) {
+            map.put("key" + i, "value" + i);
+        }
+        serialized = javaSerialize();
+        encoded = StringMapCodec.encode(map);
+        objectStreamFile = Files.createTempFile("map", ".ser");
+        codecFile = Files.createTempFile("map", ".bin");
+        javaSerializeToFile();
+        codecWriteFile();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(objectStreamFile);
+        Files.deleteIfExists(codecFile);
+    }
+
+    @Benchmark
+    public byte[] javaSerialize() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(map);
+        }
+        return baos.toByteArray();
+    }
+
+    @Benchmark
+    public Object javaDeserialize() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            return ois.readObject();
+        }
+    }
+
+    @Benchmark
+    public ByteBuffer codecEncode() {
+        return StringMapCodec.encode(map);
+    }
+
+    @Benchmark
+    public HashMap<String, String> codecDecode() throws IOException {
+        return StringMapCodec.decode(encoded.duplicate());
+    }
+
+    @Benchmark
+    public void javaSerializeToFile() throws IOException {
+        try (ObjectOutputStream oos = new ObjectOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(objectStreamFile)))) {
+            oos.writeObject(map);
+        }
+    }
+
+    @Benchmark
+    public Object javaDeserializeFromFile() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream ois = new ObjectInputStream(
+                new BufferedInputStream(Files.newInputStream(objectStreamFile)))) {
+            return ois.readObject();
+        }
+    }
+
+    @Benchmark
+    public void codecWriteFile() throws IOException {
+        StringMapCodec.writeFile(map, codecFile);
+    }
+
+    @Benchmark
+    public HashMap<String, String> codecReadFile() throws IOException {
+        return StringMapCodec.readFile(codecFile);
+    }
+}
@@ -0,0 +1,165 @@
+package com.interview.hashmapdemo.analysis;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// How one key set spreads over HashMap's buckets, as computed by BucketDistributionAnalyzer.
+// Probe counts are key comparisons (chained) or slots read (open-addressed), averaged
+// over every key for hits and over every bucket or slot as the starting point for misses.
+public class BucketDistribution {
+    private final int entryCount;
+    private final int distinctHashCodes;
+    private final int capacity;
+    private final float loadFactor;
+    private final long[] histogram;
+    private final int treeifiedBins;
+    private final double chainedHitProbes;
+    private final double chainedMissProbes;
+    private final int openAddressingCapacity;
+    private final double openAddressingHitProbes;
+    private final double openAddressingMissProbes;
+
+    public BucketDistribution(int entryCount, int distinctHashCodes, int capacity, float loadFactor,
+                              long[] histogram, int treeifiedBins,
+                              double chainedHitProbes, double chainedMissProbes,
+                              int openAddressingCapacity, double openAddressingHitProbes,
+                              double openAddressingMissProbes) {
+        this.entryCount = entryCount;
+        this.distinctHashCodes = distinctHashCodes;
+        this.capacity = capacity;
+        this.loadFactor = loadFactor;
+        this.histogram = histogram.clone();
+        this.treeifiedBins = treeifiedBins;
+        this.chainedHitProbes = chainedHitProbes;
+        this.chainedMissProbes = chainedMissProbes;
+        this.openAddressingCapacity = openAddressingCapacity;
+        this.openAddressingHitProbes = openAddressingHitProbes;
+        this.openAddressingMissProbes = openAddressingMissProbes;
+    }
+
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    public int getDistinctHashCodes() {
+        return distinctHashCodes;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public float getLoadFactor() {
+        return loadFactor;
+    }
+
+    // histogram[k] is the number of buckets holding exactly k entries
+    public long[] getHistogram() {
+        return histogram.clone();
+    }
+
+    public long getEmptyBuckets() {
+        return histogram[0];
+    }
+
+    public int getLongestChain() {
+        return histogram.length - 1;
+    }
+
+    public int getTreeifiedBins() {
+        return treeifiedBins;
+    }
+
+    public double getChainedHitProbes() {
+        return chainedHitProbes;
+    }
+
+    public double getChainedMissProbes() {
+        return chainedMissProbes;
+    }
+
+    public int getOpenAddressingCapacity() {
+        return openAddressingCapacity;
+    }
+
+    public double getOpenAddressingHitProbes() {
+        return openAddressingHitProbes;
+    }
+
+    public double getOpenAddressingMissProbes() {
+        return openAddressingMissProbes;
+    }
+
+    // What a uniformly random hash would give at this load: 1 + a/2 per hit, a per miss
+    public double getIdealChainedHitProbes() {
+        return 1 + entryCount / (2.0 * capacity);
+    }
+
+    public double getIdealChainedMissProbes() {
+        return entryCount / (double) capacity;
+    }
+
+    // Knuth's estimates for linear probing: (1 + 1/(1-a)) / 2 per hit, (1 + 1/(1-a)^2) / 2 per miss
+    public double getIdealOpenAddressingHitProbes() {
+        double a = entryCount / (double) openAddressingCapacity;
+        return (1 + 1 / (1 - a)) / 2;
+    }
+
+    public double getIdealOpenAddressingMissProbes() {
+        double a = entryCount / (double) openAddressingCapacity;
+        return (1 + 1 / ((1 - a) * (1 - a))) / 2;
+    }
+
+    // Signs of a hashCode() that distributes badly; empty if none
+    public List<String> problems() {
+        List<String> problems = new ArrayList<>();
+        // 32-bit hashes of a million random keys collide only about a hundred times
+        if (distinctHashCodes < entryCount - Math.max(1, entryCount / 1000)) {
+            problems.add(String.format(Locale.ROOT, "only %d distinct hash codes for %d keys",
+                    distinctHashCodes, entryCount));
+        }
+        if (treeifiedBins > 0) {
+            problems.add(treeifiedBins + " bins would treeify");
+        }
+        if (chainedHitProbes > 2 * getIdealChainedHitProbes()) {
+            problems.add(String.format(Locale.ROOT, "%.2f comparisons per hit, %.2f expected for a uniform hash",
+                    chainedHitProbes, getIdealChainedHitProbes()));
+        }
+        if (openAddressingHitProbes > 2 * getIdealOpenAddressingHitProbes()) {
+            problems.add(String.format(Locale.ROOT, "%.2f linear probes per hit, %.2f expected for a uniform hash",
+                    openAddressingHitProbes, getIdealOpenAddressingHitProbes()));
+        }
+        return problems;
+    }
+
+    public String report() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "%d keys, %d distinct hash codes, %d buckets (load factor %.2f)%n",
+                entryCount, distinctHashCodes, capacity, loadFactor));
+        sb.append("Bucket occupancy:\n");
+        for (int k = 0; k < histogram.length; k++) {
+            if (histogram[k] > 0) {
+                sb.append(String.format(Locale.ROOT, "  %4d entries: %d buckets%n", k, histogram[k]));
+            }
+        }
+        sb.append(String.format(Locale.ROOT, "Longest chain %d, treeified bins %d%n", getLongestChain(), treeifiedBins));
+        sb.append(String.format(Locale.ROOT, "Chained:        %.2f probes/hit (ideal %.2f), %.2f probes/miss (ideal %.2f)%n",
+                chainedHitProbes, getIdealChainedHitProbes(), chainedMissProbes, getIdealChainedMissProbes()));
+        sb.append(String.format(Locale.ROOT, "Open-addressed: %.2f probes/hit (ideal %.2f), %.2f probes/miss (ideal %.2f), %d slots%n",
+                openAddressingHitProbes, getIdealOpenAddressingHitProbes(),
+                openAddressingMissProbes, getIdealOpenAddressingMissProbes(), openAddressingCapacity));
+        List<String> problems = problems();
+        sb.append(problems.isEmpty() ? "No distribution problems found\n" : "Problems:\n");
+        for (String problem : problems) {
+            sb.append("  ").append(problem).append('\n');
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%d keys in %d buckets: longest chain %d, %d treeified, %.2f probes/hit",
+                entryCount, capacity, getLongestChain(), treeifiedBins, chainedHitProbes);
+    }
+}
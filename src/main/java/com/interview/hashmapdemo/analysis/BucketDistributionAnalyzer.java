@@ -0,0 +1,228 @@
+package com.interview.hashmapdemo.analysis;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+// Shows how a set of keys would spread over HashMap's buckets without timing anything.
+// It replays HashMap's own rules for each key in order: spread (h ^ h >>> 16), power
+// of two tables that double once size exceeds capacity * loadFactor, bins that turn
+// into trees when they get a ninth entry, and tables under 64 buckets that resize
+// instead of treeifying. It then lays the same keys out with linear probing, to see
+// what an open-addressing map would pay for them.
+//
+// Run it on a dump of production keys to catch a bad hashCode() before it costs CPU:
+//
+// Usage: BucketDistributionAnalyzer <keys.txt> [--capacity 16] [--load-factor 0.75]
+//        (one String key per line)
+public class BucketDistributionAnalyzer {
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    // The same thresholds as java.util.HashMap
+    private static final int TREEIFY_THRESHOLD = 8;
+    private static final int UNTREEIFY_THRESHOLD = 6;
+    private static final int MIN_TREEIFY_CAPACITY = 64;
+    // Load factor of the open-addressed layout, as RobinHoodHashMap's default
+    private static final float OPEN_ADDRESSING_LOAD_FACTOR = 0.75f;
+
+    private BucketDistributionAnalyzer() {
+    }
+
+    // Keys are replayed in iteration order, not the order they were put in. The final
+    // table matches, but whether a bin treeified while the table was under 64 buckets
+    // can depend on insertion order, so small maps may show fewer tree bins than they have.
+    public static BucketDistribution analyze(Map<?, ?> map) {
+        return analyze(map.keySet());
+    }
+
+    // As a HashMap built with the no-argument constructor and filled one key at a time
+    public static BucketDistribution analyze(Collection<?> keys) {
+        return analyze(keys, DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    public static BucketDistribution analyze(Collection<?> keys, int initialCapacity, float loadFactor) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
+        }
+        if (loadFactor <= 0 || Float.isNaN(loadFactor)) {
+            throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+        }
+        // A key dump may repeat keys; a map holds each once
+        Collection<?> distinct = keys instanceof Set ? keys : new LinkedHashSet<>(keys);
+        int[] hashes = new int[distinct.size()];
+        Set<Integer> hashCodes = new HashSet<>();
+        int n = 0;
+        for (Object key : distinct) {
+            int h = key == null ? 0 : key.hashCode();
+            hashCodes.add(h);
+            hashes[n++] = h ^ (h >>> 16);
+        }
+
+        ChainedTable table = new ChainedTable(tableSizeFor(initialCapacity), loadFactor);
+        for (int i = 0; i < n; i++) {
+            table.add(hashes, i);
+        }
+        int capacity = table.counts.length;
+
+        int longest = 0;
+        int treeified = 0;
+        long hitProbes = 0;
+        long missProbes = 0;
+        for (int bucket = 0; bucket < capacity; bucket++) {
+            int count = table.counts[bucket];
+            longest = Math.max(longest, count);
+            if (table.trees[bucket]) {
+                treeified++;
+                for (int i = 1; i <= count; i++) {
+                    hitProbes += treeDepth(i);
+                }
+                missProbes += treeDepth(count);
+            } else {
+                // The i-th node of a list is found after i comparisons; a miss compares them all
+                hitProbes += (long) count * (count + 1) / 2;
+                missProbes += count;
+            }
+        }
+        long[] histogram = new long[longest + 1];
+        for (int count : table.counts) {
+            histogram[count]++;
+        }
+
+        int openCapacity = capacity;
+        while (n > openCapacity * OPEN_ADDRESSING_LOAD_FACTOR && openCapacity < MAXIMUM_CAPACITY) {
+            openCapacity <<= 1;
+        }
+        if (n >= openCapacity) {
+            throw new IllegalArgumentException("Too many keys for an open-addressed table: " + n);
+        }
+        long[] openProbes = linearProbing(hashes, n, openCapacity);
+
+        return new BucketDistribution(n, hashCodes.size(), capacity, loadFactor, histogram, treeified,
+                n == 0 ? 0 : (double) hitProbes / n, (double) missProbes / capacity,
+                openCapacity, n == 0 ? 0 : (double) openProbes[0] / n, (double) openProbes[1] / openCapacity);
+    }
+
+    static int tableSizeFor(int capacity) {
+        int n = -1 >>> Integer.numberOfLeadingZeros(Math.max(capacity, 1) - 1);
+        return n < 0 ? 1 : n >= MAXIMUM_CAPACITY ? MAXIMUM_CAPACITY : n + 1;
+    }
+
+    // Comparisons to reach the i-th node of a balanced tree, about what a red-black bin costs
+    private static int treeDepth(int i) {
+        return 32 - Integer.numberOfLeadingZeros(i);
+    }
+
+    // Bucket counts and tree flags of a HashMap, updated as it would be on each put
+    private static final class ChainedTable {
+        final float loadFactor;
+        int[] counts;
+        boolean[] trees;
+        int threshold;
+
+        ChainedTable(int capacity, float loadFactor) {
+            this.loadFactor = loadFactor;
+            allocate(capacity);
+        }
+
+        private void allocate(int capacity) {
+            counts = new int[capacity];
+            trees = new boolean[capacity];
+            threshold = capacity == MAXIMUM_CAPACITY ? Integer.MAX_VALUE : (int) (capacity * loadFactor);
+        }
+
+        // Adds hashes[index], given that hashes[0 .. index - 1] are already in the table
+        void add(int[] hashes, int index) {
+            int bucket = hashes[index] & (counts.length - 1);
+            int count = ++counts[bucket];
+            if (!trees[bucket] && count > TREEIFY_THRESHOLD) {
+                if (counts.length < MIN_TREEIFY_CAPACITY) {
+                    resize(hashes, index + 1);
+                } else {
+                    trees[bucket] = true;
+                }
+            }
+            if (index + 1 > threshold) {
+                resize(hashes, index + 1);
+            }
+        }
+
+        // Splits every bin in two; a split tree bin with few enough nodes reverts to a list
+        private void resize(int[] hashes, int size) {
+            if (counts.length == MAXIMUM_CAPACITY) {
+                return;
+            }
+            boolean[] oldTrees = trees;
+            int oldMask = counts.length - 1;
+            allocate(counts.length << 1);
+            int mask = counts.length - 1;
+            for (int i = 0; i < size; i++) {
+                counts[hashes[i] & mask]++;
+            }
+            for (int bucket = 0; bucket < counts.length; bucket++) {
+                trees[bucket] = oldTrees[bucket & oldMask] && counts[bucket] > UNTREEIFY_THRESHOLD;
+            }
+        }
+    }
+
+    // Probes (slots read) per hit and summed over a miss starting at every slot, for
+    // linear probing in insertion order with HashMap's spread hash
+    private static long[] linearProbing(int[] hashes, int n, int capacity) {
+        int mask = capacity - 1;
+        boolean[] occupied = new boolean[capacity];
+        long hitProbes = 0;
+        for (int i = 0; i < n; i++) {
+            int slot = hashes[i] & mask;
+            int probes = 1;
+            while (occupied[slot]) {
+                slot = (slot + 1) & mask;
+                probes++;
+            }
+            occupied[slot] = true;
+            hitProbes += probes;
+        }
+        // A miss reads every slot up to and including the next empty one. Walking
+        // backwards from an empty slot, that cost grows by one per occupied slot.
+        long missProbes = 0;
+        int start = 0;
+        while (occupied[start]) {
+            start++;
+        }
+        int run = 0;
+        for (int step = 0; step < capacity; step++) {
+            int slot = (start - step) & mask;
+            run = occupied[slot] ? run + 1 : 0;
+            missProbes += run + 1;
+        }
+        return new long[]{hitProbes, missProbes};
+    }
+
+    private static final String USAGE = "Usage: BucketDistributionAnalyzer <keys.txt> [--capacity 16] [--load-factor 0.75]";
+    private static final Set<String> OPTIONS = Set.of("--capacity", "--load-factor");
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0 || args[0].startsWith("--")) {
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+        Map<String, String> options = new HashMap<>();
+        for (int i = 1; i < args.length; i += 2) {
+            // An unknown option or one without a value would otherwise be dropped silently
+            if (!OPTIONS.contains(args[i]) || i + 1 == args.length) {
+                System.err.println((OPTIONS.contains(args[i]) ? "Missing value for " : "Unknown argument: ") + args[i]);
+                System.err.println(USAGE);
+                System.exit(1);
+            }
+            options.put(args[i], args[i + 1]);
+        }
+        int capacity = Integer.parseInt(options.getOrDefault("--capacity", "16"));
+        float loadFactor = Float.parseFloat(options.getOrDefault("--load-factor", "0.75"));
+        Path path = Paths.get(args[0]);
+        List<String> keys = Files.readAllLines(path, StandardCharsets.UTF_8);
+        System.out.println(path + ": " + keys.size() + " lines");
+        System.out.print(analyze(keys, capacity, loadFactor).report());
+    }
+}
@@ -0,0 +1,233 @@
+package com.interview.hashmapdemo.analysis;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+// Runs HashMap over a grid of initial capacities and load factors for several entry
+// counts and key types, and reports which configurations sit on the Pareto frontier of
+// retained heap per entry, insert throughput and lookup throughput. Unlike the single
+// (initialCapacity, loadFactor) pair in LoadFactorProblem, this gives a data-driven
+// choice for each cache instead of always using 0.75.
+//
+// Usage: LoadFactorSweep [--capacities 16,4096] [--load-factors 0.5,0.75,0.9]
+//                        [--entries 10000,1000000] [--key-types INTEGER,STRING]
+//                        [--rounds 5] [--out sweep]
+public class LoadFactorSweep {
+    public enum KeyType {
+        INTEGER {
+            @Override
+            Object key(int i) {
+                return i;
+            }
+        },
+        STRING {
+            @Override
+            Object key(int i) {
+                return "key" + i;
+            }
+        };
+
+        abstract Object key(int i);
+    }
+
+    // Shared by every entry so the heap figures only count the map's own structure
+    private static final Object VALUE = new Object();
+
+    private final int[] capacities;
+    private final float[] loadFactors;
+    private final int[] entryCounts;
+    private final List<KeyType> keyTypes;
+    private final int rounds;
+
+    public LoadFactorSweep(int[] capacities, float[] loadFactors, int[] entryCounts,
+                           List<KeyType> keyTypes, int rounds) {
+        if (rounds < 1) {
+            throw new IllegalArgumentException("Illegal number of rounds: " + rounds);
+        }
+        this.capacities = capacities.clone();
+        this.loadFactors = loadFactors.clone();
+        this.entryCounts = entryCounts.clone();
+        this.keyTypes = new ArrayList<>(keyTypes);
+        this.rounds = rounds;
+    }
+
+    public List<SweepResult> run() {
+        List<SweepResult> results = new ArrayList<>();
+        // Throwaway measurement: the first one also picks up one-off JVM warm-up allocations
+        RetainedHeap.measure(() -> populate(new Object[]{1}, 16, 0.75f));
+        for (KeyType keyType : keyTypes) {
+            for (int entryCount : entryCounts) {
+                Object[] keys = new Object[entryCount];
+                for (int i = 0; i < entryCount; i++) {
+                    keys[i] = keyType.key(i);
+                }
+                for (int capacity : capacities) {
+                    for (float loadFactor : loadFactors) {
+                        results.add(measure(keyType, keys, capacity, loadFactor));
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    private SweepResult measure(KeyType keyType, Object[] keys, int capacity, float loadFactor) {
+        long bytes = RetainedHeap.measure(() -> populate(keys, capacity, loadFactor));
+
+        // The first round of each measurement is warm-up; the best later round is kept
+        // because noise (GC, JIT, other processes) only ever makes a round slower
+        long bestInsertNanos = Long.MAX_VALUE;
+        HashMap<Object, Object> map = null;
+        for (int round = 0; round <= rounds; round++) {
+            long start = System.nanoTime();
+            map = populate(keys, capacity, loadFactor);
+            long elapsed = System.nanoTime() - start;
+            if (round > 0) {
+                bestInsertNanos = Math.min(bestInsertNanos, elapsed);
+            }
+        }
+        long bestLookupNanos = Long.MAX_VALUE;
+        int found = 0;
+        for (int round = 0; round <= rounds; round++) {
+            long start = System.nanoTime();
+            for (Object key : keys) {
+                if (map.get(key) != null) {
+                    found++;
+                }
+            }
+            long elapsed = System.nanoTime() - start;
+            if (round > 0) {
+                bestLookupNanos = Math.min(bestLookupNanos, elapsed);
+            }
+        }
+        if (found != keys.length * (rounds + 1)) {
+            throw new IllegalStateException("Lookups missed entries");
+        }
+        return new SweepResult(keyType.name(), keys.length, capacity, loadFactor,
+                (double) bytes / keys.length,
+                keys.length * 1e9 / Math.max(1, bestInsertNanos),
+                keys.length * 1e9 / Math.max(1, bestLookupNanos));
+    }
+
+    private static HashMap<Object, Object> populate(Object[] keys, int capacity, float loadFactor) {
+        HashMap<Object, Object> map = new HashMap<>(capacity, loadFactor);
+        for (Object key : keys) {
+            map.put(key, VALUE);
+        }
+        return map;
+    }
+
+    // Points not dominated by any other point measured for the same key type and entry count
+    public static List<SweepResult> paretoFrontier(List<SweepResult> results) {
+        List<SweepResult> frontier = new ArrayList<>();
+        for (SweepResult candidate : results) {
+            boolean dominated = false;
+            for (SweepResult other : results) {
+                if (other != candidate
+                        && other.getKeyType().equals(candidate.getKeyType())
+                        && other.getEntryCount() == candidate.getEntryCount()
+                        && candidate.isDominatedBy(other)) {
+                    dominated = true;
+                    break;
+                }
+            }
+            if (!dominated) {
+                frontier.add(candidate);
+            }
+        }
+        return frontier;
+    }
+
+    public static void writeCsv(List<SweepResult> results, Writer out) {
+        Set<SweepResult> frontier = Collections.newSetFromMap(new IdentityHashMap<>());
+        frontier.addAll(paretoFrontier(results));
+        PrintWriter writer = new PrintWriter(out);
+        writer.println("keyType,entryCount,initialCapacity,loadFactor,bytesPerEntry,insertOpsPerSecond,lookupOpsPerSecond,paretoOptimal");
+        for (SweepResult r : results) {
+            writer.printf(Locale.ROOT, "%s,%d,%d,%.2f,%.1f,%.0f,%.0f,%b%n",
+                    r.getKeyType(), r.getEntryCount(), r.getInitialCapacity(), r.getLoadFactor(),
+                    r.getBytesPerEntry(), r.getInsertOpsPerSecond(), r.getLookupOpsPerSecond(),
+                    frontier.contains(r));
+        }
+        writer.flush();
+    }
+
+    public static void writeHtml(List<SweepResult> results, Writer out) {
+        Set<SweepResult> frontier = Collections.newSetFromMap(new IdentityHashMap<>());
+        frontier.addAll(paretoFrontier(results));
+        PrintWriter writer = new PrintWriter(out);
+        writer.println("<!DOCTYPE html>");
+        writer.println("<html><head><meta charset=\"utf-8\"><title>HashMap load factor sweep</title>");
+        writer.println("<style>table{border-collapse:collapse}td,th{padding:4px 8px;border:1px solid #ccc;text-align:right}"
+                + "tr.frontier{background:#d4f7d4;font-weight:bold}</style></head><body>");
+        writer.println("<h1>HashMap load factor sweep</h1>");
+        writer.println("<p>Highlighted rows are on the Pareto frontier: no other configuration for the same key type "
+                + "and entry count uses less memory while being at least as fast for inserts and lookups.</p>");
+        writer.println("<table><tr><th>Key type</th><th>Entries</th><th>Initial capacity</th><th>Load factor</th>"
+                + "<th>Bytes/entry</th><th>Inserts/s</th><th>Lookups/s</th></tr>");
+        for (SweepResult r : results) {
+            writer.printf(Locale.ROOT, "<tr%s><td>%s</td><td>%d</td><td>%d</td><td>%.2f</td><td>%.1f</td><td>%.0f</td><td>%.0f</td></tr>%n",
+                    frontier.contains(r) ? " class=\"frontier\"" : "",
+                    r.getKeyType(), r.getEntryCount(), r.getInitialCapacity(), r.getLoadFactor(),
+                    r.getBytesPerEntry(), r.getInsertOpsPerSecond(), r.getLookupOpsPerSecond());
+        }
+        writer.println("</table></body></html>");
+        writer.flush();
+    }
+
+    private static final String USAGE = "Usage: LoadFactorSweep [--capacities 16,4096] [--load-factors 0.5,0.75,0.9]\n"
+            + "                       [--entries 10000,1000000] [--key-types INTEGER,STRING]\n"
+            + "                       [--rounds 5] [--out sweep]";
+    private static final Set<String> OPTIONS = Set.of(
+            "--capacities", "--load-factors", "--entries", "--key-types", "--rounds", "--out");
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i += 2) {
+            // An unknown option or one without a value would otherwise be dropped silently
+            if (!OPTIONS.contains(args[i]) || i + 1 == args.length) {
+                System.err.println((OPTIONS.contains(args[i]) ? "Missing value for " : "Unknown argument: ") + args[i]);
+                System.err.println(USAGE);
+                System.exit(1);
+            }
+            options.put(args[i], args[i + 1]);
+        }
+        String[] capacityValues = options.getOrDefault("--capacities", "16,4096,1048576").split(",");
+        String[] loadFactorValues = options.getOrDefault("--load-factors", "0.5,0.6,0.75,0.9,1.0").split(",");
+        String[] entryValues = options.getOrDefault("--entries", "10000,1000000").split(",");
+        String[] keyTypeValues = options.getOrDefault("--key-types", "INTEGER,STRING").split(",");
+        int rounds = Integer.parseInt(options.getOrDefault("--rounds", "5"));
+        String out = options.getOrDefault("--out", "sweep");
+
+        int[] capacities = Arrays.stream(capacityValues).mapToInt(Integer::parseInt).toArray();
+        float[] loadFactors = new float[loadFactorValues.length];
+        for (int i = 0; i < loadFactorValues.length; i++) {
+            loadFactors[i] = Float.parseFloat(loadFactorValues[i]);
+        }
+        int[] entryCounts = Arrays.stream(entryValues).mapToInt(Integer::parseInt).toArray();
+        List<KeyType> keyTypes = new ArrayList<>();
+        for (String keyType : keyTypeValues) {
+            keyTypes.add(KeyType.valueOf(keyType.trim().toUpperCase(Locale.ROOT)));
+        }
+
+        List<SweepResult> results = new LoadFactorSweep(capacities, loadFactors, entryCounts, keyTypes, rounds).run();
+        Path csv = Paths.get(out + ".csv");
+        Path html = Paths.get(out + ".html");
+        try (Writer writer = Files.newBufferedWriter(csv)) {
+            writeCsv(results, writer);
+        }
+        try (Writer writer = Files.newBufferedWriter(html)) {
+            writeHtml(results, writer);
+        }
+        System.out.println("Pareto frontier:");
+        for (SweepResult result : paretoFrontier(results)) {
+            System.out.println("  " + result);
+        }
+        System.out.println("Wrote " + csv + " and " + html);
+    }
+}
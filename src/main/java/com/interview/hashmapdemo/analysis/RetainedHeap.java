@@ -0,0 +1,43 @@
+package com.interview.hashmapdemo.analysis;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.util.function.Supplier;
+
+// Estimates how many heap bytes an object graph retains: build it, collect until used
+// heap settles, drop it and collect again. Measuring the release rather than the
+// allocation keeps garbage left over from earlier work out of the figure. Much
+// steadier than a single Runtime.freeMemory() delta, but still an estimate: run it on
+// an otherwise idle JVM.
+public final class RetainedHeap {
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+    private static final int MAX_GC_ROUNDS = 10;
+
+    private RetainedHeap() {
+    }
+
+    public static long measure(Supplier<?> builder) {
+        settledHeapUsed();
+        Object[] holder = {builder.get()};
+        long withGraph = settledHeapUsed();
+        Reference.reachabilityFence(holder);
+        holder[0] = null;
+        long withoutGraph = settledHeapUsed();
+        return Math.max(0, withGraph - withoutGraph);
+    }
+
+    // Collects until used heap stops shrinking
+    private static long settledHeapUsed() {
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < MAX_GC_ROUNDS; i++) {
+            System.gc();
+            long current = MEMORY.getHeapMemoryUsage().getUsed();
+            if (current >= used) {
+                return current;
+            }
+            used = current;
+        }
+        return used;
+    }
+}
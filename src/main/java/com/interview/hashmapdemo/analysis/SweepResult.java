@@ -0,0 +1,68 @@
+package com.interview.hashmapdemo.analysis;
+
+// One (key type, entry count, initial capacity, load factor) point measured by LoadFactorSweep
+public class SweepResult {
+    private final String keyType;
+    private final int entryCount;
+    private final int initialCapacity;
+    private final float loadFactor;
+    private final double bytesPerEntry;
+    private final double insertOpsPerSecond;
+    private final double lookupOpsPerSecond;
+
+    public SweepResult(String keyType, int entryCount, int initialCapacity, float loadFactor,
+                       double bytesPerEntry, double insertOpsPerSecond, double lookupOpsPerSecond) {
+        this.keyType = keyType;
+        this.entryCount = entryCount;
+        this.initialCapacity = initialCapacity;
+        this.loadFactor = loadFactor;
+        this.bytesPerEntry = bytesPerEntry;
+        this.insertOpsPerSecond = insertOpsPerSecond;
+        this.lookupOpsPerSecond = lookupOpsPerSecond;
+    }
+
+    public String getKeyType() {
+        return keyType;
+    }
+
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    public int getInitialCapacity() {
+        return initialCapacity;
+    }
+
+    public float getLoadFactor() {
+        return loadFactor;
+    }
+
+    public double getBytesPerEntry() {
+        return bytesPerEntry;
+    }
+
+    public double getInsertOpsPerSecond() {
+        return insertOpsPerSecond;
+    }
+
+    public double getLookupOpsPerSecond() {
+        return lookupOpsPerSecond;
+    }
+
+    // True if other is at least as good on every axis and strictly better on one
+    public boolean isDominatedBy(SweepResult other) {
+        boolean noWorse = other.bytesPerEntry <= bytesPerEntry
+                && other.insertOpsPerSecond >= insertOpsPerSecond
+                && other.lookupOpsPerSecond >= lookupOpsPerSecond;
+        boolean better = other.bytesPerEntry < bytesPerEntry
+                || other.insertOpsPerSecond > insertOpsPerSecond
+                || other.lookupOpsPerSecond > lookupOpsPerSecond;
+        return noWorse && better;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s x %d, capacity %d, load factor %.2f: %.1f B/entry, %.0f inserts/s, %.0f lookups/s",
+                keyType, entryCount, initialCapacity, loadFactor, bytesPerEntry, insertOpsPerSecond, lookupOpsPerSecond);
+    }
+}
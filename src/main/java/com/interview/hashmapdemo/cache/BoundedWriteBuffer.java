@@ -0,0 +1,51 @@
+package com.interview.hashmapdemo.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Lock-free multi-producer, single-consumer ring of fixed capacity used by TinyLfuCache
+// to hand writes to the eviction policy. Unlike the read buffers nothing is dropped:
+// offer fails when the ring is full and the caller has to drain it first.
+final class BoundedWriteBuffer<E> {
+    private final AtomicReferenceArray<E> buffer;
+    private final int mask;
+    private final AtomicLong readCounter = new AtomicLong();
+    private final AtomicLong writeCounter = new AtomicLong();
+
+    BoundedWriteBuffer(int capacity) {
+        int size = Math.max(Integer.highestOneBit(capacity - 1) << 1, 2);
+        buffer = new AtomicReferenceArray<>(size);
+        mask = size - 1;
+    }
+
+    boolean offer(E e) {
+        while (true) {
+            long head = readCounter.get();
+            long tail = writeCounter.get();
+            if (tail - head >= buffer.length()) {
+                return false;
+            }
+            if (writeCounter.compareAndSet(tail, tail + 1)) {
+                buffer.lazySet((int) (tail & mask), e);
+                return true;
+            }
+        }
+    }
+
+    // Single consumer. Returns null when empty or when the next producer has claimed
+    // its slot but not yet published, so the caller simply retries on its next drain.
+    E poll() {
+        long head = readCounter.get();
+        int index = (int) (head & mask);
+        E e = buffer.get(index);
+        if (e != null) {
+            buffer.lazySet(index, null);
+            readCounter.lazySet(head + 1);
+        }
+        return e;
+    }
+
+    int size() {
+        return (int) (writeCounter.get() - readCounter.get());
+    }
+}
@@ -0,0 +1,181 @@
+package com.interview.hashmapdemo.cache;
+
+import java.util.*;
+import java.util.function.Function;
+
+// Size-bounded LRU cache on top of the access-ordered LinkedHashMap from KeyOrderingProblem.
+// The entry bound is enforced by removeEldestEntry; an optional weight bound evicts
+// further from the least recently used end. Every operation takes the cache's monitor,
+// because even a get reorders the LinkedHashMap.
+public class LruCache<K, V> {
+    @FunctionalInterface
+    public interface Weigher<K, V> {
+        int weigh(K key, V value);
+    }
+
+    // Keeps each entry's weight so eviction never has to call the weigher again
+    private static final class Weighted<V> {
+        final V value;
+        final int weight;
+
+        Weighted(V value, int weight) {
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+
+    private final int maxEntries;
+    private final long maxWeight;
+    private final Weigher<? super K, ? super V> weigher;
+    private final LinkedHashMap<K, Weighted<V>> map;
+    private long totalWeight;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    public LruCache(int maxEntries) {
+        this(maxEntries, Long.MAX_VALUE, (key, value) -> 1);
+    }
+
+    public LruCache(int maxEntries, long maxWeight, Weigher<? super K, ? super V> weigher) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Illegal maximum entries: " + maxEntries);
+        }
+        if (maxWeight < 0) {
+            throw new IllegalArgumentException("Illegal maximum weight: " + maxWeight);
+        }
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+        this.weigher = Objects.requireNonNull(weigher);
+        int initialCapacity = (int) Math.min(maxEntries / 0.75f + 1, 1 << 16);
+        this.map = new LinkedHashMap<K, Weighted<V>>(initialCapacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Weighted<V>> eldest) {
+                if (size() > LruCache.this.maxEntries) {
+                    onEvict(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    private void onEvict(Weighted<V> evicted) {
+        totalWeight -= evicted.weight;
+        evictionCount++;
+    }
+
+    public synchronized V get(K key) {
+        Weighted<V> weighted = map.get(key);
+        if (weighted == null) {
+            missCount++;
+            return null;
+        }
+        hitCount++;
+        return weighted.value;
+    }
+
+    // Looks up all keys under a single lock acquisition; absent keys are left out of the result
+    public Map<K, V> getAll(Iterable<? extends K> keys) {
+        Map<K, V> result = new LinkedHashMap<>();
+        lookupAll(keys, result);
+        return result;
+    }
+
+    // Like getAll(keys), but loads every missing key with one call to bulkLoader and caches
+    // the results. The loader runs without holding the lock.
+    public Map<K, V> getAll(Iterable<? extends K> keys, Function<? super Set<K>, ? extends Map<K, V>> bulkLoader) {
+        Map<K, V> result = new LinkedHashMap<>();
+        Set<K> missing = lookupAll(keys, result);
+        if (missing.isEmpty()) {
+            return result;
+        }
+        Map<K, V> loaded = bulkLoader.apply(Collections.unmodifiableSet(missing));
+        synchronized (this) {
+            for (Map.Entry<K, V> entry : loaded.entrySet()) {
+                put(entry.getKey(), entry.getValue());
+            }
+        }
+        for (K key : missing) {
+            V value = loaded.get(key);
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
+    // Copies hits into result and returns the keys that missed
+    private synchronized Set<K> lookupAll(Iterable<? extends K> keys, Map<K, V> result) {
+        Set<K> missing = Collections.emptySet();
+        for (K key : keys) {
+            Weighted<V> weighted = map.get(key);
+            if (weighted != null) {
+                hitCount++;
+                result.put(key, weighted.value);
+            } else {
+                missCount++;
+                if (missing.isEmpty()) {
+                    missing = new LinkedHashSet<>();
+                }
+                missing.add(key);
+            }
+        }
+        return missing;
+    }
+
+    public synchronized V put(K key, V value) {
+        Objects.requireNonNull(value, "LruCache does not allow null values");
+        int weight = weigher.weigh(key, value);
+        if (weight < 0) {
+            throw new IllegalArgumentException("Negative weight " + weight + " for key " + key);
+        }
+        Weighted<V> previous = map.put(key, new Weighted<>(value, weight));
+        totalWeight += weight;
+        if (previous != null) {
+            totalWeight -= previous.weight;
+        }
+        evictToWeight();
+        return previous == null ? null : previous.value;
+    }
+
+    // removeEldestEntry can only drop one entry per put, so the weight bound is enforced here
+    private void evictToWeight() {
+        Iterator<Weighted<V>> eldest = map.values().iterator();
+        while (totalWeight > maxWeight && eldest.hasNext()) {
+            onEvict(eldest.next());
+            eldest.remove();
+        }
+    }
+
+    public synchronized V remove(K key) {
+        Weighted<V> removed = map.remove(key);
+        if (removed == null) {
+            return null;
+        }
+        totalWeight -= removed.weight;
+        return removed.value;
+    }
+
+    public synchronized void clear() {
+        map.clear();
+        totalWeight = 0;
+    }
+
+    public synchronized int size() {
+        return map.size();
+    }
+
+    public synchronized long weightedSize() {
+        return totalWeight;
+    }
+
+    public synchronized CacheStats stats() {
+        return new CacheStats(hitCount, missCount, evictionCount);
+    }
+
+    // Keys from least to most recently used
+    public synchronized List<K> keysInAccessOrder() {
+        return new ArrayList<>(map.keySet());
+    }
+}
@@ -0,0 +1,79 @@
+package com.interview.hashmapdemo.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+// Lossy multi-producer, single-consumer buffers used to record cache reads without
+// locking. Threads are spread over stripes by thread id; when a stripe is full or a
+// CAS is lost the read is simply dropped, since the eviction policy only needs a
+// representative sample of accesses.
+final class StripedReadBuffer<E> {
+    static final int SUCCESS = 0;
+    static final int FAILED = 1;
+    static final int FULL = 2;
+
+    private static final int BUFFER_SIZE = 64;
+    private static final int BUFFER_MASK = BUFFER_SIZE - 1;
+
+    private static final class RingBuffer<E> {
+        private final AtomicReferenceArray<E> buffer = new AtomicReferenceArray<>(BUFFER_SIZE);
+        private final AtomicLong readCounter = new AtomicLong();
+        private final AtomicLong writeCounter = new AtomicLong();
+
+        int offer(E e) {
+            long head = readCounter.get();
+            long tail = writeCounter.get();
+            if (tail - head >= BUFFER_SIZE) {
+                return FULL;
+            }
+            if (writeCounter.compareAndSet(tail, tail + 1)) {
+                buffer.lazySet((int) (tail & BUFFER_MASK), e);
+                return SUCCESS;
+            }
+            return FAILED;
+        }
+
+        // Single consumer: only called while holding the cache's eviction lock
+        void drainTo(Consumer<E> consumer) {
+            long head = readCounter.get();
+            long tail = writeCounter.get();
+            for (; head != tail; head++) {
+                int index = (int) (head & BUFFER_MASK);
+                E e = buffer.get(index);
+                if (e == null) {
+                    // The producer won the CAS but has not published yet; pick it up next time
+                    break;
+                }
+                buffer.lazySet(index, null);
+                consumer.accept(e);
+            }
+            readCounter.lazySet(head);
+        }
+    }
+
+    private final RingBuffer<E>[] stripes;
+    private final int stripeMask;
+
+    @SuppressWarnings("unchecked")
+    StripedReadBuffer() {
+        int stripes = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1) << 1;
+        this.stripes = (RingBuffer<E>[]) new RingBuffer<?>[Math.max(stripes, 1)];
+        for (int i = 0; i < this.stripes.length; i++) {
+            this.stripes[i] = new RingBuffer<>();
+        }
+        this.stripeMask = this.stripes.length - 1;
+    }
+
+    int offer(E e) {
+        long id = Thread.currentThread().getId();
+        int probe = (int) (id * 0x9E3779B97F4A7C15L >>> 32);
+        return stripes[probe & stripeMask].offer(e);
+    }
+
+    void drainTo(Consumer<E> consumer) {
+        for (RingBuffer<E> stripe : stripes) {
+            stripe.drainTo(consumer);
+        }
+    }
+}
@@ -0,0 +1,395 @@
+package com.interview.hashmapdemo.cache;
+
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Concurrent bounded cache using the W-TinyLFU policy. Entries live in a ConcurrentHashMap,
+// so a get is a plain map lookup; unlike LruCache nothing is reordered on the caller's
+// thread. Accesses are recorded in lossy striped read buffers and writes in a bounded
+// write buffer, and both are replayed against the eviction policy by whichever thread
+// holds the eviction lock, normally a task submitted to the executor.
+//
+// The policy keeps a small LRU admission window (1% of the maximum) in front of a
+// segmented LRU main area split into probation (20%) and protected (80%). When the
+// window overflows, its oldest entry only displaces the probation victim if a
+// frequency sketch says it has been requested more often, so one-hit wonders from a
+// scan cannot flush the popular entries the way they do in plain LRU.
+//
+// The size bound is enforced when the buffers drain, which happens once a batch of
+// writes has queued up, so the cache can hold up to that many extra entries between
+// drains. cleanUp() drains and evicts on the calling thread.
+public class TinyLfuCache<K, V> {
+    private static final int WRITE_BUFFER_CAPACITY = 1024;
+    // Writes are handed to the executor in batches; one handoff per write costs a
+    // thread wake-up each time and would dominate the miss path
+    private static final int WRITE_BUFFER_DRAIN_THRESHOLD = 64;
+
+    private static final int NONE = 0;
+    private static final int WINDOW = 1;
+    private static final int PROBATION = 2;
+    private static final int PROTECTED = 3;
+
+    private static final class Node<K, V> {
+        final K key;
+        volatile V value;
+        // Set once the node has left the map; the policy then ignores buffered events for it
+        volatile boolean retired;
+        // Guarded by the eviction lock
+        Node<K, V> previous;
+        Node<K, V> next;
+        int queue = NONE;
+
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    // Intrusive doubly linked list from least to most recently used; guarded by the eviction lock
+    private static final class AccessOrderDeque<K, V> {
+        private Node<K, V> first;
+        private Node<K, V> last;
+        private long size;
+
+        Node<K, V> peekFirst() {
+            return first;
+        }
+
+        Node<K, V> peekLast() {
+            return last;
+        }
+
+        void addLast(Node<K, V> node) {
+            node.previous = last;
+            node.next = null;
+            if (last == null) {
+                first = node;
+            } else {
+                last.next = node;
+            }
+            last = node;
+            size++;
+        }
+
+        void unlink(Node<K, V> node) {
+            if (node.previous == null) {
+                first = node.next;
+            } else {
+                node.previous.next = node.next;
+            }
+            if (node.next == null) {
+                last = node.previous;
+            } else {
+                node.next.previous = node.previous;
+            }
+            node.previous = null;
+            node.next = null;
+            size--;
+        }
+
+        void moveToBack(Node<K, V> node) {
+            if (node != last) {
+                unlink(node);
+                addLast(node);
+            }
+        }
+
+        long size() {
+            return size;
+        }
+    }
+
+    private final long maximumSize;
+    private final long windowMaximum;
+    private final long protectedMaximum;
+    private final ConcurrentHashMap<K, Node<K, V>> data;
+    private final Executor executor;
+
+    private final StripedReadBuffer<Node<K, V>> readBuffer = new StripedReadBuffer<>();
+    private final BoundedWriteBuffer<Runnable> writeBuffer = new BoundedWriteBuffer<>(WRITE_BUFFER_CAPACITY);
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private final Runnable drainTask = this::runScheduledDrain;
+
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final FrequencySketch sketch;
+    private final AccessOrderDeque<K, V> window = new AccessOrderDeque<>();
+    private final AccessOrderDeque<K, V> probation = new AccessOrderDeque<>();
+    private final AccessOrderDeque<K, V> protectedQueue = new AccessOrderDeque<>();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public TinyLfuCache(long maximumSize) {
+        this(maximumSize, ForkJoinPool.commonPool());
+    }
+
+    // The executor runs buffer drains and evictions; Runnable::run makes them synchronous
+    public TinyLfuCache(long maximumSize, Executor executor) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Illegal maximum size: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.windowMaximum = Math.max(1, maximumSize / 100);
+        this.protectedMaximum = (maximumSize - windowMaximum) * 80 / 100;
+        this.executor = Objects.requireNonNull(executor);
+        int initialCapacity = (int) Math.min(maximumSize, 1 << 16);
+        this.data = new ConcurrentHashMap<>(initialCapacity);
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+
+    public V get(K key) {
+        Node<K, V> node = data.get(key);
+        if (node == null) {
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        afterRead(node);
+        return node.value;
+    }
+
+    public V put(K key, V value) {
+        Objects.requireNonNull(key, "TinyLfuCache does not allow null keys");
+        Objects.requireNonNull(value, "TinyLfuCache does not allow null values");
+        Node<K, V> node = new Node<>(key, value);
+        if (data.putIfAbsent(key, node) == null) {
+            afterWrite(() -> onAdd(node));
+            return null;
+        }
+        // Replace in place under the bin lock so a concurrent eviction either sees
+        // the new value or removes the node first and we fall back to an insert
+        Object[] previous = new Object[1];
+        Node<K, V> current = data.compute(key, (k, existing) -> {
+            if (existing == null) {
+                return node;
+            }
+            previous[0] = existing.value;
+            existing.value = value;
+            return existing;
+        });
+        if (previous[0] == null) {
+            afterWrite(() -> onAdd(current));
+            return null;
+        }
+        afterRead(current);
+        @SuppressWarnings("unchecked")
+        V old = (V) previous[0];
+        return old;
+    }
+
+    public V remove(K key) {
+        Node<K, V> node = data.remove(key);
+        if (node == null) {
+            return null;
+        }
+        node.retired = true;
+        afterWrite(() -> onRemove(node));
+        return node.value;
+    }
+
+    public void clear() {
+        evictionLock.lock();
+        try {
+            for (Node<K, V> node : data.values()) {
+                if (data.remove(node.key, node)) {
+                    node.retired = true;
+                    onRemove(node);
+                }
+            }
+            drainBuffers();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    // Estimate: entries written by other threads may not yet be evicted
+    public long estimatedSize() {
+        return data.mappingCount();
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(hitCount.sum(), missCount.sum(), evictionCount.sum());
+    }
+
+    // Drains both buffers and enforces the size bound on the calling thread
+    public void cleanUp() {
+        evictionLock.lock();
+        try {
+            drainBuffers();
+            evict();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void afterRead(Node<K, V> node) {
+        // A dropped read only costs the policy a little accuracy
+        if (readBuffer.offer(node) == StripedReadBuffer.FULL) {
+            scheduleDrain();
+        }
+    }
+
+    private void afterWrite(Runnable task) {
+        // Writes must not be lost, so a full buffer makes the writer help out
+        while (!writeBuffer.offer(task)) {
+            cleanUp();
+        }
+        if (writeBuffer.size() >= WRITE_BUFFER_DRAIN_THRESHOLD) {
+            scheduleDrain();
+        }
+    }
+
+    private void scheduleDrain() {
+        if (drainScheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(drainTask);
+            } catch (RejectedExecutionException e) {
+                drainScheduled.set(false);
+                cleanUp();
+            }
+        }
+    }
+
+    private void runScheduledDrain() {
+        // Reset first so writes that arrive during this drain schedule another one
+        drainScheduled.set(false);
+        if (evictionLock.tryLock()) {
+            try {
+                drainBuffers();
+                evict();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private void drainBuffers() {
+        readBuffer.drainTo(this::onAccess);
+        Runnable task;
+        while ((task = writeBuffer.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private void onAdd(Node<K, V> node) {
+        if (node.retired || node.queue != NONE) {
+            return;
+        }
+        sketch.increment(node.key);
+        node.queue = WINDOW;
+        window.addLast(node);
+    }
+
+    private void onAccess(Node<K, V> node) {
+        sketch.increment(node.key);
+        if (node.retired) {
+            return;
+        }
+        switch (node.queue) {
+            case WINDOW:
+                window.moveToBack(node);
+                break;
+            case PROBATION:
+                // A second hit while on probation earns a place in the protected segment
+                probation.unlink(node);
+                node.queue = PROTECTED;
+                protectedQueue.addLast(node);
+                demoteFromProtected();
+                break;
+            case PROTECTED:
+                protectedQueue.moveToBack(node);
+                break;
+            default:
+                // Read before its add task was replayed; onAdd will place it
+                break;
+        }
+    }
+
+    private void demoteFromProtected() {
+        while (protectedQueue.size() > protectedMaximum) {
+            Node<K, V> demoted = protectedQueue.peekFirst();
+            protectedQueue.unlink(demoted);
+            demoted.queue = PROBATION;
+            probation.addLast(demoted);
+        }
+    }
+
+    private void onRemove(Node<K, V> node) {
+        AccessOrderDeque<K, V> deque = dequeOf(node);
+        if (deque != null) {
+            deque.unlink(node);
+            node.queue = NONE;
+        }
+    }
+
+    private AccessOrderDeque<K, V> dequeOf(Node<K, V> node) {
+        switch (node.queue) {
+            case WINDOW:
+                return window;
+            case PROBATION:
+                return probation;
+            case PROTECTED:
+                return protectedQueue;
+            default:
+                return null;
+        }
+    }
+
+    private long policySize() {
+        return window.size() + probation.size() + protectedQueue.size();
+    }
+
+    private void evict() {
+        // Entries leaving the window become admission candidates at the back of probation
+        long candidates = 0;
+        while (window.size() > windowMaximum) {
+            Node<K, V> node = window.peekFirst();
+            window.unlink(node);
+            node.queue = PROBATION;
+            probation.addLast(node);
+            candidates++;
+        }
+        // Candidates are judged one at a time, newest first, each against the current
+        // victim at the front of probation; either way the next candidate is the
+        // previous one, so a winner is not judged again and no evictee gets in unjudged
+        Node<K, V> candidate = candidates > 0 ? probation.peekLast() : null;
+        while (policySize() > maximumSize) {
+            Node<K, V> victim = probation.peekFirst();
+            if (victim == null) {
+                // Probation is empty, so fall back to plain LRU on the other segments
+                victim = protectedQueue.size() > 0 ? protectedQueue.peekFirst() : window.peekFirst();
+                evictNode(victim);
+                continue;
+            }
+            if (candidate == null || candidates == 0) {
+                evictNode(victim);
+            } else if (candidate == victim) {
+                // Only candidates are left in probation; the oldest goes
+                evictNode(victim);
+                candidate = null;
+            } else if (sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+                evictNode(victim);
+                candidate = candidate.previous;
+                candidates--;
+            } else {
+                // Ties reject the candidate: an unproven newcomer should not displace an incumbent
+                Node<K, V> rejected = candidate;
+                candidate = candidate.previous;
+                candidates--;
+                evictNode(rejected);
+            }
+        }
+    }
+
+    private void evictNode(Node<K, V> node) {
+        onRemove(node);
+        if (data.remove(node.key, node)) {
+            node.retired = true;
+            evictionCount.increment();
+        }
+    }
+}
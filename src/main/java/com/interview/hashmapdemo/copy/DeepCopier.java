@@ -0,0 +1,304 @@
+package com.interview.hashmapdemo.copy;
+
+import java.io.*;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+
+// Deep copies map values without a serialization round trip or per-call reflection.
+// The first copy of a class builds a copier for it and caches it in a ClassValue:
+//
+//   immutable types (String, boxes, enums, java.time, ...)  returned as is
+//   arrays, StringBuilder, Date, ArrayList, HashMap, ...    copied directly
+//   records                                                 canonical constructor
+//   other classes with a no-arg constructor                 one MethodHandle chain that
+//                                                           copies field by field
+//   anything else that is Serializable                      serialization round trip
+//
+// Map keys are shared, not copied: a key must not change while it is in a map anyway.
+// The object graph must be acyclic, and an object reachable through two references is
+// copied twice.
+public final class DeepCopier {
+    // Below this many entries, splitting the work costs more than it saves
+    static final int PARALLEL_THRESHOLD = 1 << 14;
+
+    private static final Set<Class<?>> IMMUTABLE = Set.of(
+            String.class, Boolean.class, Byte.class, Short.class, Character.class,
+            Integer.class, Long.class, Float.class, Double.class,
+            BigInteger.class, BigDecimal.class, UUID.class, Class.class);
+
+    @FunctionalInterface
+    interface Copier {
+        Object copy(Object value) throws Throwable;
+    }
+
+    private static final Copier IDENTITY = value -> value;
+
+    private static final ClassValue<Copier> COPIERS = new ClassValue<>() {
+        @Override
+        protected Copier computeValue(Class<?> type) {
+            return copierFor(type);
+        }
+    };
+
+    private static final MethodHandle COPY;
+
+    static {
+        try {
+            COPY = MethodHandles.lookup().findStatic(DeepCopier.class, "copy",
+                    MethodType.methodType(Object.class, Object.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private DeepCopier() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> T copy(T value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return (T) COPIERS.get(value.getClass()).copy(value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Failed to copy " + value.getClass().getName(), t);
+        }
+    }
+
+    // Presized HashMap holding the same keys and deep copies of the values
+    public static <K, V> HashMap<K, V> copyMap(Map<K, V> map) {
+        HashMap<K, V> result = new HashMap<>(capacityFor(map.size()));
+        for (Map.Entry<K, V> entry : map.entrySet()) {
+            result.put(entry.getKey(), copy(entry.getValue()));
+        }
+        return result;
+    }
+
+    // Like copyMap, but copies the values of large maps on the common ForkJoinPool;
+    // only the final inserts into the result run on the calling thread
+    @SuppressWarnings("unchecked")
+    public static <K, V> HashMap<K, V> copyMapParallel(Map<K, V> map) {
+        int size = map.size();
+        if (size < PARALLEL_THRESHOLD) {
+            return copyMap(map);
+        }
+        Object[] keys = new Object[size];
+        Object[] values = new Object[size];
+        int n = 0;
+        for (Map.Entry<K, V> entry : map.entrySet()) {
+            if (n == size) {
+                throw new ConcurrentModificationException();
+            }
+            keys[n] = entry.getKey();
+            values[n++] = entry.getValue();
+        }
+        if (n != size) {
+            throw new ConcurrentModificationException();
+        }
+        Arrays.parallelSetAll(values, i -> copy(values[i]));
+        HashMap<K, V> result = new HashMap<>(capacityFor(size));
+        for (int i = 0; i < size; i++) {
+            result.put((K) keys[i], (V) values[i]);
+        }
+        return result;
+    }
+
+    // Initial capacity at which HashMap holds count entries without resizing
+    static int capacityFor(int count) {
+        return (int) Math.min((long) Math.ceil(count / 0.75), Integer.MAX_VALUE);
+    }
+
+    static Copier copierFor(Class<?> type) {
+        if (IMMUTABLE.contains(type) || type == Object.class || type.isEnum() || Enum.class.isAssignableFrom(type)
+                || type.getPackageName().equals("java.time")) {
+            return IDENTITY;
+        }
+        if (type.isArray()) {
+            return arrayCopier(type.getComponentType());
+        }
+        Copier known = knownTypeCopier(type);
+        if (known != null) {
+            return known;
+        }
+        if (type.isRecord()) {
+            Copier record = recordCopier(type);
+            if (record != null) {
+                return record;
+            }
+        }
+        Copier fields = fieldCopier(type);
+        if (fields != null) {
+            return fields;
+        }
+        if (Serializable.class.isAssignableFrom(type)) {
+            return DeepCopier::serializationCopy;
+        }
+        return value -> {
+            throw new IllegalArgumentException("Cannot deep copy " + type.getName()
+                    + ": no accessible no-arg constructor and not Serializable");
+        };
+    }
+
+    private static Copier arrayCopier(Class<?> component) {
+        if (component.isPrimitive()) {
+            return value -> {
+                int length = Array.getLength(value);
+                Object copy = Array.newInstance(component, length);
+                System.arraycopy(value, 0, copy, 0, length);
+                return copy;
+            };
+        }
+        return value -> {
+            Object[] source = (Object[]) value;
+            Object[] copy = (Object[]) Array.newInstance(component, source.length);
+            for (int i = 0; i < source.length; i++) {
+                copy[i] = copy(source[i]);
+            }
+            return copy;
+        };
+    }
+
+    // JDK types whose fields are closed to reflection, copied through their public API.
+    // The clone() based copies keep the subclass behaviour (access order, comparator).
+    @SuppressWarnings("unchecked")
+    private static Copier knownTypeCopier(Class<?> type) {
+        if (type == StringBuilder.class) {
+            return value -> new StringBuilder((StringBuilder) value);
+        }
+        if (type == StringBuffer.class) {
+            return value -> new StringBuffer((StringBuffer) value);
+        }
+        if (type == Date.class) {
+            return value -> ((Date) value).clone();
+        }
+        if (type == ArrayList.class) {
+            return value -> {
+                ArrayList<Object> source = (ArrayList<Object>) value;
+                ArrayList<Object> copy = new ArrayList<>(source.size());
+                for (Object element : source) {
+                    copy.add(copy(element));
+                }
+                return copy;
+            };
+        }
+        if (type == HashMap.class) {
+            return value -> copyMap((HashMap<Object, Object>) value);
+        }
+        if (type == LinkedHashMap.class) {
+            return value -> {
+                LinkedHashMap<Object, Object> copy = (LinkedHashMap<Object, Object>) ((LinkedHashMap<?, ?>) value).clone();
+                copy.replaceAll((k, v) -> copy(v));
+                return copy;
+            };
+        }
+        if (type == TreeMap.class) {
+            return value -> {
+                TreeMap<Object, Object> copy = (TreeMap<Object, Object>) ((TreeMap<?, ?>) value).clone();
+                copy.replaceAll((k, v) -> copy(v));
+                return copy;
+            };
+        }
+        // Set elements behave like map keys, so they are shared
+        if (type == HashSet.class || type == LinkedHashSet.class) {
+            return value -> ((HashSet<?>) value).clone();
+        }
+        if (type == TreeSet.class) {
+            return value -> ((TreeSet<?>) value).clone();
+        }
+        return null;
+    }
+
+    private static Copier recordCopier(Class<?> type) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            RecordComponent[] components = type.getRecordComponents();
+            Class<?>[] types = new Class<?>[components.length];
+            MethodHandle[] accessors = new MethodHandle[components.length];
+            for (int i = 0; i < components.length; i++) {
+                types[i] = components[i].getType();
+                accessors[i] = deepGetter(lookup.unreflect(components[i].getAccessor()), types[i]);
+            }
+            MethodHandle constructor = lookup.findConstructor(type, MethodType.methodType(void.class, types))
+                    .asType(MethodType.methodType(Object.class, types))
+                    .asSpreader(Object[].class, types.length);
+            return value -> {
+                Object[] arguments = new Object[accessors.length];
+                for (int i = 0; i < accessors.length; i++) {
+                    arguments[i] = accessors[i].invoke(value);
+                }
+                return constructor.invoke(arguments);
+            };
+        } catch (IllegalAccessException | NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    // Builds (target, source) -> void that copies every instance field, folded into a
+    // single handle so the per-object work is one invocation
+    private static Copier fieldCopier(Class<?> type) {
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+            return null;
+        }
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            Constructor<?> noArg = type.getDeclaredConstructor();
+            MethodHandle constructor = lookup.unreflectConstructor(noArg).asType(MethodType.methodType(Object.class));
+            MethodHandle copyFields = MethodHandles.empty(MethodType.methodType(void.class, Object.class, Object.class));
+            for (Class<?> c = type; c != Object.class; c = c.getSuperclass()) {
+                MethodHandles.Lookup classLookup = MethodHandles.privateLookupIn(c, MethodHandles.lookup());
+                for (Field field : c.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers())) {
+                        continue;
+                    }
+                    field.setAccessible(true);
+                    MethodHandle getter = deepGetter(classLookup.unreflectGetter(field), field.getType());
+                    MethodHandle setter = classLookup.unreflectSetter(field);
+                    // (target, source) -> setter(target, getter(source))
+                    MethodHandle copyField = MethodHandles.filterArguments(setter, 1, getter)
+                            .asType(MethodType.methodType(void.class, Object.class, Object.class));
+                    copyFields = MethodHandles.foldArguments(copyFields, copyField);
+                }
+            }
+            MethodHandle allFields = copyFields;
+            return value -> {
+                Object copy = constructor.invokeExact();
+                allFields.invokeExact(copy, value);
+                return copy;
+            };
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // No no-arg constructor, or a JDK class whose package is not open to us
+            return null;
+        }
+    }
+
+    // Primitive and immutable fields are read as is; anything else goes through copy()
+    private static MethodHandle deepGetter(MethodHandle getter, Class<?> fieldType) {
+        if (fieldType.isPrimitive() || IMMUTABLE.contains(fieldType) || fieldType.isEnum()) {
+            return getter;
+        }
+        MethodHandle copy = COPY.asType(MethodType.methodType(fieldType, fieldType));
+        return MethodHandles.filterReturnValue(getter, copy);
+    }
+
+    private static Object serializationCopy(Object value) throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return in.readObject();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.interview.hashmapdemo.hash;
+
+import java.util.Arrays;
+
+// Generates distinct Strings that all share one String.hashCode(), the raw material of
+// a hash-flooding attack. "Aa" and "BB" hash alike, and since String.hashCode is a
+// polynomial, any sequence of k such blocks hashes like any other: 2^k strings of
+// length 2k with a single hash code.
+public final class CollidingStrings {
+    private static final String[] BLOCKS = {"Aa", "BB"};
+
+    private CollidingStrings() {
+    }
+
+    public static String[] generate(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Illegal count: " + count);
+        }
+        int blocks = Math.max(1, 32 - Integer.numberOfLeadingZeros(Math.max(count - 1, 0)));
+        if (blocks > 30) {
+            throw new IllegalArgumentException("Too many strings: " + count);
+        }
+        String[] strings = new String[count];
+        char[] chars = new char[blocks * 2];
+        for (int i = 0; i < count; i++) {
+            for (int b = 0; b < blocks; b++) {
+                String block = BLOCKS[(i >>> b) & 1];
+                chars[2 * b] = block.charAt(0);
+                chars[2 * b + 1] = block.charAt(1);
+            }
+            strings[i] = new String(chars);
+        }
+        return strings;
+    }
+
+    // Same strings with a common prefix, e.g. a header name or parameter namespace
+    public static String[] generate(String prefix, int count) {
+        return Arrays.stream(generate(count)).map(prefix::concat).toArray(String[]::new);
+    }
+}
@@ -0,0 +1,152 @@
+package com.interview.hashmapdemo.hash;
+
+// Combines field hashes into a hashCode() without allocating. Objects.hash(name, age)
+// is a varargs call: it allocates an Object[] and boxes age on every call, which makes
+// a composite key's hashCode() an allocation site on every HashMap.get.
+//
+// Results are identical to Objects.hash / Arrays.hashCode (start at 1, then
+// 31 * h + hash of each field), and primitives hash as their box classes do, so
+// replacing Objects.hash changes no hash code or iteration order:
+//
+//   HashCombiner.hash(name, age)                              static, up to four fields
+//   HashCombiner.combine(HashCombiner.combine(HashCombiner.SEED, name), age)
+//   HashCombiner.start().with(name).with(age).hash()          fluent
+//
+// Primitive fields only avoid boxing through an overload that takes them as primitives:
+// (Object, int), (Object, long), (Object, int, long) and the like. The all-Object
+// overloads box any primitive passed to them, so for other mixes of objects and
+// primitives use combine or the fluent form.
+//
+// The fluent form allocates one small HashCombiner that C2 removes by escape analysis
+// once hashCode() is inlined (HashCombinerBenchmark measures 0 bytes per get). Prefer
+// the static forms where that is not certain, e.g. in very large hashCode() methods.
+public final class HashCombiner {
+    // The starting value, as in Objects.hash
+    public static final int SEED = 1;
+
+    private int hash = SEED;
+
+    private HashCombiner() {
+    }
+
+    public static HashCombiner start() {
+        return new HashCombiner();
+    }
+
+    public HashCombiner with(Object value) {
+        hash = combine(hash, value);
+        return this;
+    }
+
+    public HashCombiner with(int value) {
+        hash = combine(hash, value);
+        return this;
+    }
+
+    public HashCombiner with(long value) {
+        hash = combine(hash, value);
+        return this;
+    }
+
+    public HashCombiner with(double value) {
+        hash = combine(hash, value);
+        return this;
+    }
+
+    public HashCombiner with(float value) {
+        hash = combine(hash, value);
+        return this;
+    }
+
+    public HashCombiner with(boolean value) {
+        hash = combine(hash, value);
+        return this;
+    }
+
+    public int hash() {
+        return hash;
+    }
+
+    // char, short and byte widen to the int overload, which matches their box classes' hashCode
+    public static int combine(int hash, Object value) {
+        return 31 * hash + (value == null ? 0 : value.hashCode());
+    }
+
+    public static int combine(int hash, int value) {
+        return 31 * hash + value;
+    }
+
+    public static int combine(int hash, long value) {
+        return 31 * hash + Long.hashCode(value);
+    }
+
+    public static int combine(int hash, double value) {
+        return 31 * hash + Double.hashCode(value);
+    }
+
+    public static int combine(int hash, float value) {
+        return 31 * hash + Float.hashCode(value);
+    }
+
+    public static int combine(int hash, boolean value) {
+        return 31 * hash + Boolean.hashCode(value);
+    }
+
+    public static int hash(Object a) {
+        return combine(SEED, a);
+    }
+
+    public static int hash(int a) {
+        return combine(SEED, a);
+    }
+
+    public static int hash(long a) {
+        return combine(SEED, a);
+    }
+
+    public static int hash(Object a, Object b) {
+        return combine(combine(SEED, a), b);
+    }
+
+    public static int hash(Object a, int b) {
+        return combine(combine(SEED, a), b);
+    }
+
+    public static int hash(Object a, long b) {
+        return combine(combine(SEED, a), b);
+    }
+
+    public static int hash(int a, int b) {
+        return combine(combine(SEED, a), b);
+    }
+
+    public static int hash(long a, long b) {
+        return combine(combine(SEED, a), b);
+    }
+
+    public static int hash(Object a, int b, int c) {
+        return combine(combine(combine(SEED, a), b), c);
+    }
+
+    public static int hash(Object a, int b, long c) {
+        return combine(combine(combine(SEED, a), b), c);
+    }
+
+    public static int hash(Object a, Object b, int c) {
+        return combine(combine(combine(SEED, a), b), c);
+    }
+
+    public static int hash(Object a, Object b, long c) {
+        return combine(combine(combine(SEED, a), b), c);
+    }
+
+    // Boxes primitive arguments; see the class comment
+    public static int hash(Object a, Object b, Object c) {
+        return combine(combine(combine(SEED, a), b), c);
+    }
+
+    // Boxes primitive arguments; see the class comment
+    public static int hash(Object a, Object b, Object c, Object d) {
+        return combine(combine(combine(combine(SEED, a), b), c), d);
+    }
+}
@@ -0,0 +1,159 @@
+package com.interview.hashmapdemo.hash;
+
+import java.util.*;
+import java.util.function.ToIntFunction;
+
+// Measures how well a hashCode() spreads the keys a KeyGenerator produces:
+//
+//   - entropy: how many bits of information the hash codes of distinct keys carry,
+//     against log2 of the key count. Objects.hash over fields with few values, or a
+//     hashCode that ignores a field, shows up here first.
+//   - bit bias: how far each of the 32 hash bits is from being set half the time.
+//   - avalanche: flip one input bit and count the hash bits that change; ideally half.
+//   - chi-squared: how evenly the keys fill HashMap buckets (after HashMap's spread)
+//     for each power-of-two table size with at least five keys per bucket expected.
+//
+// The input longs are drawn from a seeded SplittableRandom, so a report is repeatable.
+public class HashQualityAnalyzer {
+    private static final int DEFAULT_SAMPLE_SIZE = 1 << 14;
+    private static final long DEFAULT_SEED = 42;
+    private static final int MINIMUM_TABLE_SIZE = 16;
+    private static final int MINIMUM_EXPECTED_PER_BUCKET = 5;
+    // Inputs whose 64 single-bit flips are compared for avalanche
+    private static final int MAXIMUM_AVALANCHE_INPUTS = 1024;
+
+    private HashQualityAnalyzer() {
+    }
+
+    public static <K> HashQualityReport analyze(KeyGenerator<? extends K> generator) {
+        return analyze(generator, Object::hashCode, DEFAULT_SAMPLE_SIZE, DEFAULT_SEED);
+    }
+
+    public static <K> HashQualityReport analyze(KeyGenerator<? extends K> generator, int sampleSize) {
+        return analyze(generator, Object::hashCode, sampleSize, DEFAULT_SEED);
+    }
+
+    // With a hash other than hashCode(), e.g. a HashingStrategy's, to compare candidates
+    public static <K> HashQualityReport analyze(KeyGenerator<? extends K> generator,
+                                                ToIntFunction<? super K> hash, int sampleSize, long seed) {
+        if (sampleSize < 2) {
+            throw new IllegalArgumentException("Illegal sample size: " + sampleSize);
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        long[] inputs = new long[sampleSize];
+        // Equal keys would count as collisions, so keep one hash per distinct key
+        Set<K> seen = new HashSet<>();
+        int[] hashes = new int[sampleSize];
+        int count = 0;
+        for (int i = 0; i < sampleSize; i++) {
+            inputs[i] = random.nextLong();
+            K key = generator.generate(inputs[i]);
+            if (seen.add(key)) {
+                hashes[count++] = hash.applyAsInt(key);
+            }
+        }
+        hashes = Arrays.copyOf(hashes, count);
+
+        double[] bitOneFractions = new double[Integer.SIZE];
+        for (int h : hashes) {
+            for (int bit = 0; bit < Integer.SIZE; bit++) {
+                bitOneFractions[bit] += (h >>> bit) & 1;
+            }
+        }
+        for (int bit = 0; bit < Integer.SIZE; bit++) {
+            bitOneFractions[bit] /= count;
+        }
+
+        return new HashQualityReport(count, distinct(hashes), entropy(hashes), bitOneFractions,
+                avalanche(generator, hash, inputs), tableFits(hashes));
+    }
+
+    private static int distinct(int[] hashes) {
+        int[] sorted = hashes.clone();
+        Arrays.sort(sorted);
+        int distinct = sorted.length == 0 ? 0 : 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[i - 1]) {
+                distinct++;
+            }
+        }
+        return distinct;
+    }
+
+    // Shannon entropy of the hash code distribution, in bits
+    private static double entropy(int[] hashes) {
+        int[] sorted = hashes.clone();
+        Arrays.sort(sorted);
+        double entropy = 0;
+        int run = 1;
+        for (int i = 1; i <= sorted.length; i++) {
+            if (i < sorted.length && sorted[i] == sorted[i - 1]) {
+                run++;
+            } else {
+                double p = (double) run / sorted.length;
+                entropy -= p * Math.log(p) / Math.log(2);
+                run = 1;
+            }
+        }
+        return entropy;
+    }
+
+    // flips[in][out] / pairs[in] is how often flipping input bit in flips hash bit out.
+    // Flips that leave the key unchanged (bits the generator ignores) are skipped.
+    private static <K> HashQualityReport.Avalanche avalanche(KeyGenerator<? extends K> generator,
+                                                             ToIntFunction<? super K> hash, long[] inputs) {
+        long[][] flips = new long[Long.SIZE][Integer.SIZE];
+        long[] pairs = new long[Long.SIZE];
+        long flippedBits = 0;
+        long totalPairs = 0;
+        int limit = Math.min(inputs.length, MAXIMUM_AVALANCHE_INPUTS);
+        for (int i = 0; i < limit; i++) {
+            K key = generator.generate(inputs[i]);
+            int h = hash.applyAsInt(key);
+            for (int in = 0; in < Long.SIZE; in++) {
+                K flipped = generator.generate(inputs[i] ^ (1L << in));
+                if (key.equals(flipped)) {
+                    continue;
+                }
+                int diff = h ^ hash.applyAsInt(flipped);
+                pairs[in]++;
+                totalPairs++;
+                flippedBits += Integer.bitCount(diff);
+                for (int out = 0; out < Integer.SIZE; out++) {
+                    flips[in][out] += (diff >>> out) & 1;
+                }
+            }
+        }
+        double worstBias = 0;
+        for (int in = 0; in < Long.SIZE; in++) {
+            if (pairs[in] == 0) {
+                continue;
+            }
+            for (int out = 0; out < Integer.SIZE; out++) {
+                worstBias = Math.max(worstBias, Math.abs((double) flips[in][out] / pairs[in] - 0.5));
+            }
+        }
+        double mean = totalPairs == 0 ? 0 : (double) flippedBits / (totalPairs * Integer.SIZE);
+        return new HashQualityReport.Avalanche(totalPairs, mean, totalPairs == 0 ? 0.5 : worstBias);
+    }
+
+    private static List<HashQualityReport.TableFit> tableFits(int[] hashes) {
+        List<HashQualityReport.TableFit> fits = new ArrayList<>();
+        for (int tableSize = MINIMUM_TABLE_SIZE;
+             tableSize > 0 && hashes.length >= (long) tableSize * MINIMUM_EXPECTED_PER_BUCKET;
+             tableSize <<= 1) {
+            long[] buckets = new long[tableSize];
+            for (int h : hashes) {
+                // HashMap's spread, so high bits that HashMap folds in are credited
+                buckets[(h ^ (h >>> 16)) & (tableSize - 1)]++;
+            }
+            double expected = (double) hashes.length / tableSize;
+            double chiSquared = 0;
+            for (long observed : buckets) {
+                chiSquared += (observed - expected) * (observed - expected) / expected;
+            }
+            fits.add(new HashQualityReport.TableFit(tableSize, chiSquared, tableSize - 1));
+        }
+        return fits;
+    }
+}
@@ -0,0 +1,159 @@
+package com.interview.hashmapdemo.hash;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// The measurements of one HashQualityAnalyzer run, and the checks a gate applies to them
+public class HashQualityReport {
+
+    // Limits for problems(). DEFAULT checks what decides HashMap performance: enough
+    // distinct hash codes and even buckets. Sequential Integer keys pass it although
+    // each flips a single hash bit. STRICT also wants unbiased bits and full
+    // avalanche, which open addressing and maps that use the high bits depend on.
+    public record Thresholds(double minEntropyRatio, double maxChiSquaredSigma,
+                             double maxBitBias, double minAvalanche) {
+        public static final Thresholds DEFAULT = new Thresholds(0.99, 5, 0.5, 0);
+        public static final Thresholds STRICT = new Thresholds(0.99, 5, 0.05, 0.45);
+    }
+
+    // Flipping one input bit: the mean fraction of hash bits that change (ideally 0.5)
+    // and the largest deviation from 0.5 for any single input and output bit
+    public record Avalanche(long pairs, double mean, double worstBias) {
+    }
+
+    // Bucket uniformity for one table size. sigma is how many standard deviations the
+    // statistic lies above its expected value df for uniformly random buckets.
+    public record TableFit(int tableSize, double chiSquared, int degreesOfFreedom) {
+        public double sigma() {
+            return (chiSquared - degreesOfFreedom) / Math.sqrt(2.0 * degreesOfFreedom);
+        }
+    }
+
+    private final int keyCount;
+    private final int distinctHashCodes;
+    private final double entropyBits;
+    private final double[] bitOneFractions;
+    private final Avalanche avalanche;
+    private final List<TableFit> tableFits;
+
+    public HashQualityReport(int keyCount, int distinctHashCodes, double entropyBits, double[] bitOneFractions,
+                             Avalanche avalanche, List<TableFit> tableFits) {
+        this.keyCount = keyCount;
+        this.distinctHashCodes = distinctHashCodes;
+        this.entropyBits = entropyBits;
+        this.bitOneFractions = bitOneFractions.clone();
+        this.avalanche = avalanche;
+        this.tableFits = List.copyOf(tableFits);
+    }
+
+    // Distinct keys in the sample
+    public int getKeyCount() {
+        return keyCount;
+    }
+
+    public int getDistinctHashCodes() {
+        return distinctHashCodes;
+    }
+
+    public double getEntropyBits() {
+        return entropyBits;
+    }
+
+    // What distinct hash codes for every key would give
+    public double getIdealEntropyBits() {
+        return keyCount == 0 ? 0 : Math.log(keyCount) / Math.log(2);
+    }
+
+    public double[] getBitOneFractions() {
+        return bitOneFractions.clone();
+    }
+
+    public double getMaxBitBias() {
+        double bias = 0;
+        for (double fraction : bitOneFractions) {
+            bias = Math.max(bias, Math.abs(fraction - 0.5));
+        }
+        return bias;
+    }
+
+    public Avalanche getAvalanche() {
+        return avalanche;
+    }
+
+    public List<TableFit> getTableFits() {
+        return tableFits;
+    }
+
+    public TableFit getWorstTableFit() {
+        TableFit worst = null;
+        for (TableFit fit : tableFits) {
+            if (worst == null || fit.sigma() > worst.sigma()) {
+                worst = fit;
+            }
+        }
+        return worst;
+    }
+
+    public List<String> problems() {
+        return problems(Thresholds.DEFAULT);
+    }
+
+    // Empty if the hash passes every threshold
+    public List<String> problems(Thresholds thresholds) {
+        List<String> problems = new ArrayList<>();
+        if (entropyBits < thresholds.minEntropyRatio() * getIdealEntropyBits()) {
+            problems.add(String.format(Locale.ROOT, "low entropy: %.2f of %.2f bits (%d distinct hash codes for %d keys)",
+                    entropyBits, getIdealEntropyBits(), distinctHashCodes, keyCount));
+        }
+        for (TableFit fit : tableFits) {
+            if (fit.sigma() > thresholds.maxChiSquaredSigma()) {
+                problems.add(String.format(Locale.ROOT, "uneven buckets at table size %d: chi-squared %.0f for %d degrees of freedom (%.1f sigma)",
+                        fit.tableSize(), fit.chiSquared(), fit.degreesOfFreedom(), fit.sigma()));
+            }
+        }
+        if (getMaxBitBias() > thresholds.maxBitBias()) {
+            problems.add(String.format(Locale.ROOT, "biased bits: a hash bit is set in %.1f%% of keys",
+                    100 * worstBitFraction()));
+        }
+        if (avalanche.mean() < thresholds.minAvalanche()) {
+            problems.add(String.format(Locale.ROOT, "weak avalanche: one input bit flips %.1f%% of hash bits",
+                    100 * avalanche.mean()));
+        }
+        return problems;
+    }
+
+    private double worstBitFraction() {
+        double worst = 0.5;
+        for (double fraction : bitOneFractions) {
+            if (Math.abs(fraction - 0.5) > Math.abs(worst - 0.5)) {
+                worst = fraction;
+            }
+        }
+        return worst;
+    }
+
+    public String report() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "%d distinct keys, %d distinct hash codes, entropy %.2f of %.2f bits%n",
+                keyCount, distinctHashCodes, entropyBits, getIdealEntropyBits()));
+        sb.append(String.format(Locale.ROOT, "Bit bias: max %.3f (bit set in %.1f%% of keys)%n",
+                getMaxBitBias(), 100 * worstBitFraction()));
+        sb.append(String.format(Locale.ROOT, "Avalanche: %.3f of hash bits flip per input bit (ideal 0.5), worst bit pair %.3f off, %d pairs%n",
+                avalanche.mean(), avalanche.worstBias(), avalanche.pairs()));
+        sb.append("Chi-squared by table size (HashMap spread):\n");
+        for (TableFit fit : tableFits) {
+            sb.append(String.format(Locale.ROOT, "  %7d buckets: %.1f for %d df (%+.1f sigma)%n",
+                    fit.tableSize(), fit.chiSquared(), fit.degreesOfFreedom(), fit.sigma()));
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        TableFit worst = getWorstTableFit();
+        return String.format(Locale.ROOT, "%d keys: entropy %.2f/%.2f bits, avalanche %.3f, bit bias %.3f, worst chi-squared %s",
+                keyCount, entropyBits, getIdealEntropyBits(), avalanche.mean(), getMaxBitBias(),
+                worst == null ? "n/a" : String.format(Locale.ROOT, "%+.1f sigma", worst.sigma()));
+    }
+}
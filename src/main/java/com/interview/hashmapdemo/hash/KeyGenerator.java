@@ -0,0 +1,12 @@
+package com.interview.hashmapdemo.hash;
+
+// Builds a key from 64 random input bits, for HashQualityAnalyzer. Map the bits onto
+// the values your keys really take (names from a production list, ages 0 to 99,
+// ids in their real range): a hash is only as good as it is on the keys it will see.
+// The analyzer flips single input bits to measure avalanche, so derive each field
+// from its own bits rather than from one shared random number.
+@FunctionalInterface
+public interface KeyGenerator<K> {
+
+    K generate(long input);
+}
@@ -0,0 +1,330 @@
+package com.interview.hashmapdemo.io;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.*;
+
+// Snapshot format for very large Map<String, String> that is written and read on a
+// ForkJoinPool instead of one thread. Entries are partitioned by the top bits of
+// their mixed key hash, and each partition is its own segment:
+//
+//   int magic, int version, int partitions, long count
+//   partitions x (long offset, int length, int count)     the index
+//   partitions x segment, each count x (key, value) in StringMapCodec's string format
+//
+// Writing splits the map's spliterator into chunks, encodes each chunk into
+// per-partition buffers in parallel, then writes every partition's segment at its
+// offset concurrently. Reading maps each segment and decodes it in its own task into
+// one presized ConcurrentHashMap. Since partitions are hash ranges, readPartition can
+// also load one shard of a snapshot on its own.
+//
+// The encoded bytes are held in memory while writing. Segments are limited to 2GB.
+// Null keys and values are not supported, since the result is a ConcurrentHashMap.
+public final class ChunkedMapCodec {
+    static final int MAGIC = 0x484D434B; // "HMCK"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 20;
+    static final int INDEX_ENTRY_SIZE = 16;
+    static final int MAX_PARTITIONS = 1 << 12;
+
+    private ChunkedMapCodec() {
+    }
+
+    // Enough partitions for every worker to have several, so uneven ones even out
+    static int defaultPartitions(ForkJoinPool pool) {
+        return Math.min(MAX_PARTITIONS, Integer.highestOneBit(pool.getParallelism() * 4 - 1) << 1);
+    }
+
+    // Partition of a key among 2^bits partitions, from the high bits of the mixed hash
+    static int partition(String key, int bits) {
+        return bits == 0 ? 0 : (key.hashCode() * 0x9E3779B9) >>> (32 - bits);
+    }
+
+    public static void writeFile(Map<String, String> map, Path path) throws IOException {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        writeFile(map, path, defaultPartitions(pool), pool);
+    }
+
+    public static void writeFile(Map<String, String> map, Path path, int partitions, ForkJoinPool pool)
+            throws IOException {
+        if (partitions < 1 || partitions > MAX_PARTITIONS || Integer.bitCount(partitions) != 1) {
+            throw new IllegalArgumentException("Illegal partition count: " + partitions);
+        }
+        int bits = Integer.numberOfTrailingZeros(partitions);
+        List<Spliterator<Map.Entry<String, String>>> chunks =
+                split(map.entrySet().spliterator(), pool.getParallelism() * 4);
+
+        // chunkBuffers[c][p] holds chunk c's entries for partition p
+        ByteBuffer[][] chunkBuffers = new ByteBuffer[chunks.size()][partitions];
+        int[][] chunkCounts = new int[chunks.size()][partitions];
+        List<Callable<Void>> encoders = new ArrayList<>();
+        for (int c = 0; c < chunks.size(); c++) {
+            int chunk = c;
+            encoders.add(() -> {
+                encodeChunk(chunks.get(chunk), bits, chunkBuffers[chunk], chunkCounts[chunk]);
+                return null;
+            });
+        }
+        invokeAll(pool, encoders);
+
+        long[] offsets = new long[partitions];
+        int[] lengths = new int[partitions];
+        int[] counts = new int[partitions];
+        long position = HEADER_SIZE + (long) partitions * INDEX_ENTRY_SIZE;
+        long total = 0;
+        for (int p = 0; p < partitions; p++) {
+            long length = 0;
+            for (int c = 0; c < chunks.size(); c++) {
+                length += chunkBuffers[c][p].position();
+                counts[p] += chunkCounts[c][p];
+            }
+            if (length > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Partition " + p + " exceeds 2GB; use more partitions");
+            }
+            offsets[p] = position;
+            lengths[p] = (int) length;
+            position += length;
+            total += counts[p];
+        }
+        if (total != map.size()) {
+            throw new ConcurrentModificationException();
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE + partitions * INDEX_ENTRY_SIZE);
+        header.putInt(MAGIC).putInt(VERSION).putInt(partitions).putLong(total);
+        for (int p = 0; p < partitions; p++) {
+            header.putLong(offsets[p]).putInt(lengths[p]).putInt(counts[p]);
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(channel, header.flip(), 0);
+            List<Callable<Void>> writers = new ArrayList<>();
+            for (int p = 0; p < partitions; p++) {
+                int partition = p;
+                writers.add(() -> {
+                    // Positional writes, so partitions do not contend on the channel position
+                    long at = offsets[partition];
+                    for (ByteBuffer[] buffers : chunkBuffers) {
+                        ByteBuffer buffer = buffers[partition].flip();
+                        int length = buffer.remaining();
+                        writeFully(channel, buffer, at);
+                        at += length;
+                    }
+                    return null;
+                });
+            }
+            invokeAll(pool, writers);
+        }
+    }
+
+    private static List<Spliterator<Map.Entry<String, String>>> split(
+            Spliterator<Map.Entry<String, String>> whole, int target) {
+        List<Spliterator<Map.Entry<String, String>>> chunks = new ArrayList<>();
+        chunks.add(whole);
+        // Split the largest chunk until there are enough, or nothing splits further
+        while (chunks.size() < target) {
+            int largest = 0;
+            for (int i = 1; i < chunks.size(); i++) {
+                if (chunks.get(i).estimateSize() > chunks.get(largest).estimateSize()) {
+                    largest = i;
+                }
+            }
+            Spliterator<Map.Entry<String, String>> prefix = chunks.get(largest).trySplit();
+            if (prefix == null) {
+                break;
+            }
+            chunks.add(prefix);
+        }
+        return chunks;
+    }
+
+    private static void encodeChunk(Spliterator<Map.Entry<String, String>> chunk, int bits,
+                                    ByteBuffer[] buffers, int[] counts) {
+        int partitions = buffers.length;
+        // Assume short ASCII strings; buffers double if that guess is too small
+        int estimate = (int) Math.min(1 << 20, Math.max(64, chunk.estimateSize() * 24 / partitions));
+        for (int p = 0; p < partitions; p++) {
+            buffers[p] = ByteBuffer.allocate(estimate);
+        }
+        chunk.forEachRemaining(entry -> {
+            String key = Objects.requireNonNull(entry.getKey(), "ChunkedMapCodec does not allow null keys");
+            String value = Objects.requireNonNull(entry.getValue(), "ChunkedMapCodec does not allow null values");
+            int p = partition(key, bits);
+            buffers[p] = StringMapCodec.putString(StringMapCodec.putString(buffers[p], key), value);
+            counts[p]++;
+        });
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    public static ConcurrentHashMap<String, String> readFile(Path path) throws IOException {
+        return readFile(path, ForkJoinPool.commonPool());
+    }
+
+    public static ConcurrentHashMap<String, String> readFile(Path path, ForkJoinPool pool) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            Index index = readIndex(channel);
+            ConcurrentHashMap<String, String> map = new ConcurrentHashMap<>(
+                    (int) Math.min(index.total, Integer.MAX_VALUE - 8), 0.75f, pool.getParallelism());
+            List<Callable<Void>> decoders = new ArrayList<>();
+            for (int p = 0; p < index.counts.length; p++) {
+                int partition = p;
+                decoders.add(() -> {
+                    decodeSegment(channel, index, partition, map);
+                    return null;
+                });
+            }
+            invokeAll(pool, decoders);
+            return map;
+        }
+    }
+
+    // Loads a single hash partition, e.g. one shard when re-sharding a snapshot
+    public static HashMap<String, String> readPartition(Path path, int partition) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            Index index = readIndex(channel);
+            if (partition < 0 || partition >= index.counts.length) {
+                throw new IndexOutOfBoundsException("Partition " + partition + " of " + index.counts.length);
+            }
+            HashMap<String, String> map = new HashMap<>(StringMapCodec.capacityFor(index.counts[partition]));
+            decodeSegment(channel, index, partition, map);
+            return map;
+        }
+    }
+
+    public static int partitionCount(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return readIndex(channel).counts.length;
+        }
+    }
+
+    private static final class Index {
+        final long total;
+        final long[] offsets;
+        final int[] lengths;
+        final int[] counts;
+
+        Index(long total, long[] offsets, int[] lengths, int[] counts) {
+            this.total = total;
+            this.offsets = offsets;
+            this.lengths = lengths;
+            this.counts = counts;
+        }
+    }
+
+    private static Index readIndex(FileChannel channel) throws IOException {
+        long size = channel.size();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        readFully(channel, header, 0);
+        header.flip();
+        int magic = header.getInt();
+        if (magic != MAGIC) {
+            throw new StreamCorruptedException(String.format("Invalid chunked map magic: 0x%08X", magic));
+        }
+        int version = header.getInt();
+        if (version != VERSION) {
+            throw new StreamCorruptedException("Unsupported chunked map version: " + version);
+        }
+        int partitions = header.getInt();
+        long total = header.getLong();
+        if (partitions < 1 || partitions > MAX_PARTITIONS || total < 0) {
+            throw new StreamCorruptedException("Invalid chunked map header");
+        }
+        ByteBuffer entries = ByteBuffer.allocate(partitions * INDEX_ENTRY_SIZE);
+        readFully(channel, entries, HEADER_SIZE);
+        entries.flip();
+        long[] offsets = new long[partitions];
+        int[] lengths = new int[partitions];
+        int[] counts = new int[partitions];
+        long sum = 0;
+        for (int p = 0; p < partitions; p++) {
+            offsets[p] = entries.getLong();
+            lengths[p] = entries.getInt();
+            counts[p] = entries.getInt();
+            if (offsets[p] < HEADER_SIZE || lengths[p] < 0 || counts[p] < 0) {
+                throw new StreamCorruptedException("Invalid index entry for partition " + p);
+            }
+            // Readers presize from these counts, so they must fit in the bytes behind them
+            if (counts[p] > lengths[p] / StringMapCodec.MIN_ENTRY_SIZE) {
+                throw new StreamCorruptedException("Partition " + p + " claims " + counts[p]
+                        + " entries in " + lengths[p] + " bytes");
+            }
+            if (offsets[p] + lengths[p] > size) {
+                throw new EOFException("Truncated chunked map: partition " + p + " ends past the file");
+            }
+            sum += counts[p];
+        }
+        if (sum != total) {
+            throw new StreamCorruptedException("Index counts add up to " + sum + ", header says " + total);
+        }
+        return new Index(total, offsets, lengths, counts);
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int n = channel.read(buffer, position);
+            if (n < 0) {
+                throw new EOFException("Truncated chunked map header");
+            }
+            position += n;
+        }
+    }
+
+    private static void decodeSegment(FileChannel channel, Index index, int partition, Map<String, String> map)
+            throws IOException {
+        MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY,
+                index.offsets[partition], index.lengths[partition]);
+        byte[] scratch = new byte[1024];
+        for (int i = 0; i < index.counts[partition]; i++) {
+            String key = StringMapCodec.getString(segment, scratch);
+            String value = StringMapCodec.getString(segment, scratch);
+            if (key == null || value == null) {
+                throw new StreamCorruptedException("Null entry in partition " + partition);
+            }
+            map.put(key, value);
+        }
+        if (segment.hasRemaining()) {
+            throw new StreamCorruptedException("Partition " + partition + " has trailing bytes");
+        }
+    }
+
+    // Runs the tasks on the pool and rethrows the first failure as the caller's exception
+    private static void invokeAll(ForkJoinPool pool, List<Callable<Void>> tasks) throws IOException {
+        for (Future<Void> future : pool.invokeAll(tasks)) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted waiting for map codec tasks");
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+                if (cause instanceof UncheckedIOException) {
+                    throw ((UncheckedIOException) cause).getCause();
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new IOException(cause);
+            }
+        }
+    }
+}
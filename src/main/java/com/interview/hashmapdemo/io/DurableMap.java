@@ -0,0 +1,441 @@
+package com.interview.hashmapdemo.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32C;
+
+// Crash-safe Map<String, String>. Every put/remove/clear is appended to a write-ahead
+// log, and the call returns only once its record has been forced to disk. Concurrent
+// writers share fsyncs (group commit): the first writer waiting for durability becomes
+// the leader, optionally waits batchWindow for others to append, then writes and forces
+// everything pending in one go while the others wait for it.
+//
+// Directory layout:
+//
+//   snapshot.bin   StringMapCodec snapshot as of the last checkpoint
+//   wal.log        records since then: int length, int CRC32C, payload
+//                  (op byte, key and, for puts, value in StringMapCodec's string format)
+//
+// Once the log grows past checkpointBytes, a checkpoint writes a new snapshot and
+// renames it into place, then truncates the log. Records only ever set a key's
+// whole state, so replaying a log over a snapshot that already contains it gives the
+// same map. open() loads the snapshot, replays the log and cuts off a torn tail record.
+//
+// Reads go to an in-memory ConcurrentHashMap and may see a write before its put has
+// returned. After an I/O failure the map refuses further writes. Null keys and values
+// are not supported.
+public class DurableMap extends AbstractMap<String, String> implements Closeable {
+    static final String SNAPSHOT_FILE = "snapshot.bin";
+    static final String LOG_FILE = "wal.log";
+    static final long DEFAULT_CHECKPOINT_BYTES = 64L << 20;
+    private static final int RECORD_HEADER_SIZE = 8;
+    private static final byte PUT = 1;
+    private static final byte REMOVE = 2;
+    private static final byte CLEAR = 3;
+
+    private final Path directory;
+    private final ConcurrentHashMap<String, String> map;
+    private final FileChannel log;
+    private final long batchWindowNanos;
+    private final long checkpointBytes;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition synced = lock.newCondition();
+    private ByteBuffer pending = ByteBuffer.allocate(1 << 16);
+    private ByteBuffer spare = ByteBuffer.allocate(1 << 16);
+    // Logical positions, counting every byte ever appended; they never move backwards,
+    // so a waiter's target stays valid across checkpoints
+    private long appendedPosition;
+    private long durablePosition;
+    // Logical position of the start of the current log file
+    private long checkpointPosition;
+    private boolean syncing;
+    private IOException failure;
+    private boolean closed;
+    private long syncCount;
+
+    private DurableMap(Path directory, ConcurrentHashMap<String, String> map, FileChannel log,
+                       long logSize, Duration batchWindow, long checkpointBytes) {
+        this.directory = directory;
+        this.map = map;
+        this.log = log;
+        this.appendedPosition = logSize;
+        this.durablePosition = logSize;
+        this.batchWindowNanos = batchWindow.toNanos();
+        this.checkpointBytes = checkpointBytes;
+    }
+
+    public static DurableMap open(Path directory) throws IOException {
+        return open(directory, Duration.ZERO, DEFAULT_CHECKPOINT_BYTES);
+    }
+
+    public static DurableMap open(Path directory, Duration batchWindow, long checkpointBytes) throws IOException {
+        if (batchWindow.isNegative()) {
+            throw new IllegalArgumentException("Illegal batch window: " + batchWindow);
+        }
+        if (checkpointBytes <= 0) {
+            throw new IllegalArgumentException("Illegal checkpoint size: " + checkpointBytes);
+        }
+        Files.createDirectories(directory);
+        Path snapshot = directory.resolve(SNAPSHOT_FILE);
+        ConcurrentHashMap<String, String> map = Files.exists(snapshot)
+                ? new ConcurrentHashMap<>(StringMapCodec.readFile(snapshot))
+                : new ConcurrentHashMap<>();
+        Path logFile = directory.resolve(LOG_FILE);
+        boolean created = !Files.exists(logFile);
+        FileChannel log = FileChannel.open(logFile, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (created) {
+                // A new file's directory entry is not durable until the directory is forced;
+                // without it a crash could lose the log along with records forced into it
+                forceDirectory(directory);
+            }
+            long valid = replay(log, map);
+            if (valid < log.size()) {
+                // Torn or corrupt tail from a crash mid-write; it was never acknowledged
+                log.truncate(valid);
+                log.force(true);
+            }
+            log.position(valid);
+            return new DurableMap(directory, map, log, valid, batchWindow, checkpointBytes);
+        } catch (IOException | RuntimeException e) {
+            log.close();
+            throw e;
+        }
+    }
+
+    // Applies every intact record and returns the position just past the last one
+    private static long replay(FileChannel log, Map<String, String> map) throws IOException {
+        long size = log.size();
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+        CRC32C crc = new CRC32C();
+        long position = 0;
+        while (position + RECORD_HEADER_SIZE <= size) {
+            header.clear();
+            readFully(log, header, position);
+            int length = header.getInt(0);
+            if (length <= 0 || position + RECORD_HEADER_SIZE + length > size) {
+                break;
+            }
+            ByteBuffer payload = ByteBuffer.allocate(length);
+            readFully(log, payload, position + RECORD_HEADER_SIZE);
+            crc.reset();
+            crc.update(payload.array(), 0, length);
+            if ((int) crc.getValue() != header.getInt(4)) {
+                break;
+            }
+            payload.flip();
+            apply(payload, map);
+            position += RECORD_HEADER_SIZE + length;
+        }
+        return position;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int n = channel.read(buffer, position);
+            if (n < 0) {
+                throw new IOException("Unexpected end of log");
+            }
+            position += n;
+        }
+    }
+
+    private static void apply(ByteBuffer payload, Map<String, String> map) throws IOException {
+        byte op = payload.get();
+        switch (op) {
+            case PUT:
+                String key = StringMapCodec.getString(payload, null);
+                map.put(key, StringMapCodec.getString(payload, null));
+                break;
+            case REMOVE:
+                map.remove(StringMapCodec.getString(payload, null));
+                break;
+            case CLEAR:
+                map.clear();
+                break;
+            default:
+                throw new IOException("Unknown log record type: " + op);
+        }
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public String get(Object key) {
+        return map.get(key);
+    }
+
+    @Override
+    public String put(String key, String value) {
+        Objects.requireNonNull(key, "DurableMap does not allow null keys");
+        Objects.requireNonNull(value, "DurableMap does not allow null values");
+        lock.lock();
+        try {
+            ensureWritable();
+            long end = append(PUT, key, value);
+            String old = map.put(key, value);
+            awaitDurable(end);
+            return old;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // All entries share one log sync
+    @Override
+    public void putAll(Map<? extends String, ? extends String> entries) {
+        lock.lock();
+        try {
+            ensureWritable();
+            long end = appendedPosition;
+            for (Map.Entry<? extends String, ? extends String> e : entries.entrySet()) {
+                String key = Objects.requireNonNull(e.getKey(), "DurableMap does not allow null keys");
+                String value = Objects.requireNonNull(e.getValue(), "DurableMap does not allow null values");
+                end = append(PUT, key, value);
+                map.put(key, value);
+            }
+            awaitDurable(end);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String remove(Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+        lock.lock();
+        try {
+            ensureWritable();
+            if (!map.containsKey(key)) {
+                return null;
+            }
+            long end = append(REMOVE, (String) key, null);
+            String old = map.remove(key);
+            awaitDurable(end);
+            return old;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            ensureWritable();
+            long end = append(CLEAR, null, null);
+            map.clear();
+            awaitDurable(end);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<String, String>> entrySet() {
+        return Collections.unmodifiableMap(map).entrySet();
+    }
+
+    private void ensureWritable() {
+        if (closed) {
+            throw new IllegalStateException("DurableMap is closed");
+        }
+        if (failure != null) {
+            throw new UncheckedIOException("DurableMap log failed", failure);
+        }
+    }
+
+    // Encodes one record into the pending buffer and returns the log position after it
+    private long append(byte op, String key, String value) {
+        int start = pending.position();
+        pending = ensureCapacity(pending, RECORD_HEADER_SIZE + 1);
+        pending.position(start + RECORD_HEADER_SIZE);
+        pending.put(op);
+        if (op != CLEAR) {
+            pending = StringMapCodec.putString(pending, key);
+        }
+        if (op == PUT) {
+            pending = StringMapCodec.putString(pending, value);
+        }
+        int length = pending.position() - start - RECORD_HEADER_SIZE;
+        CRC32C crc = new CRC32C();
+        crc.update(pending.array(), start + RECORD_HEADER_SIZE, length);
+        pending.putInt(start, length);
+        pending.putInt(start + 4, (int) crc.getValue());
+        appendedPosition += RECORD_HEADER_SIZE + length;
+        return appendedPosition;
+    }
+
+    private static ByteBuffer ensureCapacity(ByteBuffer buffer, int needed) {
+        if (buffer.remaining() >= needed) {
+            return buffer;
+        }
+        ByteBuffer larger = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + needed));
+        return larger.put(buffer.flip());
+    }
+
+    // Called with the lock held; returns once the log is forced up to end
+    private void awaitDurable(long end) {
+        boolean interrupted = false;
+        try {
+            while (durablePosition < end) {
+                if (failure != null) {
+                    throw new UncheckedIOException("DurableMap log failed", failure);
+                }
+                if (syncing) {
+                    try {
+                        synced.await();
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                    continue;
+                }
+                syncing = true;
+                try {
+                    if (batchWindowNanos > 0) {
+                        // Let other writers append to this batch; spurious wakeups just end the window early
+                        synced.awaitNanos(batchWindowNanos);
+                    }
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+                sync();
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    // Leader: writes and forces everything pending with the lock released
+    private void sync() {
+        ByteBuffer batch = pending;
+        pending = spare;
+        pending.clear();
+        long target = appendedPosition;
+        lock.unlock();
+        IOException error = null;
+        try {
+            batch.flip();
+            while (batch.hasRemaining()) {
+                log.write(batch);
+            }
+            log.force(false);
+        } catch (IOException e) {
+            error = e;
+        } finally {
+            lock.lock();
+        }
+        batch.clear();
+        spare = batch;
+        syncing = false;
+        syncCount++;
+        if (error != null) {
+            failure = error;
+        } else {
+            durablePosition = target;
+            if (durablePosition - checkpointPosition >= checkpointBytes && appendedPosition == durablePosition) {
+                try {
+                    checkpointLocked();
+                } catch (IOException e) {
+                    failure = e;
+                }
+            }
+        }
+        synced.signalAll();
+    }
+
+    // Writes a snapshot of the current map and empties the log
+    public void checkpoint() throws IOException {
+        lock.lock();
+        try {
+            ensureWritable();
+            // Wait until no batch is pending or in flight, so the map matches the log
+            while (syncing || durablePosition < appendedPosition) {
+                awaitDurable(appendedPosition);
+                ensureWritable();
+            }
+            checkpointLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Called with the lock held and nothing pending, so the map matches the log exactly
+    private void checkpointLocked() throws IOException {
+        Path temporary = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        try (FileChannel out = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            StringMapCodec.write(map, out);
+            out.force(true);
+        }
+        Files.move(temporary, directory.resolve(SNAPSHOT_FILE),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        // The rename only survives a crash once the directory is forced. Truncating the log
+        // first could leave the old snapshot next to an empty log after a power loss,
+        // losing every write since the previous checkpoint.
+        forceDirectory(directory);
+        log.truncate(0);
+        log.position(0);
+        log.force(true);
+        checkpointPosition = durablePosition;
+    }
+
+    private static void forceDirectory(Path directory) throws IOException {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+
+    // Number of log forces so far; batches per sync = writes / syncCount
+    public long syncCount() {
+        lock.lock();
+        try {
+            return syncCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            if (failure == null) {
+                awaitDurable(appendedPosition);
+            }
+            closed = true;
+            log.close();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
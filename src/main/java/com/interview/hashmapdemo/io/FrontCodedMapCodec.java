@@ -0,0 +1,249 @@
+package com.interview.hashmapdemo.io;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+// Compressed snapshot format for Map<String, String> whose keys share long prefixes,
+// like the "key" + i keys in HashCollisionProblem, and whose values repeat. Java
+// serialization and StringMapCodec both write every key in full; here the keys are
+// sorted and front-coded, and repeated values are written once in a dictionary:
+//
+//   int magic, int version, int count, int dictionarySize
+//   dictionarySize x value, each a StringMapCodec string, most frequent first
+//   count x entry, in key order:
+//     varint shared    bytes shared with the previous key's UTF-8
+//     varint suffix    (suffix length + 1), 0 for the null key, which sorts first
+//     suffix bytes
+//     varint value     0 for null, 1 for a string that follows inline,
+//                      2 + i for dictionary value i
+//
+// "key123456" after "key123455" costs 3 bytes instead of 10. Values seen at least
+// twice go into the dictionary, so a repeated value costs one or two bytes, and the
+// decoded map shares a single String instance for it.
+//
+// Decoding only needs the previous key, so entries stream through a fixed-size buffer
+// (see MapEntryReader.fromFrontCoded). Writing sorts the entries, so it holds an array
+// of them in memory next to the map.
+public final class FrontCodedMapCodec {
+    static final int MAGIC = 0x484D4643; // "HMFC"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 16;
+    private static final int NULL_VALUE = 0;
+    private static final int INLINE_VALUE = 1;
+    private static final int FIRST_DICTIONARY_REF = 2;
+    // Shared length, suffix length and value reference
+    private static final int ENTRY_PREFIX_SIZE = 3 * StringMapCodec.MAX_VARINT_SIZE;
+    // The same three as one-byte varints
+    private static final int MIN_ENTRY_SIZE = 3;
+
+    private FrontCodedMapCodec() {
+    }
+
+    public static void write(Map<String, String> map, WritableByteChannel channel) throws IOException {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Map.Entry<String, String>[] entries = map.entrySet().toArray(new Map.Entry[0]);
+        if (entries.length != map.size()) {
+            throw new ConcurrentModificationException();
+        }
+        Arrays.sort(entries, Map.Entry.comparingByKey(Comparator.nullsFirst(Comparator.naturalOrder())));
+        String[] dictionary = dictionary(entries);
+        HashMap<String, Integer> refs = new HashMap<>(StringMapCodec.capacityFor(dictionary.length));
+        for (int i = 0; i < dictionary.length; i++) {
+            refs.put(dictionary[i], FIRST_DICTIONARY_REF + i);
+        }
+
+        // Direct, so FileChannel writes it without another copy
+        ByteBuffer buffer = ByteBuffer.allocateDirect(StringMapCodec.STREAM_BUFFER_SIZE);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(entries.length).putInt(dictionary.length);
+        for (String value : dictionary) {
+            StringMapCodec.writeString(value, buffer, channel);
+        }
+        byte[] previous = new byte[0];
+        for (Map.Entry<String, String> entry : entries) {
+            if (buffer.remaining() < ENTRY_PREFIX_SIZE) {
+                StringMapCodec.flush(buffer, channel);
+            }
+            String key = entry.getKey();
+            if (key == null) {
+                StringMapCodec.putVarint(buffer, 0);
+                StringMapCodec.putVarint(buffer, 0);
+            } else {
+                byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+                // -1 only for identical keys, which a map cannot hold twice
+                int shared = Arrays.mismatch(previous, bytes);
+                if (shared < 0) {
+                    shared = bytes.length;
+                }
+                StringMapCodec.putVarint(buffer, shared);
+                StringMapCodec.putVarint(buffer, bytes.length - shared + 1);
+                StringMapCodec.writeBytes(bytes, shared, bytes.length - shared, buffer, channel);
+                previous = bytes;
+            }
+            if (buffer.remaining() < StringMapCodec.MAX_VARINT_SIZE) {
+                StringMapCodec.flush(buffer, channel);
+            }
+            String value = entry.getValue();
+            Integer ref = refs.get(value);
+            if (value == null) {
+                StringMapCodec.putVarint(buffer, NULL_VALUE);
+            } else if (ref == null) {
+                StringMapCodec.putVarint(buffer, INLINE_VALUE);
+                StringMapCodec.writeString(value, buffer, channel);
+            } else {
+                StringMapCodec.putVarint(buffer, ref);
+            }
+        }
+        StringMapCodec.flush(buffer, channel);
+    }
+
+    // Values that occur at least twice, most frequent first so they get one-byte refs
+    private static String[] dictionary(Map.Entry<String, String>[] entries) {
+        HashMap<String, int[]> counts = new HashMap<>();
+        for (Map.Entry<String, String> entry : entries) {
+            if (entry.getValue() != null) {
+                counts.computeIfAbsent(entry.getValue(), v -> new int[1])[0]++;
+            }
+        }
+        return counts.entrySet().stream()
+                .filter(e -> e.getValue()[0] > 1)
+                .sorted((a, b) -> Integer.compare(b.getValue()[0], a.getValue()[0]))
+                .map(Map.Entry::getKey)
+                .toArray(String[]::new);
+    }
+
+    public static HashMap<String, String> read(ReadableByteChannel channel) throws IOException {
+        Decoder decoder = new Decoder(channel);
+        HashMap<String, String> map = new HashMap<>(StringMapCodec.capacityFor(decoder.presizeEntries()));
+        while (decoder.hasNext()) {
+            decoder.advance();
+            map.put(decoder.key, decoder.value);
+        }
+        return map;
+    }
+
+    public static void writeFile(Map<String, String> map, Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            write(map, channel);
+        }
+    }
+
+    public static HashMap<String, String> readFile(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return read(channel);
+        }
+    }
+
+    // Pulls one entry at a time into key and value; shared by read and MapEntryReader
+    static final class Decoder {
+        private final ReadableByteChannel channel;
+        // Heap, so readString decodes straight from the backing array
+        private final ByteBuffer buffer = ByteBuffer.allocate(StringMapCodec.STREAM_BUFFER_SIZE).flip();
+        private final int count;
+        private final String[] dictionary;
+        private byte[] keyBytes = new byte[64];
+        private int keyLength;
+        private int read;
+        String key;
+        String value;
+
+        Decoder(ReadableByteChannel channel) throws IOException {
+            this.channel = channel;
+            StringMapCodec.fill(buffer, channel, HEADER_SIZE);
+            int magic = buffer.getInt();
+            if (magic != MAGIC) {
+                throw new StreamCorruptedException(String.format("Invalid map header magic: 0x%08X", magic));
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new StreamCorruptedException("Unsupported map format version: " + version);
+            }
+            count = buffer.getInt();
+            int dictionarySize = buffer.getInt();
+            if (count < 0 || dictionarySize < 0 || dictionarySize > count) {
+                throw new StreamCorruptedException("Invalid entry count: " + count + ", dictionary size: " + dictionarySize);
+            }
+            // Each string takes at least its one-byte length. Grown as strings arrive when
+            // the channel cannot show that they fit.
+            String[] strings = new String[StringMapCodec.presizeEntries(dictionarySize, buffer, channel, 1)];
+            for (int i = 0; i < dictionarySize; i++) {
+                if (i == strings.length) {
+                    strings = Arrays.copyOf(strings, (int) Math.min((long) strings.length * 2, dictionarySize));
+                }
+                strings[i] = StringMapCodec.readString(buffer, channel);
+            }
+            dictionary = strings;
+        }
+
+        int count() {
+            return count;
+        }
+
+        // Entries left, bounded as StringMapCodec.presizeEntries does
+        int presizeEntries() throws IOException {
+            return StringMapCodec.presizeEntries(count - read, buffer, channel, MIN_ENTRY_SIZE);
+        }
+
+        boolean hasNext() {
+            return read < count;
+        }
+
+        void advance() throws IOException {
+            if (read >= count) {
+                throw new NoSuchElementException();
+            }
+            int shared = StringMapCodec.getVarint(buffer, channel);
+            int suffix = StringMapCodec.getVarint(buffer, channel) - 1;
+            if (suffix == -1 && shared == 0 && read == 0) {
+                key = null;
+            } else {
+                if (suffix < 0 || shared < 0 || shared > keyLength) {
+                    throw new StreamCorruptedException("Invalid key prefix: " + shared + ", suffix: " + suffix);
+                }
+                int length = shared + suffix;
+                if (length < 0) {
+                    throw new StreamCorruptedException("Invalid key length");
+                }
+                readBytes(shared, suffix);
+                keyLength = length;
+                key = new String(keyBytes, 0, length, StandardCharsets.UTF_8);
+            }
+            int ref = StringMapCodec.getVarint(buffer, channel);
+            if (ref == NULL_VALUE) {
+                value = null;
+            } else if (ref == INLINE_VALUE) {
+                value = StringMapCodec.readString(buffer, channel);
+            } else if (ref >= FIRST_DICTIONARY_REF && ref - FIRST_DICTIONARY_REF < dictionary.length) {
+                value = dictionary[ref - FIRST_DICTIONARY_REF];
+            } else {
+                throw new StreamCorruptedException("Invalid value reference: " + ref);
+            }
+            read++;
+        }
+
+        // keyBytes grows with the bytes that actually arrive, not with the suffix length,
+        // which a corrupt stream could set near 2^31
+        private void readBytes(int offset, int length) throws IOException {
+            while (length > 0) {
+                if (!buffer.hasRemaining()) {
+                    StringMapCodec.fill(buffer, channel, 1);
+                }
+                int n = Math.min(buffer.remaining(), length);
+                if (offset + n > keyBytes.length) {
+                    keyBytes = Arrays.copyOf(keyBytes, Math.max(offset + n, keyBytes.length * 2));
+                }
+                buffer.get(keyBytes, offset, n);
+                offset += n;
+                length -= n;
+            }
+        }
+    }
+}
@@ -0,0 +1,352 @@
+package com.interview.hashmapdemo.io;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// Reads the entries of a serialized map one at a time instead of building the map,
+// so a snapshot can be filtered, aggregated or re-sharded while it is being read.
+// Close the reader (or the stream() view) to release the underlying file.
+//
+// Three formats are supported:
+//
+//   StringMapCodec     pulled straight from the channel through one fixed-size buffer,
+//                      so memory stays constant however large the snapshot is
+//   FrontCodedMapCodec the same, plus the value dictionary and the previous key
+//   Java serialization a HashMap written by ObjectOutputStream, as in
+//                      SerializationProblem. HashMap.readObject pushes entries from
+//                      inside ObjectInputStream, so a producer thread runs it and hands
+//                      entries over through a bounded queue of batches. The HashMap is
+//                      never built, but ObjectInputStream's back-reference table still
+//                      holds every key and value it has read. Keys and values that
+//                      are themselves HashMaps are rejected.
+public abstract class MapEntryReader<K, V> implements Iterator<Map.Entry<K, V>>, Closeable {
+
+    MapEntryReader() {
+    }
+
+    public static MapEntryReader<String, String> fromCodec(ReadableByteChannel channel) throws IOException {
+        return new CodecReader(channel);
+    }
+
+    public static MapEntryReader<String, String> fromCodecFile(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new CodecReader(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public static MapEntryReader<String, String> fromFrontCoded(ReadableByteChannel channel) throws IOException {
+        return new FrontCodedReader(channel);
+    }
+
+    public static MapEntryReader<String, String> fromFrontCodedFile(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new FrontCodedReader(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    // The stream must hold a java.util.HashMap; the caller vouches for K and V
+    public static <K, V> MapEntryReader<K, V> fromJavaSerialization(InputStream in) {
+        return new SerializedReader<>(in);
+    }
+
+    public static <K, V> MapEntryReader<K, V> fromJavaSerializationFile(Path path) throws IOException {
+        return new SerializedReader<>(new BufferedInputStream(Files.newInputStream(path)));
+    }
+
+    // Number of entries the header announces, or -1 if not known up front
+    public long expectedSize() {
+        return -1;
+    }
+
+    // Sequential stream over the remaining entries; closing it closes this reader
+    public Stream<Map.Entry<K, V>> stream() {
+        long size = expectedSize();
+        Spliterator<Map.Entry<K, V>> spliterator = size >= 0
+                ? Spliterators.spliterator(this, size, Spliterator.ORDERED)
+                : Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED);
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            try {
+                close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static final class CodecReader extends MapEntryReader<String, String> {
+        private final ReadableByteChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(StringMapCodec.STREAM_BUFFER_SIZE).flip();
+        private final int count;
+        private int read;
+
+        CodecReader(ReadableByteChannel channel) throws IOException {
+            this.channel = channel;
+            StringMapCodec.fill(buffer, channel, StringMapCodec.HEADER_SIZE);
+            this.count = StringMapCodec.readHeader(buffer);
+        }
+
+        @Override
+        public long expectedSize() {
+            return count;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return read < count;
+        }
+
+        @Override
+        public Map.Entry<String, String> next() {
+            if (read >= count) {
+                throw new NoSuchElementException();
+            }
+            try {
+                String key = StringMapCodec.readString(buffer, channel);
+                String value = StringMapCodec.readString(buffer, channel);
+                read++;
+                return new AbstractMap.SimpleImmutableEntry<>(key, value);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    private static final class FrontCodedReader extends MapEntryReader<String, String> {
+        private final ReadableByteChannel channel;
+        private final FrontCodedMapCodec.Decoder decoder;
+
+        FrontCodedReader(ReadableByteChannel channel) throws IOException {
+            this.channel = channel;
+            this.decoder = new FrontCodedMapCodec.Decoder(channel);
+        }
+
+        @Override
+        public long expectedSize() {
+            return decoder.count();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return decoder.hasNext();
+        }
+
+        @Override
+        public Map.Entry<String, String> next() {
+            try {
+                decoder.advance();
+                return new AbstractMap.SimpleImmutableEntry<>(decoder.key, decoder.value);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    private static final class SerializedReader<K, V> extends MapEntryReader<K, V> {
+        private static final int BATCH_SIZE = 256;
+        private static final int QUEUE_BATCHES = 4;
+        // Marks the end of the entries, normal or not
+        private static final List<Map.Entry<?, ?>> END = Collections.emptyList();
+
+        private final InputStream in;
+        private final BlockingQueue<List<Map.Entry<?, ?>>> queue = new ArrayBlockingQueue<>(QUEUE_BATCHES);
+        private final Thread producer;
+        private volatile Exception failure;
+        private volatile boolean closed;
+        private Iterator<Map.Entry<?, ?>> batch = Collections.emptyIterator();
+        private boolean done;
+
+        SerializedReader(InputStream in) {
+            this.in = in;
+            this.producer = new Thread(this::produce, "map-entry-reader");
+            producer.setDaemon(true);
+            producer.start();
+        }
+
+        private void produce() {
+            try (EntryInputStream entries = new EntryInputStream(in, this::publish)) {
+                Object top = entries.readObject();
+                if (!(top instanceof HashMapStandIn)) {
+                    throw new StreamCorruptedException("Not a serialized HashMap: "
+                            + (top == null ? "null" : top.getClass().getName()));
+                }
+                entries.flush();
+            } catch (InterruptedIOException e) {
+                if (closed) {
+                    // Closed by the consumer; nobody is waiting for the end marker
+                    return;
+                }
+                // Not our interrupt, e.g. a SocketTimeoutException: report it like any failure
+                failure = e;
+            } catch (IOException | ClassNotFoundException | RuntimeException e) {
+                if (!closed) {
+                    failure = e;
+                }
+            }
+            try {
+                queue.put(END);
+            } catch (InterruptedException e) {
+                // Closed by the consumer; nobody is waiting for the end marker
+            }
+        }
+
+        private void publish(List<Map.Entry<?, ?>> entries) throws InterruptedIOException {
+            try {
+                queue.put(entries);
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException("Map entry reader closed");
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!batch.hasNext()) {
+                if (done) {
+                    return false;
+                }
+                List<Map.Entry<?, ?>> next;
+                try {
+                    next = queue.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new UncheckedIOException(new InterruptedIOException("Interrupted reading map entries"));
+                }
+                if (next == END) {
+                    done = true;
+                    Exception e = failure;
+                    if (e instanceof IOException) {
+                        throw new UncheckedIOException((IOException) e);
+                    }
+                    if (e != null) {
+                        throw new UncheckedIOException(new IOException("Failed to read serialized map", e));
+                    }
+                    return false;
+                }
+                batch = next.iterator();
+            }
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Map.Entry<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return (Map.Entry<K, V>) batch.next();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                done = true;
+                batch = Collections.emptyIterator();
+                producer.interrupt();
+                in.close();
+            }
+        }
+    }
+
+    private interface BatchSink {
+        void accept(List<Map.Entry<?, ?>> batch) throws InterruptedIOException;
+    }
+
+    // Swaps HashMap's class descriptor for HashMapStandIn's, whose readObject hands each
+    // entry to the sink instead of inserting it. The field layout (loadFactor, threshold)
+    // and the custom data written by HashMap.writeObject are the same, so the rest of the
+    // stream reads unchanged.
+    private static final class EntryInputStream extends ObjectInputStream {
+        private final BatchSink sink;
+        private List<Map.Entry<?, ?>> pending = new ArrayList<>(SerializedReader.BATCH_SIZE);
+        boolean started;
+
+        EntryInputStream(InputStream in, BatchSink sink) throws IOException {
+            super(in);
+            this.sink = sink;
+        }
+
+        @Override
+        protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+            ObjectStreamClass desc = super.readClassDescriptor();
+            if (desc.getName().equals("java.util.HashMap")) {
+                return ObjectStreamClass.lookup(HashMapStandIn.class);
+            }
+            return desc;
+        }
+
+        void add(Object key, Object value) throws InterruptedIOException {
+            pending.add(new AbstractMap.SimpleImmutableEntry<>(key, value));
+            if (pending.size() == SerializedReader.BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() throws InterruptedIOException {
+            if (!pending.isEmpty()) {
+                sink.accept(pending);
+                pending = new ArrayList<>(SerializedReader.BATCH_SIZE);
+            }
+        }
+    }
+
+    // Mirrors the serialized form of java.util.HashMap
+    private static final class HashMapStandIn implements Serializable {
+        private static final long serialVersionUID = 362498820763181265L;
+
+        private float loadFactor;
+        private int threshold;
+
+        private void readObject(ObjectInputStream s) throws IOException, ClassNotFoundException {
+            s.defaultReadObject();
+            s.readInt(); // buckets
+            int mappings = s.readInt();
+            if (mappings < 0) {
+                throw new InvalidObjectException("Illegal mappings count: " + mappings);
+            }
+            EntryInputStream entries = (EntryInputStream) s;
+            // The substituted descriptor applies to every HashMap in the stream
+            if (entries.started) {
+                throw new InvalidObjectException("Nested HashMap keys or values are not supported");
+            }
+            entries.started = true;
+            for (int i = 0; i < mappings; i++) {
+                Object key = s.readObject();
+                Object value = s.readObject();
+                entries.add(key, value);
+            }
+        }
+
+        // Present so the descriptor declares custom write data, as HashMap's does
+        private void writeObject(ObjectOutputStream s) throws IOException {
+            throw new NotSerializableException(HashMapStandIn.class.getName());
+        }
+    }
+}
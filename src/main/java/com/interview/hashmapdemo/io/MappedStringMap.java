@@ -0,0 +1,561 @@
+package com.interview.hashmapdemo.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+// Persistent Map<String, String> whose hash table and entries live in a memory-mapped
+// file. Opening an existing file maps it and validates the header; nothing is parsed
+// or rehashed, and the data stays off the Java heap. Lookups decode only the entry
+// they find, and updates write straight into the mapping.
+//
+// File layout:
+//
+//   header   magic, version, slotCount, size, tombstones, dataEnd, garbage (ints)
+//   slots    slotCount x (int hash, int record offset), linear probing
+//   records  appended: int key length, int value length, UTF-8 key, UTF-8 value
+//
+// A value of the same encoded length is overwritten in place; any other replacement
+// appends a new record and leaves the old one as garbage. When the slot table gets
+// too full, or the data area has to grow while at least half of it is garbage, the
+// map writes a fresh file next to the old one, forces it and renames it over the
+// original. That also compacts away the garbage.
+//
+// Changes reach the disk when the OS writes back dirty pages, or when force() is
+// called. A single mapping is limited to 2GB. Null keys and values are not supported.
+// Not thread-safe.
+public class MappedStringMap extends AbstractMap<String, String> implements Closeable {
+    static final int MAGIC = 0x484D4D50; // "HMMP"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    private static final int SLOT_COUNT_OFFSET = 8;
+    private static final int SIZE_OFFSET = 12;
+    private static final int TOMBSTONES_OFFSET = 16;
+    private static final int DATA_END_OFFSET = 20;
+    private static final int GARBAGE_OFFSET = 24;
+
+    private static final int SLOT_SIZE = 8;
+    private static final int RECORD_HEADER_SIZE = 8;
+    private static final int EMPTY = 0;
+    private static final int DELETED = 1;
+    private static final float MAX_LOAD = 0.7f;
+    private static final int MINIMUM_SLOTS = 16;
+    private static final int MINIMUM_DATA_CAPACITY = 1 << 16;
+    private static final long MAX_FILE_SIZE = Integer.MAX_VALUE;
+
+    private final Path path;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int slotMask;
+    private int dataStart;
+    private int modCount;
+    private Set<Map.Entry<String, String>> entrySet;
+
+    private MappedStringMap(Path path) {
+        this.path = path;
+    }
+
+    public static MappedStringMap open(Path path) throws IOException {
+        return open(path, 0);
+    }
+
+    // Creates the file sized for expectedEntries if it does not exist yet
+    public static MappedStringMap open(Path path, int expectedEntries) throws IOException {
+        if (expectedEntries < 0) {
+            throw new IllegalArgumentException("Illegal expected entries: " + expectedEntries);
+        }
+        MappedStringMap map = new MappedStringMap(path);
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (channel.size() == 0) {
+                int slots = slotsFor(expectedEntries);
+                long dataCapacity = Math.max(MINIMUM_DATA_CAPACITY, (long) expectedEntries * 32);
+                initialize(channel, slots, dataCapacity);
+            }
+            map.attach(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return map;
+    }
+
+    // Smallest power-of-two slot count that keeps entries under the maximum load
+    private static int slotsFor(int entries) {
+        long wanted = Math.max(MINIMUM_SLOTS, (long) Math.ceil(entries / MAX_LOAD) + 1);
+        if (wanted > 1 << 28) {
+            throw new IllegalStateException("MappedStringMap cannot hold " + entries + " entries");
+        }
+        return Integer.highestOneBit((int) wanted - 1) << 1;
+    }
+
+    private static MappedByteBuffer initialize(FileChannel channel, int slots, long dataCapacity) throws IOException {
+        long length = Math.min((long) HEADER_SIZE + (long) slots * SLOT_SIZE + dataCapacity, MAX_FILE_SIZE);
+        // Mapping beyond the end extends the file with zeros, so every slot starts EMPTY
+        MappedByteBuffer target = channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+        target.putInt(0, MAGIC);
+        target.putInt(4, VERSION);
+        target.putInt(SLOT_COUNT_OFFSET, slots);
+        target.putInt(SIZE_OFFSET, 0);
+        target.putInt(TOMBSTONES_OFFSET, 0);
+        target.putInt(DATA_END_OFFSET, HEADER_SIZE + slots * SLOT_SIZE);
+        target.putInt(GARBAGE_OFFSET, 0);
+        return target;
+    }
+
+    private void attach(FileChannel channel) throws IOException {
+        long length = channel.size();
+        if (length < HEADER_SIZE || length > MAX_FILE_SIZE) {
+            throw new StreamCorruptedException("Invalid mapped map file length: " + length);
+        }
+        MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+        if (mapped.getInt(0) != MAGIC) {
+            throw new StreamCorruptedException(String.format("Invalid mapped map magic: 0x%08X", mapped.getInt(0)));
+        }
+        if (mapped.getInt(4) != VERSION) {
+            throw new StreamCorruptedException("Unsupported mapped map version: " + mapped.getInt(4));
+        }
+        int slots = mapped.getInt(SLOT_COUNT_OFFSET);
+        if (slots < MINIMUM_SLOTS || Integer.bitCount(slots) != 1
+                || HEADER_SIZE + (long) slots * SLOT_SIZE > mapped.getInt(DATA_END_OFFSET)
+                || mapped.getInt(DATA_END_OFFSET) > length) {
+            throw new StreamCorruptedException("Inconsistent mapped map header");
+        }
+        this.channel = channel;
+        this.buffer = mapped;
+        this.slotMask = slots - 1;
+        this.dataStart = HEADER_SIZE + slots * SLOT_SIZE;
+    }
+
+    // String.hashCode is specified by the JLS, so files stay valid across JVMs
+    static int hash(String key) {
+        int h = key.hashCode() * 0x9E3779B9;
+        h ^= h >>> 16;
+        return h == EMPTY || h == DELETED ? h + 2 : h;
+    }
+
+    private void ensureOpen() {
+        if (buffer == null) {
+            throw new IllegalStateException("MappedStringMap is closed");
+        }
+    }
+
+    private static int slotPosition(int slot) {
+        return HEADER_SIZE + slot * SLOT_SIZE;
+    }
+
+    private int header(int offset) {
+        return buffer.getInt(offset);
+    }
+
+    private void setHeader(int offset, int value) {
+        buffer.putInt(offset, value);
+    }
+
+    private int findSlot(byte[] key, int h) {
+        for (int slot = h & slotMask; ; slot = (slot + 1) & slotMask) {
+            int position = slotPosition(slot);
+            int stored = buffer.getInt(position);
+            if (stored == EMPTY) {
+                return -1;
+            }
+            if (stored == h && keyEquals(buffer.getInt(position + 4), key)) {
+                return slot;
+            }
+        }
+    }
+
+    private boolean keyEquals(int record, byte[] key) {
+        if (buffer.getInt(record) != key.length) {
+            return false;
+        }
+        int start = record + RECORD_HEADER_SIZE;
+        for (int i = 0; i < key.length; i++) {
+            if (buffer.get(start + i) != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String readKey(int record) {
+        return readString(record + RECORD_HEADER_SIZE, buffer.getInt(record));
+    }
+
+    private String readValue(int record) {
+        return readString(record + RECORD_HEADER_SIZE + buffer.getInt(record), buffer.getInt(record + 4));
+    }
+
+    private String readString(int position, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(position, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int recordSize(int record) {
+        return RECORD_HEADER_SIZE + buffer.getInt(record) + buffer.getInt(record + 4);
+    }
+
+    @Override
+    public int size() {
+        ensureOpen();
+        return header(SIZE_OFFSET);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        ensureOpen();
+        if (!(key instanceof String)) {
+            return false;
+        }
+        String k = (String) key;
+        return findSlot(k.getBytes(StandardCharsets.UTF_8), hash(k)) >= 0;
+    }
+
+    @Override
+    public String get(Object key) {
+        ensureOpen();
+        if (!(key instanceof String)) {
+            return null;
+        }
+        String k = (String) key;
+        int slot = findSlot(k.getBytes(StandardCharsets.UTF_8), hash(k));
+        return slot < 0 ? null : readValue(buffer.getInt(slotPosition(slot) + 4));
+    }
+
+    @Override
+    public String put(String key, String value) {
+        ensureOpen();
+        Objects.requireNonNull(key, "MappedStringMap does not allow null keys");
+        Objects.requireNonNull(value, "MappedStringMap does not allow null values");
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        byte[] valueBytes = value.getBytes(StandardCharsets.UTF_8);
+        int h = hash(key);
+        int recordSize = RECORD_HEADER_SIZE + keyBytes.length + valueBytes.length;
+        int slot = findSlot(keyBytes, h);
+        if (slot >= 0) {
+            int record = buffer.getInt(slotPosition(slot) + 4);
+            String old = readValue(record);
+            if (buffer.getInt(record + 4) == valueBytes.length) {
+                buffer.put(record + RECORD_HEADER_SIZE + keyBytes.length, valueBytes);
+                return old;
+            }
+            int oldSize = recordSize(record);
+            if (reserve(recordSize)) {
+                // The file was rewritten, so every slot moved
+                slot = findSlot(keyBytes, h);
+                oldSize = recordSize(buffer.getInt(slotPosition(slot) + 4));
+            }
+            buffer.putInt(slotPosition(slot) + 4, append(keyBytes, valueBytes));
+            setHeader(GARBAGE_OFFSET, header(GARBAGE_OFFSET) + oldSize);
+            return old;
+        }
+        int size = header(SIZE_OFFSET);
+        if (size + header(TOMBSTONES_OFFSET) + 1 > (slotMask + 1) * MAX_LOAD) {
+            rewrite(slotsFor(size + 1));
+        }
+        reserve(recordSize);
+        int record = append(keyBytes, valueBytes);
+        insertSlot(buffer, slotMask, h, record);
+        setHeader(SIZE_OFFSET, size + 1);
+        modCount++;
+        return null;
+    }
+
+    // Claims the first EMPTY or DELETED slot for a key known to be absent
+    private static void insertSlot(ByteBuffer target, int mask, int h, int record) {
+        int slot = h & mask;
+        int stored;
+        while ((stored = target.getInt(slotPosition(slot))) != EMPTY && stored != DELETED) {
+            slot = (slot + 1) & mask;
+        }
+        if (stored == DELETED) {
+            target.putInt(TOMBSTONES_OFFSET, target.getInt(TOMBSTONES_OFFSET) - 1);
+        }
+        // Offset before hash, so the slot never names a record it does not point at yet
+        target.putInt(slotPosition(slot) + 4, record);
+        target.putInt(slotPosition(slot), h);
+    }
+
+    private int append(byte[] key, byte[] value) {
+        int record = header(DATA_END_OFFSET);
+        buffer.putInt(record, key.length);
+        buffer.putInt(record + 4, value.length);
+        buffer.put(record + RECORD_HEADER_SIZE, key);
+        buffer.put(record + RECORD_HEADER_SIZE + key.length, value);
+        setHeader(DATA_END_OFFSET, record + RECORD_HEADER_SIZE + key.length + value.length);
+        return record;
+    }
+
+    // Makes room for a record of the given size; returns true if the file was rewritten
+    private boolean reserve(int recordSize) {
+        if ((long) header(DATA_END_OFFSET) + recordSize <= buffer.capacity()) {
+            return false;
+        }
+        boolean rewritten = false;
+        if (header(GARBAGE_OFFSET) >= (header(DATA_END_OFFSET) - dataStart) / 2) {
+            rewrite(slotMask + 1);
+            rewritten = true;
+        }
+        long needed = (long) header(DATA_END_OFFSET) + recordSize;
+        if (needed > buffer.capacity()) {
+            if (needed > MAX_FILE_SIZE) {
+                throw new IllegalStateException("MappedStringMap files are limited to " + MAX_FILE_SIZE + " bytes");
+            }
+            long length = Math.min(Math.max((long) buffer.capacity() * 2, needed), MAX_FILE_SIZE);
+            try {
+                buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to grow " + path, e);
+            }
+        }
+        return rewritten;
+    }
+
+    // Copies every live record into a new file with the given slot count, then
+    // atomically replaces the original with it
+    private void rewrite(int slots) {
+        Path temporary = path.resolveSibling(path.getFileName() + ".rewrite");
+        int liveBytes = header(DATA_END_OFFSET) - dataStart - header(GARBAGE_OFFSET);
+        try {
+            try (FileChannel out = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                long dataCapacity = Math.max(MINIMUM_DATA_CAPACITY, (long) liveBytes * 2);
+                MappedByteBuffer target = initialize(out, slots, dataCapacity);
+                int mask = slots - 1;
+                int dataEnd = target.getInt(DATA_END_OFFSET);
+                for (int slot = 0; slot <= slotMask; slot++) {
+                    int h = buffer.getInt(slotPosition(slot));
+                    if (h == EMPTY || h == DELETED) {
+                        continue;
+                    }
+                    int record = buffer.getInt(slotPosition(slot) + 4);
+                    int size = recordSize(record);
+                    target.put(dataEnd, buffer, record, size);
+                    insertSlot(target, mask, h, dataEnd);
+                    dataEnd += size;
+                }
+                target.putInt(SIZE_OFFSET, header(SIZE_OFFSET));
+                target.putInt(DATA_END_OFFSET, dataEnd);
+                target.force();
+            }
+            channel.close();
+            buffer = null;
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            attach(FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE));
+            modCount++;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to rewrite " + path, e);
+        }
+    }
+
+    @Override
+    public String remove(Object key) {
+        ensureOpen();
+        if (!(key instanceof String)) {
+            return null;
+        }
+        String k = (String) key;
+        int slot = findSlot(k.getBytes(StandardCharsets.UTF_8), hash(k));
+        if (slot < 0) {
+            return null;
+        }
+        String old = readValue(buffer.getInt(slotPosition(slot) + 4));
+        removeSlot(slot);
+        return old;
+    }
+
+    private void removeSlot(int slot) {
+        int record = buffer.getInt(slotPosition(slot) + 4);
+        buffer.putInt(slotPosition(slot), DELETED);
+        setHeader(TOMBSTONES_OFFSET, header(TOMBSTONES_OFFSET) + 1);
+        setHeader(SIZE_OFFSET, header(SIZE_OFFSET) - 1);
+        setHeader(GARBAGE_OFFSET, header(GARBAGE_OFFSET) + recordSize(record));
+        modCount++;
+    }
+
+    @Override
+    public void clear() {
+        ensureOpen();
+        for (int position = HEADER_SIZE; position < dataStart; position += 4) {
+            buffer.putInt(position, EMPTY);
+        }
+        setHeader(SIZE_OFFSET, 0);
+        setHeader(TOMBSTONES_OFFSET, 0);
+        setHeader(DATA_END_OFFSET, dataStart);
+        setHeader(GARBAGE_OFFSET, 0);
+        modCount++;
+    }
+
+    // Rewrites the file without the garbage left by removals and replacements
+    public void compact() {
+        ensureOpen();
+        rewrite(slotMask + 1);
+    }
+
+    // Writes dirty pages of the mapping to the storage device
+    public void force() {
+        ensureOpen();
+        buffer.force();
+    }
+
+    // Forces and closes the file. The mapping itself is released when the buffer is
+    // garbage collected; Java offers no supported way to unmap it earlier.
+    @Override
+    public void close() throws IOException {
+        if (buffer != null) {
+            buffer.force();
+            buffer = null;
+            channel.close();
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<String, String>> entrySet() {
+        Set<Map.Entry<String, String>> es = entrySet;
+        return es != null ? es : (entrySet = new EntrySet());
+    }
+
+    private final class Entry implements Map.Entry<String, String> {
+        private final String key;
+        private String value;
+
+        Entry(String key, String value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+
+        @Override
+        public String setValue(String value) {
+            String old = this.value;
+            MappedStringMap.this.put(key, value);
+            this.value = value;
+            return old;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Map.Entry)) return false;
+            Map.Entry<?, ?> e = (Map.Entry<?, ?>) obj;
+            return Objects.equals(key, e.getKey()) && Objects.equals(value, e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(key) ^ Objects.hashCode(value);
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+
+    // Walks the slot table; removal only marks the slot DELETED, so nothing moves under it
+    private final class EntryIterator implements Iterator<Map.Entry<String, String>> {
+        private int slot = -1;
+        private int nextSlot;
+        private int expectedModCount = modCount;
+
+        EntryIterator() {
+            ensureOpen();
+            nextSlot = advance(0);
+        }
+
+        private int advance(int from) {
+            for (int s = from; s <= slotMask; s++) {
+                int h = buffer.getInt(slotPosition(s));
+                if (h != EMPTY && h != DELETED) {
+                    return s;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextSlot >= 0;
+        }
+
+        @Override
+        public Map.Entry<String, String> next() {
+            ensureOpen();
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (nextSlot < 0) {
+                throw new NoSuchElementException();
+            }
+            slot = nextSlot;
+            nextSlot = advance(slot + 1);
+            int record = buffer.getInt(slotPosition(slot) + 4);
+            return new Entry(readKey(record), readValue(record));
+        }
+
+        @Override
+        public void remove() {
+            if (slot < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeSlot(slot);
+            slot = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<String, String>> {
+        @Override
+        public Iterator<Map.Entry<String, String>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return MappedStringMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Map.Entry)) return false;
+            Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+            Object value = get(e.getKey());
+            return value != null && value.equals(e.getValue());
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            if (!contains(o)) return false;
+            MappedStringMap.this.remove(((Map.Entry<?, ?>) o).getKey());
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            MappedStringMap.this.clear();
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package com.interview.hashmapdemo.io;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Map;
+
+// Binary format for Map<String, String> that replaces ObjectOutputStream in
+// SerializationProblem. ObjectOutputStream writes class descriptors and lets
+// HashMap.readObject grow the table one resize at a time. This format is a fixed
+// header followed by the entries:
+//
+//   int magic, int version, int count
+//   count x (key, value), each string a varint of (UTF-8 length + 1), 0 for null,
+//   followed by the UTF-8 bytes
+//
+// The varint keeps the prefix to one byte for strings under 127 bytes, where a fixed
+// int prefix would cost more than ObjectOutputStream's two-byte string lengths.
+//
+// encode/decode work on a single ByteBuffer and are limited to 2GB. write/read stream
+// through a fixed-size buffer, so multi-GB snapshots never need one contiguous array.
+public final class StringMapCodec {
+    static final int MAGIC = 0x484D4150; // "HMAP"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 12;
+    static final int STREAM_BUFFER_SIZE = 1 << 16;
+    // Longest varint for an int length
+    static final int MAX_VARINT_SIZE = 5;
+    // Smallest encoded entry: a one-byte length for each of key and value
+    static final int MIN_ENTRY_SIZE = 2;
+    // Most entries a reader presizes for when it cannot see how many bytes are left. A
+    // header count is not trusted before the entries arrive: a corrupt count near 2^31
+    // would otherwise allocate a table of gigabytes. Larger maps grow as they are read.
+    static final int MAX_PRESIZE_ENTRIES = 1 << 16;
+    private static final int MAX_BUFFER_SIZE = Integer.MAX_VALUE - 8;
+
+    private StringMapCodec() {
+    }
+
+    public static ByteBuffer encode(Map<String, String> map) {
+        // Assume short ASCII strings; the buffer doubles if that guess is too small
+        long estimate = HEADER_SIZE + (long) map.size() * 40;
+        ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(estimate, MAX_BUFFER_SIZE));
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(map.size());
+        int written = 0;
+        for (Map.Entry<String, String> entry : map.entrySet()) {
+            buffer = putString(buffer, entry.getKey());
+            buffer = putString(buffer, entry.getValue());
+            written++;
+        }
+        if (written != map.size()) {
+            throw new ConcurrentModificationException();
+        }
+        return buffer.flip();
+    }
+
+    static ByteBuffer putString(ByteBuffer buffer, String s) {
+        if (s == null) {
+            return ensureCapacity(buffer, 1).put((byte) 0);
+        }
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        buffer = ensureCapacity(buffer, MAX_VARINT_SIZE + bytes.length);
+        putVarint(buffer, bytes.length + 1);
+        return buffer.put(bytes);
+    }
+
+    static void putVarint(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    // Reads a varint-encoded (length + 1) and returns the length, -1 for null
+    private static int getLength(ByteBuffer buffer, ReadableByteChannel channel) throws IOException {
+        return checkLength(getVarint(buffer, channel) - 1);
+    }
+
+    // With a channel the buffer is refilled as needed, otherwise running out is EOF
+    static int getVarint(ByteBuffer buffer, ReadableByteChannel channel) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            if (!buffer.hasRemaining()) {
+                if (channel == null) {
+                    throw new EOFException("Truncated map entry");
+                }
+                fill(buffer, channel, 1);
+            }
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new StreamCorruptedException("Malformed varint");
+    }
+
+    private static int checkLength(int length) throws IOException {
+        // A five-byte varint can overflow into the sign bit
+        if (length < -1) {
+            throw new StreamCorruptedException("Invalid string length: " + length);
+        }
+        return length;
+    }
+
+    private static ByteBuffer ensureCapacity(ByteBuffer buffer, int needed) {
+        if (buffer.remaining() >= needed) {
+            return buffer;
+        }
+        long capacity = Math.max((long) buffer.capacity() * 2, (long) buffer.position() + needed);
+        if ((long) buffer.position() + needed > MAX_BUFFER_SIZE) {
+            throw new IllegalStateException("Map does not fit in a single buffer; use write(map, channel)");
+        }
+        ByteBuffer larger = ByteBuffer.allocate((int) Math.min(capacity, MAX_BUFFER_SIZE));
+        return larger.put(buffer.flip());
+    }
+
+    public static HashMap<String, String> decode(ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < HEADER_SIZE) {
+            throw new EOFException("Truncated map header");
+        }
+        int count = readHeader(buffer);
+        if (count > buffer.remaining() / MIN_ENTRY_SIZE) {
+            throw new StreamCorruptedException("Entry count " + count + " exceeds the "
+                    + buffer.remaining() + " bytes that follow");
+        }
+        HashMap<String, String> map = new HashMap<>(capacityFor(count));
+        // Direct buffers are copied out through a reusable array before decoding
+        byte[] scratch = buffer.hasArray() ? null : new byte[1024];
+        for (int i = 0; i < count; i++) {
+            String key = getString(buffer, scratch);
+            map.put(key, getString(buffer, scratch));
+        }
+        return map;
+    }
+
+    static String getString(ByteBuffer buffer, byte[] scratch) throws IOException {
+        int length = getLength(buffer, null);
+        if (length < 0) {
+            return null;
+        }
+        if (buffer.remaining() < length) {
+            throw new EOFException("Truncated map entry");
+        }
+        String s;
+        if (buffer.hasArray()) {
+            // Heap buffer: decode straight from the backing array
+            s = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+        } else {
+            byte[] bytes = scratch.length >= length ? scratch : new byte[length];
+            buffer.get(bytes, 0, length);
+            s = new String(bytes, 0, length, StandardCharsets.UTF_8);
+        }
+        return s;
+    }
+
+    static int readHeader(ByteBuffer buffer) throws IOException {
+        int magic = buffer.getInt();
+        if (magic != MAGIC) {
+            throw new StreamCorruptedException(String.format("Invalid map header magic: 0x%08X", magic));
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new StreamCorruptedException("Unsupported map format version: " + version);
+        }
+        int count = buffer.getInt();
+        if (count < 0) {
+            throw new StreamCorruptedException("Invalid entry count: " + count);
+        }
+        return count;
+    }
+
+    // Initial capacity at which HashMap holds count entries without resizing
+    static int capacityFor(int count) {
+        return (int) Math.min((long) Math.ceil(count / 0.75), Integer.MAX_VALUE);
+    }
+
+    public static void write(Map<String, String> map, WritableByteChannel channel) throws IOException {
+        // Direct, so FileChannel writes it without another copy
+        ByteBuffer buffer = ByteBuffer.allocateDirect(STREAM_BUFFER_SIZE);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(map.size());
+        int written = 0;
+        for (Map.Entry<String, String> entry : map.entrySet()) {
+            writeString(entry.getKey(), buffer, channel);
+            writeString(entry.getValue(), buffer, channel);
+            written++;
+        }
+        if (written != map.size()) {
+            throw new ConcurrentModificationException();
+        }
+        flush(buffer, channel);
+    }
+
+    static void writeString(String s, ByteBuffer buffer, WritableByteChannel channel) throws IOException {
+        if (buffer.remaining() < MAX_VARINT_SIZE) {
+            flush(buffer, channel);
+        }
+        if (s == null) {
+            buffer.put((byte) 0);
+            return;
+        }
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        putVarint(buffer, bytes.length + 1);
+        writeBytes(bytes, 0, bytes.length, buffer, channel);
+    }
+
+    // Runs longer than the buffer are written in buffer-sized pieces
+    static void writeBytes(byte[] bytes, int offset, int length, ByteBuffer buffer, WritableByteChannel channel)
+            throws IOException {
+        int end = offset + length;
+        while (offset < end) {
+            if (!buffer.hasRemaining()) {
+                flush(buffer, channel);
+            }
+            int n = Math.min(buffer.remaining(), end - offset);
+            buffer.put(bytes, offset, n);
+            offset += n;
+        }
+    }
+
+    static void flush(ByteBuffer buffer, WritableByteChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    public static HashMap<String, String> read(ReadableByteChannel channel) throws IOException {
+        // Heap, so short strings decode straight from the backing array
+        ByteBuffer buffer = ByteBuffer.allocate(STREAM_BUFFER_SIZE).flip();
+        fill(buffer, channel, HEADER_SIZE);
+        int count = readHeader(buffer);
+        HashMap<String, String> map = new HashMap<>(capacityFor(presizeEntries(count, buffer, channel, MIN_ENTRY_SIZE)));
+        for (int i = 0; i < count; i++) {
+            String key = readString(buffer, channel);
+            map.put(key, readString(buffer, channel));
+        }
+        return map;
+    }
+
+    // How many of count entries, each at least minEntrySize bytes, to presize for. A file
+    // or other seekable channel shows whether they can all be there, so the count is
+    // checked and used in full; any other channel gets at most MAX_PRESIZE_ENTRIES.
+    static int presizeEntries(int count, ByteBuffer buffer, ReadableByteChannel channel, int minEntrySize)
+            throws IOException {
+        if (channel instanceof SeekableByteChannel seekable) {
+            long available = seekable.size() - seekable.position() + buffer.remaining();
+            if (count > available / minEntrySize) {
+                throw new StreamCorruptedException("Entry count " + count + " exceeds the "
+                        + available + " bytes that follow");
+            }
+            return count;
+        }
+        return Math.min(count, MAX_PRESIZE_ENTRIES);
+    }
+
+    static String readString(ByteBuffer buffer, ReadableByteChannel channel) throws IOException {
+        int length = getLength(buffer, channel);
+        if (length < 0) {
+            return null;
+        }
+        if (length <= buffer.capacity()) {
+            fill(buffer, channel, length);
+            String s = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+            return s;
+        }
+        // Larger than the buffer: drain what is buffered, then read the rest directly.
+        // The array grows as bytes arrive instead of trusting length up front, so a
+        // corrupt length ends in EOFException rather than a multi-GB allocation.
+        byte[] bytes = new byte[Math.min(length, buffer.capacity() * 2)];
+        int read = buffer.remaining();
+        buffer.get(bytes, 0, read);
+        while (read < length) {
+            if (read == bytes.length) {
+                bytes = Arrays.copyOf(bytes, (int) Math.min((long) bytes.length * 2, length));
+            }
+            int n = channel.read(ByteBuffer.wrap(bytes, read, bytes.length - read));
+            if (n < 0) {
+                throw new EOFException("Truncated map stream");
+            }
+            read += n;
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // Makes at least needed bytes readable; the buffer stays in read mode
+    static void fill(ByteBuffer buffer, ReadableByteChannel channel, int needed) throws IOException {
+        if (buffer.remaining() >= needed) {
+            return;
+        }
+        buffer.compact();
+        while (buffer.position() < needed) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Truncated map stream");
+            }
+        }
+        buffer.flip();
+    }
+
+    public static void writeFile(Map<String, String> map, Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            write(map, channel);
+        }
+    }
+
+    public static HashMap<String, String> readFile(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return read(channel);
+        }
+    }
+}
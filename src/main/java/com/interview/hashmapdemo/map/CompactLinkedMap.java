@@ -0,0 +1,464 @@
+package com.interview.hashmapdemo.map;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+
+// Insertion-ordered map laid out like CPython's compact dict. Entries are appended to
+// dense parallel arrays in insertion order, and a separate open-addressing index maps
+// hash slots to entry positions. The index stores small integers, so it uses byte,
+// short or int slots depending on the table size. Iteration is a linear scan of the
+// entry arrays, and there are no per-entry objects or before/after links as in
+// LinkedHashMap.
+//
+// Removal leaves a tombstone in the entry arrays and a DUMMY marker in the index.
+// Tombstones are squeezed out once they exceed a quarter of the live entries, or when
+// the entry arrays fill up. Scattered tombstones make the scan's skip branch
+// unpredictable, so they are kept rare rather than merely bounded.
+public class CompactLinkedMap<K, V> extends AbstractMap<K, V> {
+    private static final int MINIMUM_INDEX_SIZE = 8;
+    private static final int MAXIMUM_INDEX_SIZE = 1 << 30;
+    // Ignore tombstones below this count so small maps do not compact on every remove
+    private static final int MINIMUM_TOMBSTONES_TO_COMPACT = 16;
+
+    // CPython's probe recurrence: slot = 5 * slot + 1 + perturb, with perturb consuming the
+    // high hash bits. Plain linear probing lets runs of sequential keys form one long
+    // cluster that every re-inserted key has to walk past.
+    private static final int PERTURB_SHIFT = 5;
+
+    private static final int EMPTY = -1;
+    private static final int DUMMY = -2;
+
+    // Stored in place of a null key; a null in entryKeys marks a removed entry
+    private static final Object NULL_KEY = new Object();
+
+    // Exactly one of the three index arrays is in use
+    private byte[] index8;
+    private short[] index16;
+    private int[] index32;
+    private int indexMask;
+
+    private Object[] entryKeys;
+    private Object[] entryValues;
+    private int[] entryHashes;
+    // Entries appended so far, including tombstones
+    private int used;
+    private int size;
+    private int modCount;
+    private Set<Map.Entry<K, V>> entrySet;
+
+    public CompactLinkedMap() {
+        this(0);
+    }
+
+    public CompactLinkedMap(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
+        }
+        allocate(indexSizeFor(initialCapacity));
+    }
+
+    public CompactLinkedMap(Map<? extends K, ? extends V> m) {
+        this(m.size());
+        putAll(m);
+    }
+
+    // Smallest power-of-two index whose usable two thirds can hold entries
+    private static int indexSizeFor(int entries) {
+        long wanted = Math.max(MINIMUM_INDEX_SIZE, (entries * 3L + 1) / 2);
+        if (wanted >= MAXIMUM_INDEX_SIZE) {
+            return MAXIMUM_INDEX_SIZE;
+        }
+        return Integer.highestOneBit((int) wanted - 1) << 1;
+    }
+
+    // As in CPython, an index of n slots holds at most 2n/3 entries
+    private static int usableFraction(int indexSize) {
+        return (indexSize << 1) / 3;
+    }
+
+    // Same spread function as HashMap
+    static int hash(Object key) {
+        int h;
+        return key == null ? 0 : (h = key.hashCode()) ^ (h >>> 16);
+    }
+
+    private void allocate(int indexSize) {
+        index8 = null;
+        index16 = null;
+        index32 = null;
+        int usable = usableFraction(indexSize);
+        // Entry positions must fit in the signed slot type alongside EMPTY and DUMMY
+        if (usable <= Byte.MAX_VALUE) {
+            index8 = new byte[indexSize];
+            Arrays.fill(index8, (byte) EMPTY);
+        } else if (usable <= Short.MAX_VALUE) {
+            index16 = new short[indexSize];
+            Arrays.fill(index16, (short) EMPTY);
+        } else {
+            index32 = new int[indexSize];
+            Arrays.fill(index32, EMPTY);
+        }
+        indexMask = indexSize - 1;
+        entryKeys = new Object[usable];
+        entryValues = new Object[usable];
+        entryHashes = new int[usable];
+        used = 0;
+    }
+
+    private int indexAt(int slot) {
+        if (index8 != null) {
+            return index8[slot];
+        }
+        if (index16 != null) {
+            return index16[slot];
+        }
+        return index32[slot];
+    }
+
+    private void setIndex(int slot, int entry) {
+        if (index8 != null) {
+            index8[slot] = (byte) entry;
+        } else if (index16 != null) {
+            index16[slot] = (short) entry;
+        } else {
+            index32[slot] = entry;
+        }
+    }
+
+    private static Object maskNull(Object key) {
+        return key == null ? NULL_KEY : key;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K> K unmaskNull(Object key) {
+        return key == NULL_KEY ? null : (K) key;
+    }
+
+    // Returns the index slot holding key, or -1
+    private int findSlot(Object key, int h) {
+        Object k = maskNull(key);
+        int slot = h & indexMask;
+        for (int perturb = h; ; ) {
+            int entry = indexAt(slot);
+            if (entry == EMPTY) {
+                return -1;
+            }
+            if (entry != DUMMY && entryHashes[entry] == h) {
+                Object candidate = entryKeys[entry];
+                if (candidate == k || k.equals(candidate)) {
+                    return slot;
+                }
+            }
+            perturb >>>= PERTURB_SHIFT;
+            slot = (slot * 5 + perturb + 1) & indexMask;
+        }
+    }
+
+    private int findEntry(Object key) {
+        int slot = findSlot(key, hash(key));
+        return slot < 0 ? -1 : indexAt(slot);
+    }
+
+    // First EMPTY slot for h; DUMMY slots are not reused so compaction can drop them all at once
+    private int findEmptySlot(int h) {
+        int slot = h & indexMask;
+        for (int perturb = h; indexAt(slot) != EMPTY; ) {
+            perturb >>>= PERTURB_SHIFT;
+            slot = (slot * 5 + perturb + 1) & indexMask;
+        }
+        return slot;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return findEntry(key) >= 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        int entry = findEntry(key);
+        return entry < 0 ? null : (V) entryValues[entry];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        int h = hash(key);
+        int slot = findSlot(key, h);
+        if (slot >= 0) {
+            // Replacing a value keeps the entry's position, as in LinkedHashMap
+            int entry = indexAt(slot);
+            V old = (V) entryValues[entry];
+            entryValues[entry] = value;
+            return old;
+        }
+        if (used == entryKeys.length) {
+            resize();
+        }
+        int entry = used++;
+        entryKeys[entry] = maskNull(key);
+        entryValues[entry] = value;
+        entryHashes[entry] = h;
+        setIndex(findEmptySlot(h), entry);
+        size++;
+        modCount++;
+        return null;
+    }
+
+    // Entry arrays are full: compact in place if tombstones free enough room, else grow.
+    // Either way the index is rebuilt, which also clears every DUMMY slot.
+    private void resize() {
+        // Like CPython, size the new table from the live entries (here, room for twice as
+        // many), so a table that is mostly tombstones is compacted rather than grown
+        int indexSize = indexSizeFor(size * 2);
+        if (indexSize <= indexMask + 1) {
+            compact();
+            if (used == entryKeys.length) {
+                throw new IllegalStateException("CompactLinkedMap cannot grow beyond " + entryKeys.length + " entries");
+            }
+            return;
+        }
+        Object[] oldKeys = entryKeys;
+        Object[] oldValues = entryValues;
+        int[] oldHashes = entryHashes;
+        int oldUsed = used;
+        allocate(indexSize);
+        for (int i = 0; i < oldUsed; i++) {
+            if (oldKeys[i] != null) {
+                append(oldKeys[i], oldValues[i], oldHashes[i]);
+            }
+        }
+    }
+
+    private void append(Object key, Object value, int h) {
+        int entry = used++;
+        entryKeys[entry] = key;
+        entryValues[entry] = value;
+        entryHashes[entry] = h;
+        setIndex(findEmptySlot(h), entry);
+    }
+
+    // Slides live entries down over the tombstones, preserving order, and rebuilds the index
+    private void compact() {
+        int live = 0;
+        for (int i = 0; i < used; i++) {
+            if (entryKeys[i] != null) {
+                entryKeys[live] = entryKeys[i];
+                entryValues[live] = entryValues[i];
+                entryHashes[live] = entryHashes[i];
+                live++;
+            }
+        }
+        Arrays.fill(entryKeys, live, used, null);
+        Arrays.fill(entryValues, live, used, null);
+        used = live;
+        if (index8 != null) {
+            Arrays.fill(index8, (byte) EMPTY);
+        } else if (index16 != null) {
+            Arrays.fill(index16, (short) EMPTY);
+        } else {
+            Arrays.fill(index32, EMPTY);
+        }
+        for (int i = 0; i < live; i++) {
+            setIndex(findEmptySlot(entryHashes[i]), i);
+        }
+        modCount++;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        int slot = findSlot(key, hash(key));
+        if (slot < 0) {
+            return null;
+        }
+        int entry = indexAt(slot);
+        V old = (V) entryValues[entry];
+        removeEntry(slot, entry);
+        int tombstones = used - size;
+        if (tombstones > size >> 2 && tombstones >= MINIMUM_TOMBSTONES_TO_COMPACT) {
+            compact();
+        }
+        return old;
+    }
+
+    private void removeEntry(int slot, int entry) {
+        setIndex(slot, DUMMY);
+        entryKeys[entry] = null;
+        entryValues[entry] = null;
+        size--;
+        modCount++;
+    }
+
+    @Override
+    public void clear() {
+        if (used > 0) {
+            allocate(indexMask + 1);
+            size = 0;
+            modCount++;
+        }
+    }
+
+    // Linear scan of the entry arrays without creating Map.Entry objects
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+        Object[] keys = entryKeys;
+        Object[] values = entryValues;
+        for (int i = 0; i < used; i++) {
+            Object k = keys[i];
+            if (k != null) {
+                action.accept(unmaskNull(k), (V) values[i]);
+            }
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        Set<Map.Entry<K, V>> es = entrySet;
+        return es != null ? es : (entrySet = new EntrySet());
+    }
+
+    private final class Entry implements Map.Entry<K, V> {
+        private final K key;
+        private V value;
+
+        Entry(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public V setValue(V value) {
+            // Compaction moves entries, so write through by key
+            V old = this.value;
+            CompactLinkedMap.this.put(key, value);
+            this.value = value;
+            return old;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Map.Entry)) return false;
+            Map.Entry<?, ?> e = (Map.Entry<?, ?>) obj;
+            return Objects.equals(key, e.getKey()) && Objects.equals(value, e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(key) ^ Objects.hashCode(value);
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+
+    // Removal through the iterator only leaves a tombstone, so positions never shift under it
+    private final class EntryIterator implements Iterator<Map.Entry<K, V>> {
+        private int position;
+        private int lastEntry = -1;
+        private int expectedModCount = modCount;
+
+        EntryIterator() {
+            skipTombstones();
+        }
+
+        private void skipTombstones() {
+            while (position < used && entryKeys[position] == null) {
+                position++;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return position < used;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Map.Entry<K, V> next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (position >= used) {
+                throw new NoSuchElementException();
+            }
+            lastEntry = position++;
+            skipTombstones();
+            return new Entry(unmaskNull(entryKeys[lastEntry]), (V) entryValues[lastEntry]);
+        }
+
+        @Override
+        public void remove() {
+            if (lastEntry < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeEntry(findSlot(unmaskNull(entryKeys[lastEntry]), entryHashes[lastEntry]), lastEntry);
+            lastEntry = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Map.Entry)) return false;
+            Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+            int entry = findEntry(e.getKey());
+            return entry >= 0 && Objects.equals(entryValues[entry], e.getValue());
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            if (!contains(o)) return false;
+            CompactLinkedMap.this.remove(((Map.Entry<?, ?>) o).getKey());
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            CompactLinkedMap.this.clear();
+        }
+    }
+}
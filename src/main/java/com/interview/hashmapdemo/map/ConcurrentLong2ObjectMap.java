@@ -0,0 +1,377 @@
+package com.interview.hashmapdemo.map;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// Non-blocking open-addressing map from primitive long keys to objects, after Cliff
+// Click's NonBlockingHashMap. Keys sit in an AtomicLongArray and values in a parallel
+// AtomicReferenceArray, so there is no boxed key and no Node per entry, unlike
+// ConcurrentHashMap<Long, V>.
+//
+//   - A key is claimed with a CAS from FREE (0) and never leaves its slot. Removal
+//     CASes the value to TOMBSTONE; dead slots are dropped at the next resize. Key 0
+//     itself lives in a separate AtomicReference.
+//   - Resizing links a larger table through next and copies slots into it. Copying a
+//     slot first freezes its value (Frozen wraps it), then puts it into the new table
+//     only if that slot was never written, then marks the old slot MOVED. A writer
+//     that meets a resize copies its own slot plus one chunk of others before writing
+//     to the new table, so copying needs no dedicated thread.
+//   - get never CASes or retries: a Frozen value is still current, and a MOVED slot
+//     sends the read on to the next table.
+//
+// Null values are rejected as in ConcurrentHashMap. size() is a LongAdder sum and
+// forEach is weakly consistent.
+public class ConcurrentLong2ObjectMap<V> {
+    private static final int DEFAULT_EXPECTED_SIZE = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private static final int MINIMUM_CAPACITY = 16;
+    private static final long FREE = 0;
+    private static final int COPY_CHUNK = 1024;
+    private static final Object TOMBSTONE = new Object();
+    private static final Object MOVED = new Object();
+
+    private enum Mode { PUT, PUT_IF_ABSENT, COPY }
+
+    @FunctionalInterface
+    public interface LongObjConsumer<V> {
+        void accept(long key, V value);
+    }
+
+    // A value that is being copied to the next table and may no longer be overwritten here
+    private record Frozen(Object value) {
+    }
+
+    private static final class Table {
+        final AtomicLongArray keys;
+        final AtomicReferenceArray<Object> values;
+        final int mask;
+        final int threshold;
+        final AtomicInteger claimed = new AtomicInteger();
+        final AtomicInteger copyIndex = new AtomicInteger();
+        final AtomicInteger copied = new AtomicInteger();
+        final AtomicReference<Table> next = new AtomicReference<>();
+
+        Table(int capacity) {
+            keys = new AtomicLongArray(capacity);
+            values = new AtomicReferenceArray<>(capacity);
+            mask = capacity - 1;
+            threshold = (int) (capacity * LOAD_FACTOR);
+        }
+
+        int capacity() {
+            return mask + 1;
+        }
+    }
+
+    private final AtomicReference<Table> table;
+    private final AtomicReference<V> zeroValue = new AtomicReference<>();
+    private final LongAdder size = new LongAdder();
+
+    public ConcurrentLong2ObjectMap() {
+        this(DEFAULT_EXPECTED_SIZE);
+    }
+
+    public ConcurrentLong2ObjectMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Illegal expected size: " + expectedSize);
+        }
+        table = new AtomicReference<>(new Table(capacityFor(expectedSize)));
+    }
+
+    static int capacityFor(long expectedSize) {
+        long needed = (long) Math.ceil(expectedSize / (double) LOAD_FACTOR) + 1;
+        if (needed >= MAXIMUM_CAPACITY) {
+            return MAXIMUM_CAPACITY;
+        }
+        return Math.max(MINIMUM_CAPACITY, Integer.highestOneBit((int) needed - 1) << 1);
+    }
+
+    static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    public int size() {
+        return (int) Math.max(0, Math.min(size.sum(), Integer.MAX_VALUE));
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        if (key == FREE) {
+            return zeroValue.get();
+        }
+        Object value = find(table.get(), key);
+        return value == null || value == TOMBSTONE ? null : (V) value;
+    }
+
+    public V getOrDefault(long key, V defaultValue) {
+        V value = get(key);
+        return value == null ? defaultValue : value;
+    }
+
+    // Raw value for key in t or the tables after it: null or TOMBSTONE when absent
+    private static Object find(Table t, long key) {
+        while (true) {
+            int mask = t.mask;
+            int slot = mix(key) & mask;
+            Object value = null;
+            boolean forward = false;
+            for (int probes = 0; ; probes++) {
+                long current = t.keys.get(slot);
+                if (current == key || current == FREE) {
+                    value = t.values.get(slot);
+                    // A FREE slot ends the probe unless a resize has already moved past it
+                    forward = value == MOVED;
+                    if (current == FREE && !forward) {
+                        value = null;
+                    }
+                    break;
+                }
+                if (probes == mask) {
+                    forward = true;
+                    break;
+                }
+                slot = (slot + 1) & mask;
+            }
+            if (value instanceof Frozen frozen) {
+                return frozen.value();
+            }
+            Table next = t.next.get();
+            if (!forward || next == null) {
+                return value == MOVED ? null : value;
+            }
+            t = next;
+        }
+    }
+
+    public V put(long key, V value) {
+        return update(key, requireValue(value), Mode.PUT);
+    }
+
+    public V putIfAbsent(long key, V value) {
+        return update(key, requireValue(value), Mode.PUT_IF_ABSENT);
+    }
+
+    public V remove(long key) {
+        return update(key, TOMBSTONE, Mode.PUT);
+    }
+
+    private static <V> V requireValue(V value) {
+        if (value == null) {
+            throw new NullPointerException("Null values are not supported");
+        }
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V update(long key, Object value, Mode mode) {
+        if (key != FREE) {
+            return (V) putValue(table.get(), key, value, mode);
+        }
+        V newValue = value == TOMBSTONE ? null : (V) value;
+        if (mode == Mode.PUT_IF_ABSENT) {
+            V old = zeroValue.compareAndExchange(null, newValue);
+            if (old == null) {
+                size.increment();
+            }
+            return old;
+        }
+        V old = zeroValue.getAndSet(newValue);
+        if (old == null && newValue != null) {
+            size.increment();
+        } else if (old != null && newValue == null) {
+            size.decrement();
+        }
+        return old;
+    }
+
+    // Returns the previous live value, or null. COPY only fills a slot that was never written.
+    private Object putValue(Table t, long key, Object value, Mode mode) {
+        retry:
+        while (true) {
+            int mask = t.mask;
+            int slot = mix(key) & mask;
+            for (int probes = 0; ; probes++) {
+                long current = t.keys.get(slot);
+                if (current == FREE) {
+                    if (value == TOMBSTONE) {
+                        // Removing an absent key claims nothing, unless a resize moved past this slot
+                        if (t.values.get(slot) != MOVED) {
+                            return null;
+                        }
+                        t = t.next.get();
+                        continue retry;
+                    }
+                    if (t.keys.compareAndSet(slot, FREE, key)) {
+                        if (t.claimed.incrementAndGet() > t.threshold) {
+                            resize(t);
+                        }
+                        break;
+                    }
+                    current = t.keys.get(slot);
+                }
+                if (current == key) {
+                    break;
+                }
+                if (probes == mask) {
+                    // Every slot is claimed by another key
+                    if (value == TOMBSTONE && t.next.get() == null) {
+                        return null;
+                    }
+                    t = resize(t);
+                    continue retry;
+                }
+                slot = (slot + 1) & mask;
+            }
+
+            while (true) {
+                Object old = t.values.get(slot);
+                Table next = t.next.get();
+                if (next != null) {
+                    // Copy this slot before writing, so the new table's value is the latest
+                    helpCopy(t);
+                    copySlot(t, slot);
+                    t = next;
+                    continue retry;
+                }
+                boolean live = old != null && old != TOMBSTONE;
+                if (mode == Mode.PUT_IF_ABSENT && live) {
+                    return old;
+                }
+                if (mode == Mode.COPY && old != null) {
+                    return null;
+                }
+                if (value == TOMBSTONE && !live) {
+                    return null;
+                }
+                if (t.values.compareAndSet(slot, old, value)) {
+                    if (mode != Mode.COPY) {
+                        if (!live) {
+                            size.increment();
+                        } else if (value == TOMBSTONE) {
+                            size.decrement();
+                        }
+                    }
+                    return live ? old : null;
+                }
+            }
+        }
+    }
+
+    private Table resize(Table t) {
+        Table next = t.next.get();
+        if (next != null) {
+            return next;
+        }
+        // Sized for the live entries, so a table full of tombstones is rebuilt, not grown
+        long live = Math.max(0, size.sum());
+        if (live >= (long) (MAXIMUM_CAPACITY * LOAD_FACTOR)) {
+            throw new IllegalStateException("ConcurrentLong2ObjectMap cannot grow beyond "
+                    + MAXIMUM_CAPACITY + " slots");
+        }
+        Table created = new Table(capacityFor(live + (live >> 1)));
+        return t.next.compareAndSet(null, created) ? created : t.next.get();
+    }
+
+    // Copies one chunk of t's slots, and promotes the next table once every slot is moved
+    private void helpCopy(Table t) {
+        int capacity = t.capacity();
+        int start = t.copyIndex.get();
+        if (start >= capacity || !t.copyIndex.compareAndSet(start, start + COPY_CHUNK)) {
+            return;
+        }
+        int end = Math.min(start + COPY_CHUNK, capacity);
+        for (int slot = start; slot < end; slot++) {
+            copySlot(t, slot);
+        }
+        if (t.copied.addAndGet(end - start) == capacity) {
+            promote();
+        }
+    }
+
+    private void copySlot(Table t, int slot) {
+        while (true) {
+            Object value = t.values.get(slot);
+            if (value == MOVED) {
+                return;
+            }
+            if (value instanceof Frozen frozen) {
+                putValue(t.next.get(), t.keys.get(slot), frozen.value(), Mode.COPY);
+                t.values.compareAndSet(slot, frozen, MOVED);
+                return;
+            }
+            Object replacement = value == null || value == TOMBSTONE ? MOVED : new Frozen(value);
+            t.values.compareAndSet(slot, value, replacement);
+        }
+    }
+
+    // Advances the current table past every table that has been copied completely
+    private void promote() {
+        Table t;
+        while ((t = table.get()).next.get() != null && t.copied.get() == t.capacity()) {
+            table.compareAndSet(t, t.next.get());
+        }
+    }
+
+    // Finishes any resize in progress so the current table holds every entry
+    private Table settle() {
+        Table t;
+        while ((t = table.get()).next.get() != null) {
+            for (int slot = 0; slot < t.capacity(); slot++) {
+                copySlot(t, slot);
+            }
+            table.compareAndSet(t, t.next.get());
+        }
+        return t;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEach(LongObjConsumer<? super V> action) {
+        V zero = zeroValue.get();
+        if (zero != null) {
+            action.accept(FREE, zero);
+        }
+        Table t = settle();
+        for (int slot = 0; slot < t.capacity(); slot++) {
+            long key = t.keys.get(slot);
+            if (key == FREE) {
+                continue;
+            }
+            Object value = t.values.get(slot);
+            if (value instanceof Frozen frozen) {
+                value = frozen.value();
+            } else if (value == MOVED) {
+                value = find(t.next.get(), key);
+            }
+            if (value != null && value != TOMBSTONE) {
+                action.accept(key, (V) value);
+            }
+        }
+    }
+
+    public void clear() {
+        forEach((key, value) -> remove(key));
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        forEach((key, value) -> {
+            if (sb.length() > 1) sb.append(", ");
+            sb.append(key).append('=').append(value);
+        });
+        return sb.append('}').toString();
+    }
+}
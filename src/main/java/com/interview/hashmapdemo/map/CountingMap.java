@@ -0,0 +1,114 @@
+package com.interview.hashmapdemo.map;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Concurrent frequency counter: one LongAdder per key in a ConcurrentHashMap. Counting
+// with ConcurrentHashMap.merge(key, 1L, Long::sum) locks the key's bin and allocates a
+// new Long on every call, so threads hitting the same hot key serialize on that bin.
+// Here the adder is looked up with a lock-free get and only created once per key, and
+// LongAdder spreads concurrent increments over per-thread cells.
+//
+// sum and snapshot are not atomic with respect to concurrent increments: a count may
+// miss increments that race with the read, as with LongAdder.sum. Increments racing
+// with remove or clear can land on the discarded adder and be lost.
+public class CountingMap<K> {
+    private final ConcurrentHashMap<K, LongAdder> counts;
+
+    public CountingMap() {
+        counts = new ConcurrentHashMap<>();
+    }
+
+    public CountingMap(int expectedKeys) {
+        if (expectedKeys < 0) {
+            throw new IllegalArgumentException("Illegal expected size: " + expectedKeys);
+        }
+        counts = new ConcurrentHashMap<>(expectedKeys);
+    }
+
+    private LongAdder adder(K key) {
+        LongAdder adder = counts.get(key);
+        if (adder == null) {
+            adder = counts.computeIfAbsent(key, k -> new LongAdder());
+        }
+        return adder;
+    }
+
+    public void increment(K key) {
+        adder(key).increment();
+    }
+
+    public void add(K key, long delta) {
+        adder(key).add(delta);
+    }
+
+    public long sum(K key) {
+        LongAdder adder = counts.get(key);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    // Sum over all keys
+    public long total() {
+        long total = 0;
+        for (LongAdder adder : counts.values()) {
+            total += adder.sum();
+        }
+        return total;
+    }
+
+    // Number of distinct keys counted so far
+    public int size() {
+        return counts.size();
+    }
+
+    public boolean isEmpty() {
+        return counts.isEmpty();
+    }
+
+    public long remove(K key) {
+        LongAdder adder = counts.remove(key);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    public void clear() {
+        counts.clear();
+    }
+
+    public HashMap<K, Long> snapshot() {
+        HashMap<K, Long> snapshot = new HashMap<>((int) Math.ceil(counts.size() / 0.75));
+        counts.forEach((key, adder) -> snapshot.put(key, adder.sum()));
+        return snapshot;
+    }
+
+    // The k keys with the highest counts, highest first; ties in no particular order
+    public List<Map.Entry<K, Long>> topK(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Illegal k: " + k);
+        }
+        if (k == 0) {
+            return new ArrayList<>();
+        }
+        // Min-heap of the best k so far, so the scan is O(n log k) rather than a full sort.
+        // Sized by the keys there are, since k may be far larger (up to Integer.MAX_VALUE).
+        PriorityQueue<Map.Entry<K, Long>> heap = new PriorityQueue<>(Math.min(k, size()) + 1,
+                Map.Entry.comparingByValue());
+        counts.forEach((key, adder) -> {
+            long count = adder.sum();
+            if (heap.size() < k) {
+                heap.add(new AbstractMap.SimpleImmutableEntry<>(key, count));
+            } else if (count > heap.peek().getValue()) {
+                heap.poll();
+                heap.add(new AbstractMap.SimpleImmutableEntry<>(key, count));
+            }
+        });
+        List<Map.Entry<K, Long>> top = new ArrayList<>(heap);
+        top.sort(Map.Entry.<K, Long>comparingByValue().reversed());
+        return top;
+    }
+
+    @Override
+    public String toString() {
+        return snapshot().toString();
+    }
+}
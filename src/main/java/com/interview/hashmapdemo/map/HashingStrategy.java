@@ -0,0 +1,118 @@
+package com.interview.hashmapdemo.map;
+
+import java.util.Arrays;
+
+// Hashing and equality for keys, supplied to StrategyHashMap instead of the keys' own
+// hashCode() and equals(). This lets a map use byte[] keys, case-insensitive strings or
+// a subset of a class's fields as the key without allocating a wrapper object per
+// lookup. hash and equals must be consistent: equal keys must have equal hashes.
+public interface HashingStrategy<K> {
+
+    int hash(K key);
+
+    boolean equals(K key, K other);
+
+    // Array contents, as Arrays.hashCode/Arrays.equals
+    static HashingStrategy<byte[]> byteArray() {
+        return ByteArrayStrategy.INSTANCE;
+    }
+
+    // Case-insensitive code points, with the same rules as String.equalsIgnoreCase, so any
+    // CharSequence (String, StringBuilder, CharBuffer) can be used to look a key up
+    static HashingStrategy<CharSequence> caseInsensitive() {
+        return CaseInsensitiveStrategy.INSTANCE;
+    }
+
+    // Reference identity, as IdentityHashMap
+    static <K> HashingStrategy<K> identity() {
+        @SuppressWarnings("unchecked")
+        HashingStrategy<K> strategy = (HashingStrategy<K>) IdentityStrategy.INSTANCE;
+        return strategy;
+    }
+
+    enum ByteArrayStrategy implements HashingStrategy<byte[]> {
+        INSTANCE;
+
+        @Override
+        public int hash(byte[] key) {
+            return Arrays.hashCode(key);
+        }
+
+        @Override
+        public boolean equals(byte[] key, byte[] other) {
+            return Arrays.equals(key, other);
+        }
+    }
+
+    enum CaseInsensitiveStrategy implements HashingStrategy<CharSequence> {
+        INSTANCE;
+
+        // equalsIgnoreCase matches code points whose upper or lower case agree; folding
+        // through both gives every such pair the same value, so equal keys hash equally.
+        // Surrogate pairs fold as one code point, as equalsIgnoreCase does since JDK 16.
+        // ASCII, the common case for headers and identifiers, skips the Character tables.
+        private static int fold(int c) {
+            if (c < 0x80) {
+                return c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c;
+            }
+            return Character.toLowerCase(Character.toUpperCase(c));
+        }
+
+        // The code point starting at index i, without allocating as codePoints() would
+        private static int codePointAt(CharSequence s, int i, int n) {
+            char c = s.charAt(i);
+            if (Character.isHighSurrogate(c) && i + 1 < n) {
+                char d = s.charAt(i + 1);
+                if (Character.isLowSurrogate(d)) {
+                    return Character.toCodePoint(c, d);
+                }
+            }
+            return c;
+        }
+
+        @Override
+        public int hash(CharSequence key) {
+            int h = 0;
+            for (int i = 0, n = key.length(); i < n; ) {
+                int c = codePointAt(key, i, n);
+                h = 31 * h + fold(c);
+                i += Character.charCount(c);
+            }
+            return h;
+        }
+
+        @Override
+        public boolean equals(CharSequence key, CharSequence other) {
+            int n = key.length();
+            if (n != other.length()) {
+                return false;
+            }
+            int i = 0;
+            int j = 0;
+            while (i < n && j < n) {
+                int a = codePointAt(key, i, n);
+                int b = codePointAt(other, j, n);
+                if (a != b && fold(a) != fold(b)) {
+                    return false;
+                }
+                i += Character.charCount(a);
+                j += Character.charCount(b);
+            }
+            return i == j;
+        }
+    }
+
+    enum IdentityStrategy implements HashingStrategy<Object> {
+        INSTANCE;
+
+        @Override
+        public int hash(Object key) {
+            return System.identityHashCode(key);
+        }
+
+        @Override
+        public boolean equals(Object key, Object other) {
+            return key == other;
+        }
+    }
+}
@@ -0,0 +1,390 @@
+package com.interview.hashmapdemo.map;
+
+import java.util.*;
+
+// Chained hash map that grows the way Redis' dict does: when the threshold is crossed
+// a table twice the size is allocated, but entries are migrated a few buckets at a time
+// by each following insertion or removal instead of all at once inside a single put.
+// While a migration is in progress lookups consult both tables.
+//
+// Only structural writes advance the migration. Reads, value replacements and removals
+// of absent keys never move entries, so calling them while iterating stays legal, as
+// in HashMap.
+public class IncrementalRehashMap<K, V> extends AbstractMap<K, V> {
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    private static final int DEFAULT_MIGRATION_STEP = 4;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    // Like Redis, bound the empty buckets skipped per step so a sparse table
+    // cannot turn a single step into a full scan
+    private static final int EMPTY_VISITS_PER_BUCKET = 10;
+
+    static final class Node<K, V> implements Map.Entry<K, V> {
+        final int hash;
+        final K key;
+        V value;
+        Node<K, V> next;
+
+        Node(int hash, K key, V value, Node<K, V> next) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+            this.next = next;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public V setValue(V value) {
+            V old = this.value;
+            this.value = value;
+            return old;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Map.Entry)) return false;
+            Map.Entry<?, ?> e = (Map.Entry<?, ?>) obj;
+            return Objects.equals(key, e.getKey()) && Objects.equals(value, e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(key) ^ Objects.hashCode(value);
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+
+    private final float loadFactor;
+    private final int migrationStep;
+    private Node<K, V>[] table;
+    // Non-null only while a migration is in progress
+    private Node<K, V>[] oldTable;
+    // Buckets of oldTable below this index have already been migrated
+    private int rehashIndex;
+    private int size;
+    private int threshold;
+    private int modCount;
+    private Set<Map.Entry<K, V>> entrySet;
+
+    public IncrementalRehashMap() {
+        this(DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR, DEFAULT_MIGRATION_STEP);
+    }
+
+    public IncrementalRehashMap(int initialCapacity, float loadFactor) {
+        this(initialCapacity, loadFactor, DEFAULT_MIGRATION_STEP);
+    }
+
+    public IncrementalRehashMap(int initialCapacity, float loadFactor, int migrationStep) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
+        }
+        if (loadFactor <= 0 || Float.isNaN(loadFactor)) {
+            throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+        }
+        if (migrationStep < 1) {
+            throw new IllegalArgumentException("Illegal migration step: " + migrationStep);
+        }
+        this.loadFactor = loadFactor;
+        this.migrationStep = migrationStep;
+        this.table = newTable(RobinHoodHashMap.tableSizeFor(initialCapacity));
+    }
+
+    // Same spread function as HashMap
+    static int hash(Object key) {
+        int h;
+        return key == null ? 0 : (h = key.hashCode()) ^ (h >>> 16);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Node<K, V>[] newTable(int capacity) {
+        threshold = capacity >= MAXIMUM_CAPACITY ? Integer.MAX_VALUE : (int) (capacity * loadFactor);
+        return (Node<K, V>[]) new Node<?, ?>[capacity];
+    }
+
+    public boolean isRehashing() {
+        return oldTable != null;
+    }
+
+    private Node<K, V> findNode(Object key) {
+        int h = hash(key);
+        if (oldTable != null) {
+            int index = h & (oldTable.length - 1);
+            if (index >= rehashIndex) {
+                Node<K, V> node = findInChain(oldTable[index], h, key);
+                if (node != null) {
+                    return node;
+                }
+            }
+        }
+        return findInChain(table[h & (table.length - 1)], h, key);
+    }
+
+    private static <K, V> Node<K, V> findInChain(Node<K, V> node, int hash, Object key) {
+        for (; node != null; node = node.next) {
+            Object k;
+            if (node.hash == hash && ((k = node.key) == key || (key != null && key.equals(k)))) {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return findNode(key) != null;
+    }
+
+    @Override
+    public V get(Object key) {
+        Node<K, V> node = findNode(key);
+        return node == null ? null : node.value;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        Node<K, V> node = findNode(key);
+        if (node != null) {
+            V old = node.value;
+            node.value = value;
+            return old;
+        }
+        if (oldTable != null) {
+            migrate(migrationStep);
+        }
+        // New entries always go to the newest table
+        int h = hash(key);
+        int index = h & (table.length - 1);
+        table[index] = new Node<>(h, key, value, table[index]);
+        modCount++;
+        if (++size > threshold) {
+            startRehash();
+        }
+        return null;
+    }
+
+    private void startRehash() {
+        if (table.length >= MAXIMUM_CAPACITY) {
+            return;
+        }
+        if (oldTable != null) {
+            // Inserts outran the migration; finish it before growing again
+            migrate(Integer.MAX_VALUE);
+        }
+        oldTable = table;
+        rehashIndex = 0;
+        table = newTable(oldTable.length << 1);
+    }
+
+    // Moves up to buckets non-empty buckets from oldTable into table
+    private void migrate(int buckets) {
+        Node<K, V>[] old = oldTable;
+        int newMask = table.length - 1;
+        long emptyVisits = (long) buckets * EMPTY_VISITS_PER_BUCKET;
+        while (buckets > 0 && rehashIndex < old.length) {
+            Node<K, V> node = old[rehashIndex];
+            if (node == null) {
+                rehashIndex++;
+                if (--emptyVisits == 0) {
+                    break;
+                }
+                continue;
+            }
+            while (node != null) {
+                Node<K, V> next = node.next;
+                int index = node.hash & newMask;
+                node.next = table[index];
+                table[index] = node;
+                node = next;
+            }
+            old[rehashIndex++] = null;
+            buckets--;
+        }
+        if (rehashIndex == old.length) {
+            oldTable = null;
+        }
+        modCount++;
+    }
+
+    @Override
+    public V remove(Object key) {
+        Node<K, V> node = removeNode(key);
+        if (node == null) {
+            return null;
+        }
+        // Migrate only after a real removal: a miss must not change modCount
+        if (oldTable != null) {
+            migrate(migrationStep);
+        }
+        return node.value;
+    }
+
+    private Node<K, V> removeNode(Object key) {
+        int h = hash(key);
+        if (oldTable != null) {
+            int index = h & (oldTable.length - 1);
+            if (index >= rehashIndex) {
+                Node<K, V> node = unlink(oldTable, index, h, key);
+                if (node != null) {
+                    return node;
+                }
+            }
+        }
+        return unlink(table, h & (table.length - 1), h, key);
+    }
+
+    private Node<K, V> unlink(Node<K, V>[] tab, int index, int hash, Object key) {
+        Node<K, V> previous = null;
+        for (Node<K, V> node = tab[index]; node != null; previous = node, node = node.next) {
+            Object k;
+            if (node.hash == hash && ((k = node.key) == key || (key != null && key.equals(k)))) {
+                if (previous == null) {
+                    tab[index] = node.next;
+                } else {
+                    previous.next = node.next;
+                }
+                size--;
+                modCount++;
+                return node;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void clear() {
+        if (size > 0 || oldTable != null) {
+            Arrays.fill(table, null);
+            oldTable = null;
+            size = 0;
+            modCount++;
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        Set<Map.Entry<K, V>> es = entrySet;
+        return es != null ? es : (entrySet = new EntrySet());
+    }
+
+    // Visits the unmigrated part of oldTable first, then the current table
+    private final class EntryIterator implements Iterator<Map.Entry<K, V>> {
+        private Node<K, V>[] currentTable;
+        private int index;
+        private Node<K, V> next;
+        private Node<K, V> current;
+        private int expectedModCount = modCount;
+
+        EntryIterator() {
+            if (oldTable != null) {
+                currentTable = oldTable;
+                index = rehashIndex;
+            } else {
+                currentTable = table;
+            }
+            advance();
+        }
+
+        private void advance() {
+            while (next == null) {
+                if (index < currentTable.length) {
+                    next = currentTable[index++];
+                } else if (currentTable != table) {
+                    currentTable = table;
+                    index = 0;
+                } else {
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            current = next;
+            next = next.next;
+            if (next == null) {
+                advance();
+            }
+            return current;
+        }
+
+        @Override
+        public void remove() {
+            if (current == null) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            // Unlink without advancing the migration so no entry changes table under us
+            removeNode(current.key);
+            current = null;
+            expectedModCount = modCount;
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Map.Entry)) return false;
+            Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+            Node<K, V> node = findNode(e.getKey());
+            return node != null && Objects.equals(node.value, e.getValue());
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            if (!contains(o)) return false;
+            IncrementalRehashMap.this.remove(((Map.Entry<?, ?>) o).getKey());
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            IncrementalRehashMap.this.clear();
+        }
+    }
+}
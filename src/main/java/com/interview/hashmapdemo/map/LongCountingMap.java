@@ -0,0 +1,103 @@
+package com.interview.hashmapdemo.map;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+// CountingMap for primitive long keys such as user or request ids, on top of
+// ConcurrentLong2ObjectMap so counting an id never boxes it. Only snapshot() boxes.
+public class LongCountingMap {
+
+    public record Count(long key, long count) {
+    }
+
+    private final ConcurrentLong2ObjectMap<LongAdder> counts;
+
+    public LongCountingMap() {
+        counts = new ConcurrentLong2ObjectMap<>();
+    }
+
+    public LongCountingMap(int expectedKeys) {
+        counts = new ConcurrentLong2ObjectMap<>(expectedKeys);
+    }
+
+    private LongAdder adder(long key) {
+        LongAdder adder = counts.get(key);
+        if (adder == null) {
+            LongAdder created = new LongAdder();
+            adder = counts.putIfAbsent(key, created);
+            if (adder == null) {
+                adder = created;
+            }
+        }
+        return adder;
+    }
+
+    public void increment(long key) {
+        adder(key).increment();
+    }
+
+    public void add(long key, long delta) {
+        adder(key).add(delta);
+    }
+
+    public long sum(long key) {
+        LongAdder adder = counts.get(key);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    public long total() {
+        long[] total = new long[1];
+        counts.forEach((key, adder) -> total[0] += adder.sum());
+        return total[0];
+    }
+
+    public int size() {
+        return counts.size();
+    }
+
+    public boolean isEmpty() {
+        return counts.isEmpty();
+    }
+
+    public long remove(long key) {
+        LongAdder adder = counts.remove(key);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    public void clear() {
+        counts.clear();
+    }
+
+    public HashMap<Long, Long> snapshot() {
+        HashMap<Long, Long> snapshot = new HashMap<>((int) Math.ceil(counts.size() / 0.75));
+        counts.forEach((key, adder) -> snapshot.put(key, adder.sum()));
+        return snapshot;
+    }
+
+    // The k keys with the highest counts, highest first; ties in no particular order
+    public List<Count> topK(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Illegal k: " + k);
+        }
+        if (k == 0) {
+            return new ArrayList<>();
+        }
+        PriorityQueue<Count> heap = new PriorityQueue<>(Math.min(k, size()) + 1, Comparator.comparingLong(Count::count));
+        counts.forEach((key, adder) -> {
+            long count = adder.sum();
+            if (heap.size() < k) {
+                heap.add(new Count(key, count));
+            } else if (count > heap.peek().count()) {
+                heap.poll();
+                heap.add(new Count(key, count));
+            }
+        });
+        List<Count> top = new ArrayList<>(heap);
+        top.sort(Comparator.comparingLong(Count::count).reversed());
+        return top;
+    }
+}
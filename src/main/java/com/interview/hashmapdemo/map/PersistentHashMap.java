@@ -0,0 +1,591 @@
+package com.interview.hashmapdemo.map;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+
+// Immutable hash array mapped trie (CHAMP layout). Each node keeps a 32-bit bitmap of
+// inline entries and one of child nodes, with entries packed at the front of one
+// Object[] and children at the back. with/without copy only the path from the root
+// to the changed entry, so an update costs O(log32 n) and every earlier version stays
+// valid and shares everything else. That makes a snapshot just a reference.
+//
+// Builder is the transient mode for bulk loads: nodes it created itself (tagged with
+// its edit token) are updated in place, and build() retires the token so the result
+// is never modified afterwards.
+//
+// Null keys and values are allowed. The Map mutators throw UnsupportedOperationException.
+public final class PersistentHashMap<K, V> extends AbstractMap<K, V> {
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final Object NOT_FOUND = new Object();
+    private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(BitmapNode.EMPTY, 0);
+
+    private final Node root;
+    private final int size;
+    private Set<Map.Entry<K, V>> entrySet;
+
+    private PersistentHashMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentHashMap<K, V> empty() {
+        return (PersistentHashMap<K, V>) EMPTY;
+    }
+
+    public static <K, V> PersistentHashMap<K, V> copyOf(Map<? extends K, ? extends V> map) {
+        if (map instanceof PersistentHashMap) {
+            @SuppressWarnings("unchecked")
+            PersistentHashMap<K, V> persistent = (PersistentHashMap<K, V>) map;
+            return persistent;
+        }
+        return PersistentHashMap.<K, V>builder().putAll(map).build();
+    }
+
+    public static <K, V> Builder<K, V> builder() {
+        return new Builder<>(BitmapNode.EMPTY, 0);
+    }
+
+    // Builder seeded with this map; the map itself is not affected by the builder
+    public Builder<K, V> toBuilder() {
+        return new Builder<>(root, size);
+    }
+
+    static int hash(Object key) {
+        int h = Objects.hashCode(key);
+        return h ^ (h >>> 16);
+    }
+
+    private static int mask(int hash, int shift) {
+        return (hash >>> shift) & MASK;
+    }
+
+    private static int bitpos(int mask) {
+        return 1 << mask;
+    }
+
+    // Outcome of one put/remove, filled in on the way down
+    private static final class Change {
+        boolean modified;
+        boolean replaced;
+        Object oldValue;
+    }
+
+    public PersistentHashMap<K, V> with(K key, V value) {
+        Change change = new Change();
+        Node newRoot = root.put(null, key, value, hash(key), 0, change);
+        if (newRoot == root) {
+            return this;
+        }
+        return new PersistentHashMap<>(newRoot, change.replaced ? size : size + 1);
+    }
+
+    public PersistentHashMap<K, V> without(Object key) {
+        Change change = new Change();
+        Node newRoot = root.remove(null, key, hash(key), 0, change);
+        if (!change.modified) {
+            return this;
+        }
+        return new PersistentHashMap<>(newRoot, size - 1);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        Object value = root.find(key, hash(key), 0);
+        return value == NOT_FOUND ? null : (V) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(Object key, V defaultValue) {
+        Object value = root.find(key, hash(key), 0);
+        return value == NOT_FOUND ? defaultValue : (V) value;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return root.find(key, hash(key), 0) != NOT_FOUND;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        Objects.requireNonNull(action);
+        root.forEach((BiConsumer<Object, Object>) action);
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        Set<Map.Entry<K, V>> es = entrySet;
+        return es != null ? es : (entrySet = new EntrySet());
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            return new EntryIterator<>(root);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Map.Entry)) return false;
+            Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+            Object value = root.find(e.getKey(), hash(e.getKey()), 0);
+            return value != NOT_FOUND && Objects.equals(value, e.getValue());
+        }
+    }
+
+    // Depth-first over the trie: a node's inline entries, then its children
+    private static final class EntryIterator<K, V> implements Iterator<Map.Entry<K, V>> {
+        private final ArrayDeque<Node> pending = new ArrayDeque<>();
+        private Node current;
+        private int index;
+
+        EntryIterator(Node root) {
+            current = root;
+            pushChildren(root);
+        }
+
+        private void pushChildren(Node node) {
+            for (int i = node.nodeArity() - 1; i >= 0; i--) {
+                pending.push(node.nodeAt(i));
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (index >= current.payloadArity()) {
+                if (pending.isEmpty()) {
+                    return false;
+                }
+                current = pending.pop();
+                index = 0;
+                pushChildren(current);
+            }
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Map.Entry<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Map.Entry<K, V> entry = new AbstractMap.SimpleImmutableEntry<>(
+                    (K) current.keyAt(index), (V) current.valueAt(index));
+            index++;
+            return entry;
+        }
+    }
+
+    public static final class Builder<K, V> {
+        private Object edit = new Object();
+        private Node root;
+        private int size;
+
+        private Builder(Node root, int size) {
+            this.root = root;
+            this.size = size;
+        }
+
+        public Builder<K, V> put(K key, V value) {
+            Change change = new Change();
+            root = root.put(edit, key, value, hash(key), 0, change);
+            if (change.modified && !change.replaced) {
+                size++;
+            }
+            return this;
+        }
+
+        public Builder<K, V> putAll(Map<? extends K, ? extends V> map) {
+            for (Map.Entry<? extends K, ? extends V> e : map.entrySet()) {
+                put(e.getKey(), e.getValue());
+            }
+            return this;
+        }
+
+        public Builder<K, V> remove(Object key) {
+            Change change = new Change();
+            root = root.remove(edit, key, hash(key), 0, change);
+            if (change.modified) {
+                size--;
+            }
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        public V get(Object key) {
+            Object value = root.find(key, hash(key), 0);
+            return value == NOT_FOUND ? null : (V) value;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        // Later builder calls copy again instead of editing nodes the result now shares
+        public PersistentHashMap<K, V> build() {
+            edit = new Object();
+            return size == 0 ? empty() : new PersistentHashMap<>(root, size);
+        }
+    }
+
+    private abstract static class Node {
+        abstract Object find(Object key, int hash, int shift);
+
+        abstract Node put(Object edit, Object key, Object value, int hash, int shift, Change change);
+
+        abstract Node remove(Object edit, Object key, int hash, int shift, Change change);
+
+        abstract int payloadArity();
+
+        abstract int nodeArity();
+
+        abstract Object keyAt(int index);
+
+        abstract Object valueAt(int index);
+
+        abstract Node nodeAt(int index);
+
+        abstract void forEach(BiConsumer<Object, Object> action);
+    }
+
+    private static final class BitmapNode extends Node {
+        static final BitmapNode EMPTY = new BitmapNode(null, 0, 0, new Object[0]);
+
+        private final Object edit;
+        private final int dataMap;
+        private final int nodeMap;
+        // key0, value0, key1, value1, ..., childN-1, ..., child0
+        private final Object[] array;
+
+        BitmapNode(Object edit, int dataMap, int nodeMap, Object[] array) {
+            this.edit = edit;
+            this.dataMap = dataMap;
+            this.nodeMap = nodeMap;
+            this.array = array;
+        }
+
+        private boolean editable(Object edit) {
+            return edit != null && this.edit == edit;
+        }
+
+        private int dataIndex(int bit) {
+            return Integer.bitCount(dataMap & (bit - 1));
+        }
+
+        private int nodeIndex(int bit) {
+            return Integer.bitCount(nodeMap & (bit - 1));
+        }
+
+        private Node childAt(int bit) {
+            return (Node) array[array.length - 1 - nodeIndex(bit)];
+        }
+
+        @Override
+        int payloadArity() {
+            return Integer.bitCount(dataMap);
+        }
+
+        @Override
+        int nodeArity() {
+            return Integer.bitCount(nodeMap);
+        }
+
+        @Override
+        Object keyAt(int index) {
+            return array[2 * index];
+        }
+
+        @Override
+        Object valueAt(int index) {
+            return array[2 * index + 1];
+        }
+
+        @Override
+        Node nodeAt(int index) {
+            return (Node) array[array.length - 1 - index];
+        }
+
+        @Override
+        Object find(Object key, int hash, int shift) {
+            int bit = bitpos(mask(hash, shift));
+            if ((dataMap & bit) != 0) {
+                int index = dataIndex(bit);
+                return Objects.equals(array[2 * index], key) ? array[2 * index + 1] : NOT_FOUND;
+            }
+            if ((nodeMap & bit) != 0) {
+                return childAt(bit).find(key, hash, shift + BITS);
+            }
+            return NOT_FOUND;
+        }
+
+        @Override
+        Node put(Object edit, Object key, Object value, int hash, int shift, Change change) {
+            int bit = bitpos(mask(hash, shift));
+            if ((dataMap & bit) != 0) {
+                int index = dataIndex(bit);
+                Object currentKey = array[2 * index];
+                if (Objects.equals(currentKey, key)) {
+                    Object oldValue = array[2 * index + 1];
+                    change.replaced = true;
+                    change.oldValue = oldValue;
+                    if (oldValue == value) {
+                        return this;
+                    }
+                    change.modified = true;
+                    if (editable(edit)) {
+                        array[2 * index + 1] = value;
+                        return this;
+                    }
+                    Object[] copy = array.clone();
+                    copy[2 * index + 1] = value;
+                    return new BitmapNode(edit, dataMap, nodeMap, copy);
+                }
+                // Two keys share this slot: push both down one level
+                Node child = merge(edit, currentKey, array[2 * index + 1], hash(currentKey),
+                        key, value, hash, shift + BITS);
+                change.modified = true;
+                return migrateInlineToNode(edit, bit, child);
+            }
+            if ((nodeMap & bit) != 0) {
+                Node child = childAt(bit);
+                Node newChild = child.put(edit, key, value, hash, shift + BITS, change);
+                if (newChild == child) {
+                    return this;
+                }
+                return withChild(edit, bit, newChild);
+            }
+            change.modified = true;
+            int index = dataIndex(bit);
+            Object[] copy = new Object[array.length + 2];
+            System.arraycopy(array, 0, copy, 0, 2 * index);
+            copy[2 * index] = key;
+            copy[2 * index + 1] = value;
+            System.arraycopy(array, 2 * index, copy, 2 * index + 2, array.length - 2 * index);
+            return new BitmapNode(edit, dataMap | bit, nodeMap, copy);
+        }
+
+        @Override
+        Node remove(Object edit, Object key, int hash, int shift, Change change) {
+            int bit = bitpos(mask(hash, shift));
+            if ((dataMap & bit) != 0) {
+                int index = dataIndex(bit);
+                if (!Objects.equals(array[2 * index], key)) {
+                    return this;
+                }
+                change.modified = true;
+                change.oldValue = array[2 * index + 1];
+                if (payloadArity() == 2 && nodeArity() == 0) {
+                    // The survivor either becomes the root or is inlined by the parent,
+                    // so give it the bitmap it needs at the root
+                    int other = 1 - index;
+                    Object otherKey = array[2 * other];
+                    int newDataMap = shift == 0 ? dataMap ^ bit : bitpos(mask(hash(otherKey), 0));
+                    return new BitmapNode(edit, newDataMap, 0, new Object[]{otherKey, array[2 * other + 1]});
+                }
+                Object[] copy = new Object[array.length - 2];
+                System.arraycopy(array, 0, copy, 0, 2 * index);
+                System.arraycopy(array, 2 * index + 2, copy, 2 * index, array.length - 2 * index - 2);
+                return new BitmapNode(edit, dataMap ^ bit, nodeMap, copy);
+            }
+            if ((nodeMap & bit) != 0) {
+                Node child = childAt(bit);
+                Node newChild = child.remove(edit, key, hash, shift + BITS, change);
+                if (!change.modified) {
+                    return this;
+                }
+                if (newChild.payloadArity() == 1 && newChild.nodeArity() == 0) {
+                    if (payloadArity() == 0 && nodeArity() == 1) {
+                        // Only child: pass the singleton up to be inlined higher
+                        return newChild;
+                    }
+                    return migrateNodeToInline(edit, bit, newChild);
+                }
+                return newChild == child ? this : withChild(edit, bit, newChild);
+            }
+            return this;
+        }
+
+        private Node withChild(Object edit, int bit, Node child) {
+            int position = array.length - 1 - nodeIndex(bit);
+            if (editable(edit)) {
+                array[position] = child;
+                return this;
+            }
+            Object[] copy = array.clone();
+            copy[position] = child;
+            return new BitmapNode(edit, dataMap, nodeMap, copy);
+        }
+
+        private Node migrateInlineToNode(Object edit, int bit, Node child) {
+            int oldIndex = 2 * dataIndex(bit);
+            int newIndex = array.length - 2 - nodeIndex(bit);
+            Object[] copy = new Object[array.length - 1];
+            System.arraycopy(array, 0, copy, 0, oldIndex);
+            System.arraycopy(array, oldIndex + 2, copy, oldIndex, newIndex - oldIndex);
+            copy[newIndex] = child;
+            System.arraycopy(array, newIndex + 2, copy, newIndex + 1, array.length - newIndex - 2);
+            return new BitmapNode(edit, dataMap ^ bit, nodeMap | bit, copy);
+        }
+
+        private Node migrateNodeToInline(Object edit, int bit, Node child) {
+            int oldIndex = array.length - 1 - nodeIndex(bit);
+            int newIndex = 2 * dataIndex(bit);
+            Object[] copy = new Object[array.length + 1];
+            System.arraycopy(array, 0, copy, 0, newIndex);
+            copy[newIndex] = child.keyAt(0);
+            copy[newIndex + 1] = child.valueAt(0);
+            System.arraycopy(array, newIndex, copy, newIndex + 2, oldIndex - newIndex);
+            System.arraycopy(array, oldIndex + 1, copy, oldIndex + 2, array.length - oldIndex - 1);
+            return new BitmapNode(edit, dataMap | bit, nodeMap ^ bit, copy);
+        }
+
+        private static Node merge(Object edit, Object key0, Object value0, int hash0,
+                                  Object key1, Object value1, int hash1, int shift) {
+            if (shift >= 32) {
+                return new CollisionNode(edit, hash0, new Object[]{key0, value0, key1, value1});
+            }
+            int mask0 = mask(hash0, shift);
+            int mask1 = mask(hash1, shift);
+            if (mask0 != mask1) {
+                int dataMap = bitpos(mask0) | bitpos(mask1);
+                Object[] array = mask0 < mask1
+                        ? new Object[]{key0, value0, key1, value1}
+                        : new Object[]{key1, value1, key0, value0};
+                return new BitmapNode(edit, dataMap, 0, array);
+            }
+            Node child = merge(edit, key0, value0, hash0, key1, value1, hash1, shift + BITS);
+            return new BitmapNode(edit, 0, bitpos(mask0), new Object[]{child});
+        }
+
+        @Override
+        void forEach(BiConsumer<Object, Object> action) {
+            int payload = 2 * payloadArity();
+            for (int i = 0; i < payload; i += 2) {
+                action.accept(array[i], array[i + 1]);
+            }
+            for (int i = array.length - 1; i >= payload; i--) {
+                ((Node) array[i]).forEach(action);
+            }
+        }
+    }
+
+    // Keys whose full 32-bit hashes are equal, past the last trie level
+    private static final class CollisionNode extends Node {
+        private final Object edit;
+        private final int hash;
+        // key0, value0, key1, value1, ...
+        private final Object[] array;
+
+        CollisionNode(Object edit, int hash, Object[] array) {
+            this.edit = edit;
+            this.hash = hash;
+            this.array = array;
+        }
+
+        private int indexOf(Object key) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (Objects.equals(array[i], key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        Object find(Object key, int hash, int shift) {
+            int i = indexOf(key);
+            return i < 0 ? NOT_FOUND : array[i + 1];
+        }
+
+        @Override
+        Node put(Object edit, Object key, Object value, int hash, int shift, Change change) {
+            int i = indexOf(key);
+            if (i >= 0) {
+                Object oldValue = array[i + 1];
+                change.replaced = true;
+                change.oldValue = oldValue;
+                if (oldValue == value) {
+                    return this;
+                }
+                change.modified = true;
+                if (edit != null && this.edit == edit) {
+                    array[i + 1] = value;
+                    return this;
+                }
+                Object[] copy = array.clone();
+                copy[i + 1] = value;
+                return new CollisionNode(edit, hash, copy);
+            }
+            change.modified = true;
+            Object[] copy = Arrays.copyOf(array, array.length + 2);
+            copy[array.length] = key;
+            copy[array.length + 1] = value;
+            return new CollisionNode(edit, hash, copy);
+        }
+
+        @Override
+        Node remove(Object edit, Object key, int hash, int shift, Change change) {
+            int i = indexOf(key);
+            if (i < 0) {
+                return this;
+            }
+            change.modified = true;
+            change.oldValue = array[i + 1];
+            if (array.length == 4) {
+                // Singleton shaped for the root, as in BitmapNode.remove
+                int other = i == 0 ? 2 : 0;
+                return new BitmapNode(edit, bitpos(mask(hash, 0)), 0, new Object[]{array[other], array[other + 1]});
+            }
+            Object[] copy = new Object[array.length - 2];
+            System.arraycopy(array, 0, copy, 0, i);
+            System.arraycopy(array, i + 2, copy, i, array.length - i - 2);
+            return new CollisionNode(edit, hash, copy);
+        }
+
+        @Override
+        int payloadArity() {
+            return array.length / 2;
+        }
+
+        @Override
+        int nodeArity() {
+            return 0;
+        }
+
+        @Override
+        Object keyAt(int index) {
+            return array[2 * index];
+        }
+
+        @Override
+        Object valueAt(int index) {
+            return array[2 * index + 1];
+        }
+
+        @Override
+        Node nodeAt(int index) {
+            throw new IndexOutOfBoundsException(index);
+        }
+
+        @Override
+        void forEach(BiConsumer<Object, Object> action) {
+            for (int i = 0; i < array.length; i += 2) {
+                action.accept(array[i], array[i + 1]);
+            }
+        }
+    }
+}
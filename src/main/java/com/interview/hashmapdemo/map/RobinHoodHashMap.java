@@ -0,0 +1,399 @@
+package com.interview.hashmapdemo.map;
+
+import java.util.*;
+
+// Open-addressing map with Robin Hood displacement and backward-shift deletion.
+// Keys, values and cached hashes live in three parallel flat arrays, so a lookup
+// walks consecutive slots instead of chasing a Node per entry like HashMap does.
+public class RobinHoodHashMap<K, V> extends AbstractMap<K, V> {
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    // Stored in place of a null key so lookups can always call key.equals()
+    private static final Object NULL_KEY = new Object();
+
+    private final float loadFactor;
+    private Object[] keys;
+    private Object[] values;
+    private int[] hashes;
+    private int mask;
+    private int size;
+    private int threshold;
+    private int modCount;
+    private Set<Map.Entry<K, V>> entrySet;
+
+    public RobinHoodHashMap() {
+        this(DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    public RobinHoodHashMap(int initialCapacity) {
+        this(initialCapacity, DEFAULT_LOAD_FACTOR);
+    }
+
+    public RobinHoodHashMap(int initialCapacity, float loadFactor) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
+        }
+        // At least one slot must stay empty so probe sequences always terminate
+        if (loadFactor <= 0 || loadFactor >= 1 || Float.isNaN(loadFactor)) {
+            throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        allocate(tableSizeFor(initialCapacity));
+    }
+
+    public RobinHoodHashMap(Map<? extends K, ? extends V> m) {
+        this((int) (m.size() / DEFAULT_LOAD_FACTOR) + 1, DEFAULT_LOAD_FACTOR);
+        putAll(m);
+    }
+
+    static int tableSizeFor(int capacity) {
+        int n = -1 >>> Integer.numberOfLeadingZeros(Math.max(capacity, 2) - 1);
+        return n >= MAXIMUM_CAPACITY ? MAXIMUM_CAPACITY : n + 1;
+    }
+
+    // Fibonacci hashing: the multiply spreads entropy into the high bits and the xor
+    // folds it back into the low bits that select the slot. Zero is reserved to mark
+    // an empty slot, so probing reads only the hashes array until a hash matches.
+    private int hash(Object key) {
+        int h = key == null ? 0 : keyHashCode(key) * 0x9E3779B9;
+        h ^= h >>> 16;
+        return h == 0 ? 1 : h;
+    }
+
+    // Key equality hooks, so a subclass can hash and compare keys its own way without
+    // wrapping them (see StrategyHashMap). Never called with a null key.
+    protected int keyHashCode(Object key) {
+        return key.hashCode();
+    }
+
+    protected boolean keyEquals(Object key, Object stored) {
+        return key.equals(stored);
+    }
+
+    private void allocate(int capacity) {
+        keys = new Object[capacity];
+        values = new Object[capacity];
+        hashes = new int[capacity];
+        mask = capacity - 1;
+        threshold = Math.min((int) (capacity * loadFactor), capacity - 1);
+    }
+
+    private static Object maskNull(Object key) {
+        return key == null ? NULL_KEY : key;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K> K unmaskNull(Object key) {
+        return key == NULL_KEY ? null : (K) key;
+    }
+
+    // How far the entry in slot sits from the slot its hash prefers
+    private int probeDistance(int hash, int slot) {
+        return (slot - hash) & mask;
+    }
+
+    private int findSlot(Object key) {
+        return findSlot(key, hash(key));
+    }
+
+    private int findSlot(Object key, int h) {
+        Object k = maskNull(key);
+        int slot = h & mask;
+        for (int distance = 0; ; distance++) {
+            int current = hashes[slot];
+            // An empty slot, or an entry closer to home than we are, ends the search:
+            // Robin Hood insertion would have placed the key before it.
+            if (current == 0 || probeDistance(current, slot) < distance) {
+                return -1;
+            }
+            if (current == h) {
+                Object candidate = keys[slot];
+                if (candidate == k || k != NULL_KEY && candidate != NULL_KEY && keyEquals(k, candidate)) {
+                    return slot;
+                }
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return findSlot(key) >= 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        int slot = findSlot(key);
+        return slot < 0 ? null : (V) values[slot];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        // Hashed once for both the lookup and the insert, which matters when the hash is costly
+        int h = hash(key);
+        int slot = findSlot(key, h);
+        if (slot >= 0) {
+            V old = (V) values[slot];
+            values[slot] = value;
+            return old;
+        }
+        if (size >= threshold) {
+            resize();
+        }
+        insert(maskNull(key), h, value);
+        size++;
+        modCount++;
+        return null;
+    }
+
+    // Places a key known to be absent, displacing entries that are closer to home
+    private void insert(Object key, int hash, Object value) {
+        int slot = hash & mask;
+        int distance = 0;
+        while (true) {
+            int current = hashes[slot];
+            if (current == 0) {
+                keys[slot] = key;
+                values[slot] = value;
+                hashes[slot] = hash;
+                return;
+            }
+            int existing = probeDistance(current, slot);
+            if (existing < distance) {
+                Object displacedKey = keys[slot];
+                Object displacedValue = values[slot];
+                keys[slot] = key;
+                values[slot] = value;
+                hashes[slot] = hash;
+                key = displacedKey;
+                value = displacedValue;
+                hash = current;
+                distance = existing;
+            }
+            slot = (slot + 1) & mask;
+            distance++;
+        }
+    }
+
+    private void resize() {
+        if (keys.length == MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("RobinHoodHashMap cannot grow beyond " + MAXIMUM_CAPACITY + " slots");
+        }
+        Object[] oldKeys = keys;
+        Object[] oldValues = values;
+        int[] oldHashes = hashes;
+        allocate(oldKeys.length << 1);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldHashes[i] != 0) {
+                insert(oldKeys[i], oldHashes[i], oldValues[i]);
+            }
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        int slot = findSlot(key);
+        if (slot < 0) {
+            return null;
+        }
+        V old = (V) values[slot];
+        removeAt(slot, null);
+        return old;
+    }
+
+    // Backward-shift deletion: pull every following displaced entry one slot back,
+    // so no tombstones are needed. Entries that move from slot 0 across the end of
+    // the table are reported to the iterator that triggered the removal.
+    private void removeAt(int slot, List<Object[]> wrapped) {
+        int next = (slot + 1) & mask;
+        while (hashes[next] != 0 && probeDistance(hashes[next], next) != 0) {
+            if (wrapped != null && next < slot) {
+                wrapped.add(new Object[]{keys[next], values[next]});
+            }
+            keys[slot] = keys[next];
+            values[slot] = values[next];
+            hashes[slot] = hashes[next];
+            slot = next;
+            next = (next + 1) & mask;
+        }
+        keys[slot] = null;
+        values[slot] = null;
+        hashes[slot] = 0;
+        size--;
+        modCount++;
+    }
+
+    @Override
+    public void clear() {
+        if (size > 0) {
+            Arrays.fill(keys, null);
+            Arrays.fill(values, null);
+            Arrays.fill(hashes, 0);
+            size = 0;
+            modCount++;
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        Set<Map.Entry<K, V>> es = entrySet;
+        return es != null ? es : (entrySet = new EntrySet());
+    }
+
+    private final class Entry implements Map.Entry<K, V> {
+        private final K key;
+        private V value;
+
+        Entry(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public V setValue(V value) {
+            // Slots move under backward shifts, so write through by key
+            V old = this.value;
+            RobinHoodHashMap.this.put(key, value);
+            this.value = value;
+            return old;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Map.Entry)) return false;
+            Map.Entry<?, ?> e = (Map.Entry<?, ?>) obj;
+            return Objects.equals(key, e.getKey()) && Objects.equals(value, e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(key) ^ Objects.hashCode(value);
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+
+    // Walks the table from the last slot down. A backward shift only moves entries
+    // into lower slots, which this order has already visited, except for entries
+    // wrapping from slot 0 to the last slot; those are queued and returned at the end.
+    private final class EntryIterator implements Iterator<Map.Entry<K, V>> {
+        private int position = keys.length - 1;
+        private int remaining = size;
+        private int lastSlot = -1;
+        private Object lastKey;
+        private boolean canRemove;
+        private List<Object[]> wrapped;
+        private int wrappedIndex;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Map.Entry<K, V> next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (remaining == 0) {
+                throw new NoSuchElementException();
+            }
+            remaining--;
+            canRemove = true;
+            while (position >= 0) {
+                int slot = position--;
+                if (hashes[slot] != 0) {
+                    lastSlot = slot;
+                    lastKey = keys[slot];
+                    return new Entry(unmaskNull(keys[slot]), (V) values[slot]);
+                }
+            }
+            Object[] entry = wrapped.get(wrappedIndex++);
+            lastSlot = -1;
+            lastKey = entry[0];
+            return new Entry(unmaskNull(entry[0]), (V) entry[1]);
+        }
+
+        @Override
+        public void remove() {
+            if (!canRemove) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            canRemove = false;
+            if (lastSlot >= 0) {
+                if (wrapped == null) {
+                    wrapped = new ArrayList<>();
+                }
+                removeAt(lastSlot, wrapped);
+            } else {
+                RobinHoodHashMap.this.remove(unmaskNull(lastKey));
+            }
+            expectedModCount = modCount;
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Map.Entry)) return false;
+            Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+            int slot = findSlot(e.getKey());
+            return slot >= 0 && Objects.equals(values[slot], e.getValue());
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            if (!contains(o)) return false;
+            RobinHoodHashMap.this.remove(((Map.Entry<?, ?>) o).getKey());
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            RobinHoodHashMap.this.clear();
+        }
+    }
+}
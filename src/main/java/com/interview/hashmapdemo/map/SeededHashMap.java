@@ -0,0 +1,75 @@
+package com.interview.hashmapdemo.map;
+
+import com.interview.hashmapdemo.hash.SipHash;
+
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+// StrategyHashMap for untrusted String or byte[] keys (HTTP headers, query parameters,
+// JSON field names). Keys are hashed with SipHash-2-4 under a random 128-bit key drawn
+// per map instance, so nobody outside the process can choose keys that collide. See
+// CollidingStrings: against String.hashCode thousands of such keys are free, and in
+// an open-addressing map without treeification every one of them probes the whole
+// cluster.
+//
+// SipHash costs more per key than String's cached hashCode, so use this where the
+// keys come from outside, not for every map.
+public class SeededHashMap<K, V> extends StrategyHashMap<K, V> {
+    // Per-map keys are derived from one secret master key and a counter rather than
+    // drawn from SecureRandom each time, which costs microseconds per call and would
+    // dominate creating a small map
+    private static final long MASTER_K0;
+    private static final long MASTER_K1;
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    static {
+        SecureRandom random = new SecureRandom();
+        MASTER_K0 = random.nextLong();
+        MASTER_K1 = random.nextLong();
+    }
+
+    private SeededHashMap(HashingStrategy<? super K> strategy) {
+        super(strategy);
+    }
+
+    public static <V> SeededHashMap<String, V> forStrings() {
+        return new SeededHashMap<>(new StringStrategy(nextKey(), nextKey()));
+    }
+
+    public static <V> SeededHashMap<byte[], V> forByteArrays() {
+        return new SeededHashMap<>(new ByteArrayStrategy(nextKey(), nextKey()));
+    }
+
+    private static long nextKey() {
+        return SipHash.hash(MASTER_K0, MASTER_K1, SEQUENCE.getAndIncrement());
+    }
+
+    private static int fold(long hash) {
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    record StringStrategy(long k0, long k1) implements HashingStrategy<String> {
+        @Override
+        public int hash(String key) {
+            return fold(SipHash.hash(k0, k1, key));
+        }
+
+        @Override
+        public boolean equals(String key, String other) {
+            return key.equals(other);
+        }
+    }
+
+    record ByteArrayStrategy(long k0, long k1) implements HashingStrategy<byte[]> {
+        @Override
+        public int hash(byte[] key) {
+            return fold(SipHash.hash(k0, k1, key));
+        }
+
+        @Override
+        public boolean equals(byte[] key, byte[] other) {
+            return Arrays.equals(key, other);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.interview.hashmapdemo.map;
+
+import java.util.Map;
+import java.util.Objects;
+
+// RobinHoodHashMap that hashes and compares keys through a HashingStrategy instead of
+// their own hashCode() and equals(), like Trove's TCustomHashMap or Eclipse
+// Collections' UnifiedMapWithHashingStrategy:
+//
+//   new StrategyHashMap<byte[], V>(HashingStrategy.byteArray())       content keys
+//   new StrategyHashMap<CharSequence, V>(HashingStrategy.caseInsensitive())
+//   new StrategyHashMap<Person, V>(personByName)                       a subset of fields
+//
+// A lookup passes the caller's object straight to the strategy, so nothing is
+// allocated per get. Map.equals and Map.hashCode still follow the Map contract, which
+// uses the keys' own equals and hashCode; compare two strategy maps entry by entry.
+public class StrategyHashMap<K, V> extends RobinHoodHashMap<K, V> {
+    private final HashingStrategy<? super K> strategy;
+
+    public StrategyHashMap(HashingStrategy<? super K> strategy) {
+        this.strategy = Objects.requireNonNull(strategy, "strategy");
+    }
+
+    public StrategyHashMap(HashingStrategy<? super K> strategy, int initialCapacity) {
+        super(initialCapacity);
+        this.strategy = Objects.requireNonNull(strategy, "strategy");
+    }
+
+    public StrategyHashMap(HashingStrategy<? super K> strategy, Map<? extends K, ? extends V> m) {
+        super((int) (m.size() / 0.75f) + 1);
+        this.strategy = Objects.requireNonNull(strategy, "strategy");
+        putAll(m);
+    }
+
+    public HashingStrategy<? super K> strategy() {
+        return strategy;
+    }
+
+    // A key of the wrong type fails with ClassCastException, as in TreeMap
+    @Override
+    @SuppressWarnings("unchecked")
+    protected int keyHashCode(Object key) {
+        return strategy.hash((K) key);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected boolean keyEquals(Object key, Object stored) {
+        return strategy.equals((K) key, (K) stored);
+    }
+}
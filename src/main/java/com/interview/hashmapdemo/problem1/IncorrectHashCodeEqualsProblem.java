@@ -1,11 +1,67 @@
 package com.interview.hashmapdemo.problem1;
 
 import com.interview.hashmapdemo.HashMapProblem;
+import com.interview.hashmapdemo.hash.HashCombiner;
 
 import java.util.HashMap;
 import java.util.Objects;
 
 public class IncorrectHashCodeEqualsProblem implements HashMapProblem {
+    // Class with incorrect implementation of equals() and hashCode() - only equals() is implemented
+    static class PersonBadHashCode {
+        private String name;
+        private int age;
+
+        public PersonBadHashCode(String name, int age) {
+            this.name = name;
+            this.age = age;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (obj == null || getClass() != obj.getClass()) return false;
+            PersonBadHashCode person = (PersonBadHashCode) obj;
+            return age == person.age &&
+                    Objects.equals(name, person.name);
+        }
+
+        @Override
+        public String toString() {
+            return name + " (" + age + ")";
+        }
+    }
+
+    // Class with correct implementation of equals() and hashCode()
+    static class PersonCorrect {
+        private String name;
+        private int age;
+
+        public PersonCorrect(String name, int age) {
+            this.name = name;
+            this.age = age;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (obj == null || getClass() != obj.getClass()) return false;
+            PersonCorrect person = (PersonCorrect) obj;
+            return age == person.age &&
+                    Objects.equals(name, person.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return HashCombiner.hash(name, age);
+        }
+
+        @Override
+        public String toString() {
+            return name + " (" + age + ")";
+        }
+    }
+
     @Override
     public String getProblemName() {
         return "Incorrect HashCode and Equals Implementation";
@@ -21,61 +77,6 @@ public class IncorrectHashCodeEqualsProblem implements HashMapProblem {
 
     @Override
     public void demonstrate() {
-        // Class with incorrect implementation of equals() and hashCode() - only equals() is implemented
-        class PersonBadHashCode {
-            private String name;
-            private int age;
-
-            public PersonBadHashCode(String name, int age) {
-                this.name = name;
-                this.age = age;
-            }
-
-            @Override
-            public boolean equals(Object obj) {
-                if (this == obj) return true;
-                if (obj == null || getClass() != obj.getClass()) return false;
-                PersonBadHashCode person = (PersonBadHashCode) obj;
-                return age == person.age &&
-                        Objects.equals(name, person.name);
-            }
-
-            @Override
-            public String toString() {
-                return name + " (" + age + ")";
-            }
-        }
-
-        // Class with correct implementation of equals() and hashCode()
-        class PersonCorrect {
-            private String name;
-            private int age;
-
-            public PersonCorrect(String name, int age) {
-                this.name = name;
-                this.age = age;
-            }
-
-            @Override
-            public boolean equals(Object obj) {
-                if (this == obj) return true;
-                if (obj == null || getClass() != obj.getClass()) return false;
-                PersonCorrect person = (PersonCorrect) obj;
-                return age == person.age &&
-                        Objects.equals(name, person.name);
-            }
-
-            @Override
-            public int hashCode() {
-                return Objects.hash(name, age);
-            }
-
-            @Override
-            public String toString() {
-                return name + " (" + age + ")";
-            }
-        }
-
         // Incorrectly implemented class
         HashMap<PersonBadHashCode, String> badMap = new HashMap<>();
         PersonBadHashCode john1 = new PersonBadHashCode("John", 30);
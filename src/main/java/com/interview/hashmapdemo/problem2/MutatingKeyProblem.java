@@ -1,11 +1,42 @@
 package com.interview.hashmapdemo.problem2;
 
 import com.interview.hashmapdemo.HashMapProblem;
+import com.interview.hashmapdemo.hash.HashCombiner;
 
 import java.util.HashMap;
 import java.util.Objects;
 
 public class MutatingKeyProblem implements HashMapProblem {
+    static class MutableKey {
+        private String value;
+
+        public MutableKey(String value) {
+            this.value = value;
+        }
+
+        public void setValue(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (obj == null || getClass() != obj.getClass()) return false;
+            MutableKey that = (MutableKey) obj;
+            return Objects.equals(value, that.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return HashCombiner.hash(value);
+        }
+
+        @Override
+        public String toString() {
+            return "MutableKey{" + value + '}';
+        }
+    }
+
     @Override
     public String getProblemName() {
         return "Mutating objects after insertion into HashMap";
@@ -20,36 +51,6 @@ public class MutatingKeyProblem implements HashMapProblem {
 
     @Override
     public void demonstrate() {
-        class MutableKey {
-            private String value;
-
-            public MutableKey(String value) {
-                this.value = value;
-            }
-
-            public void setValue(String value) {
-                this.value = value;
-            }
-
-            @Override
-            public boolean equals(Object obj) {
-                if (this == obj) return true;
-                if (obj == null || getClass() != obj.getClass()) return false;
-                MutableKey that = (MutableKey) obj;
-                return Objects.equals(value, that.value);
-            }
-
-            @Override
-            public int hashCode() {
-                return Objects.hash(value);
-            }
-
-            @Override
-            public String toString() {
-                return "MutableKey{" + value + '}';
-            }
-        }
-
         HashMap<MutableKey, String> map = new HashMap<>();
 
         MutableKey key = new MutableKey("original");
@@ -1,11 +1,38 @@
 package com.interview.hashmapdemo.problem3;
 
 import com.interview.hashmapdemo.HashMapProblem;
+import com.interview.hashmapdemo.hash.HashCombiner;
 
 import java.util.HashMap;
 import java.util.Objects;
 
 public class HashCollisionProblem implements HashMapProblem {
+    static class BadHashKey {
+        private String value;
+
+        public BadHashKey(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (obj == null || getClass() != obj.getClass()) return false;
+            BadHashKey that = (BadHashKey) obj;
+            return Objects.equals(value, that.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return HashCombiner.hash(value);
+        }
+
+        @Override
+        public String toString() {
+            return value;
+        }
+    }
+
     @Override
     public String getProblemName() {
         return "Hash collisions and poor distribution";
@@ -21,32 +48,6 @@ public class HashCollisionProblem implements HashMapProblem {
 
     @Override
     public void demonstrate() {
-        class BadHashKey {
-            private String value;
-
-            public BadHashKey(String value) {
-                this.value = value;
-            }
-
-            @Override
-            public boolean equals(Object obj) {
-                if (this == obj) return true;
-                if (obj == null || getClass() != obj.getClass()) return false;
-                BadHashKey that = (BadHashKey) obj;
-                return Objects.equals(value, that.value);
-            }
-
-            @Override
-            public int hashCode() {
-                return Objects.hash(value);
-            }
-
-            @Override
-            public String toString() {
-                return value;
-            }
-        }
-
         // Demonstrate performance with good and bad keys
         int itemCount = 10000;
 
@@ -1,12 +1,41 @@
 package com.interview.hashmapdemo.problem4;
 
 import com.interview.hashmapdemo.HashMapProblem;
+import com.interview.hashmapdemo.hash.HashCombiner;
 
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
 public class EqualsVsDoubleEqualsProblem implements HashMapProblem {
+    static class Employee {
+        private String id;
+        private String name;
+
+        public Employee(String id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (obj == null || getClass() != obj.getClass()) return false;
+            Employee employee = (Employee) obj;
+            return Objects.equals(id, employee.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return HashCombiner.hash(id);
+        }
+
+        @Override
+        public String toString() {
+            return id + ": " + name;
+        }
+    }
+
     @Override
     public String getProblemName() {
         return "Using == instead of .equals() for object keys";
@@ -20,34 +49,6 @@ public class EqualsVsDoubleEqualsProblem implements HashMapProblem {
 
     @Override
     public void demonstrate() {
-        class Employee {
-            private String id;
-            private String name;
-
-            public Employee(String id, String name) {
-                this.id = id;
-                this.name = name;
-            }
-
-            @Override
-            public boolean equals(Object obj) {
-                if (this == obj) return true;
-                if (obj == null || getClass() != obj.getClass()) return false;
-                Employee employee = (Employee) obj;
-                return Objects.equals(id, employee.id);
-            }
-
-            @Override
-            public int hashCode() {
-                return Objects.hash(id);
-            }
-
-            @Override
-            public String toString() {
-                return id + ": " + name;
-            }
-        }
-
         HashMap<Employee, String> employees = new HashMap<>();
 
         Employee alice1 = new Employee("E001", "Alice");
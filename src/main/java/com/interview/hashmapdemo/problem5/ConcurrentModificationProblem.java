@@ -36,7 +36,9 @@ public class ConcurrentModificationProblem implements HashMapProblem {
             safeMap.put(i, "Value " + i);
         }
 
-        // Modify from multiple threads
+        // Modify from multiple threads. The Thread.sleep calls spread the writes out so the
+        // race shows up; for throughput and latency numbers use ContentionHarness in the
+        // benchmarks module instead
         ExecutorService executor = Executors.newFixedThreadPool(10);
 
         System.out.println("Running concurrent operations...");
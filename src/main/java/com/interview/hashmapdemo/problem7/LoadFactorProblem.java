@@ -1,7 +1,10 @@
 package com.interview.hashmapdemo.problem7;
 
 import com.interview.hashmapdemo.HashMapProblem;
+import com.interview.hashmapdemo.tracing.MapTracer;
+import com.interview.hashmapdemo.tracing.TracingHashMap;
 import java.util.HashMap;
+import java.util.Map;
 
 public class LoadFactorProblem implements HashMapProblem {
     private HashMap<Integer, String> map;
@@ -24,23 +27,42 @@ public class LoadFactorProblem implements HashMapProblem {
         int resizeThreshold = (int) (initialCapacity * loadFactor);
         System.out.println("Resize Threshold: " + resizeThreshold);
         
+        // Timed on a plain HashMap, so the numbers compare load factors and nothing else
+        long lookupTime = run(map, true);
+        System.out.println("Time for 1000 lookups: " + lookupTime + " ns");
+
+        // Where the time went: growth versus steady-state operations. The same work is
+        // replayed on a traced map; its timings include the tracer's own overhead.
+        MapTracer tracer = new MapTracer();
+        run(new TracingHashMap<>(initialCapacity, loadFactor, tracer), false);
+        System.out.println("\nTrace (separate traced run):");
+        System.out.print(tracer.report());
+    }
+
+    // Fills to the resize threshold and one past it, then times 1000 lookups
+    private long run(Map<Integer, String> map, boolean print) {
+        int resizeThreshold = (int) (initialCapacity * loadFactor);
+        
         // Fill up to threshold - 1
         for (int i = 0; i < resizeThreshold - 1; i++) {
             map.put(i, "value" + i);
         }
-        System.out.println("Size before resize: " + map.size());
+        if (print) {
+            System.out.println("Size before resize: " + map.size());
+        }
         
         // Add one more to trigger resize
         map.put(resizeThreshold, "value" + resizeThreshold);
-        System.out.println("Size after resize: " + map.size());
+        if (print) {
+            System.out.println("Size after resize: " + map.size());
+        }
         
         // Demonstrate performance impact
         long startTime = System.nanoTime();
         for (int i = 0; i < 1000; i++) {
             map.get(i % map.size());
         }
-        long endTime = System.nanoTime();
-        System.out.println("Time for 1000 lookups: " + (endTime - startTime) + " ns");
+        return System.nanoTime() - startTime;
     }
 
     @Override
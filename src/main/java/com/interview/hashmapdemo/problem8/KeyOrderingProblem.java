@@ -1,6 +1,7 @@
 package com.interview.hashmapdemo.problem8;
 
 import com.interview.hashmapdemo.HashMapProblem;
+import com.interview.hashmapdemo.map.CompactLinkedMap;
 import java.util.*;
 
 public class KeyOrderingProblem implements HashMapProblem {
@@ -45,6 +46,16 @@ public class KeyOrderingProblem implements HashMapProblem {
             System.out.println(entry.getKey() + " -> " + entry.getValue());
         }
 
+        // Demonstrate CompactLinkedMap ordering (insertion order without per-entry links)
+        System.out.println("\nCompactLinkedMap Ordering (insertion order, dense entry array):");
+        Map<Integer, String> compactMap = new CompactLinkedMap<>();
+        for (int key : keys) {
+            compactMap.put(key, "value" + key);
+        }
+        for (Map.Entry<Integer, String> entry : compactMap.entrySet()) {
+            System.out.println(entry.getKey() + " -> " + entry.getValue());
+        }
+
         // Demonstrate access order in LinkedHashMap
         System.out.println("\nLinkedHashMap with access order:");
         Map<Integer, String> accessOrderMap = new LinkedHashMap<>(16, 0.75f, true);
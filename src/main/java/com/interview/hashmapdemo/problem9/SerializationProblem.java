@@ -1,7 +1,12 @@
 package com.interview.hashmapdemo.problem9;
 
 import com.interview.hashmapdemo.HashMapProblem;
+import com.interview.hashmapdemo.copy.DeepCopier;
+import com.interview.hashmapdemo.io.MapEntryReader;
+import com.interview.hashmapdemo.io.StringMapCodec;
+import com.interview.hashmapdemo.map.PersistentHashMap;
 import java.io.*;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 
 public class SerializationProblem implements HashMapProblem {
@@ -45,15 +50,36 @@ public class SerializationProblem implements HashMapProblem {
 
             // Demonstrate deep copy
             System.out.println("\n3. Deep Copy:");
-            HashMap<String, StringBuilder> deepCopy = new HashMap<>();
-            for (HashMap.Entry<String, StringBuilder> entry : mutableMap.entrySet()) {
-                deepCopy.put(entry.getKey(), new StringBuilder(entry.getValue().toString()));
-            }
+            HashMap<String, StringBuilder> deepCopy = DeepCopier.copyMap(mutableMap);
             
             // Modify the original map's value
             mutableMap.get("key1").append(" again");
             System.out.println("Deep copy value after modifying original: " + 
                 deepCopy.get("key1"));
+
+            // Demonstrate the compact codec: no class descriptors, presized on read
+            System.out.println("\n4. Compact Map Codec:");
+            ByteBuffer encoded = StringMapCodec.encode(originalMap);
+            System.out.println("ObjectOutputStream bytes: " + serializedData.length
+                + ", StringMapCodec bytes: " + encoded.remaining());
+            System.out.println("Original map equals decoded map: " +
+                originalMap.equals(StringMapCodec.decode(encoded)));
+
+            // Demonstrate streaming entries without building the map first
+            System.out.println("\n5. Streaming Read:");
+            try (MapEntryReader<String, String> reader = MapEntryReader.fromJavaSerialization(
+                    new ByteArrayInputStream(serializedData))) {
+                while (reader.hasNext()) {
+                    System.out.println("Streamed entry: " + reader.next());
+                }
+            }
+
+            // Demonstrate snapshots that share structure instead of copying every entry
+            System.out.println("\n6. Persistent Map Snapshot:");
+            PersistentHashMap<String, String> snapshot = PersistentHashMap.copyOf(originalMap);
+            PersistentHashMap<String, String> updated = snapshot.with("key1", "updated");
+            System.out.println("Snapshot value: " + snapshot.get("key1")
+                + ", updated version value: " + updated.get("key1"));
         } catch (IOException | ClassNotFoundException e) {
             System.err.println("Error during serialization/deserialization: " + e.getMessage());
         }
@@ -0,0 +1,82 @@
+package com.interview.hashmapdemo.tracing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+// Collects latencies and growth events from one or more TracingHashMaps. Everything
+// here is lock-free, so a single tracer can be shared by maps on different threads.
+public class MapTracer {
+    private final LatencyHistogram getLatency = new LatencyHistogram();
+    private final LatencyHistogram steadyPutLatency = new LatencyHistogram();
+    private final LatencyHistogram growthPutLatency = new LatencyHistogram();
+    private final ConcurrentLinkedQueue<ResizeEvent> resizes = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<TreeifyEvent> treeifications = new ConcurrentLinkedQueue<>();
+
+    void recordGet(long nanos) {
+        getLatency.record(nanos);
+    }
+
+    void recordPut(long nanos, boolean grew) {
+        (grew ? growthPutLatency : steadyPutLatency).record(nanos);
+    }
+
+    void recordResize(ResizeEvent event) {
+        resizes.add(event);
+    }
+
+    void recordTreeify(TreeifyEvent event) {
+        treeifications.add(event);
+    }
+
+    public LatencyHistogram getGetLatency() {
+        return getLatency;
+    }
+
+    // Puts that neither resized the table nor treeified a bin
+    public LatencyHistogram getSteadyPutLatency() {
+        return steadyPutLatency;
+    }
+
+    // Puts that paid for a resize or a treeification
+    public LatencyHistogram getGrowthPutLatency() {
+        return growthPutLatency;
+    }
+
+    public List<ResizeEvent> getResizes() {
+        return new ArrayList<>(resizes);
+    }
+
+    public List<TreeifyEvent> getTreeifications() {
+        return new ArrayList<>(treeifications);
+    }
+
+    public void reset() {
+        getLatency.reset();
+        steadyPutLatency.reset();
+        growthPutLatency.reset();
+        resizes.clear();
+        treeifications.clear();
+    }
+
+    public String report() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("get:          ").append(getLatency).append('\n');
+        sb.append("put (steady): ").append(steadyPutLatency).append('\n');
+        sb.append("put (growth): ").append(growthPutLatency).append('\n');
+        long resizeNanos = 0;
+        for (ResizeEvent event : resizes) {
+            resizeNanos += event.getPauseNanos();
+        }
+        sb.append("resizes: ").append(resizes.size())
+                .append(", total pause: ").append(resizeNanos).append(" ns\n");
+        for (ResizeEvent event : resizes) {
+            sb.append("  ").append(event).append('\n');
+        }
+        sb.append("treeifications: ").append(treeifications.size()).append('\n');
+        for (TreeifyEvent event : treeifications) {
+            sb.append("  ").append(event).append('\n');
+        }
+        return sb.toString();
+    }
+}
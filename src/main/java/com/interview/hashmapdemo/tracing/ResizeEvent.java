@@ -0,0 +1,51 @@
+package com.interview.hashmapdemo.tracing;
+
+// One table growth observed by TracingHashMap
+public class ResizeEvent {
+    public enum Cause {
+        // size exceeded capacity * loadFactor
+        THRESHOLD,
+        // a bin reached TREEIFY_THRESHOLD while the table was smaller than MIN_TREEIFY_CAPACITY
+        COLLISIONS
+    }
+
+    private final Cause cause;
+    private final int oldCapacity;
+    private final int newCapacity;
+    private final int entriesMoved;
+    private final long pauseNanos;
+
+    public ResizeEvent(Cause cause, int oldCapacity, int newCapacity, int entriesMoved, long pauseNanos) {
+        this.cause = cause;
+        this.oldCapacity = oldCapacity;
+        this.newCapacity = newCapacity;
+        this.entriesMoved = entriesMoved;
+        this.pauseNanos = pauseNanos;
+    }
+
+    public Cause getCause() {
+        return cause;
+    }
+
+    public int getOldCapacity() {
+        return oldCapacity;
+    }
+
+    public int getNewCapacity() {
+        return newCapacity;
+    }
+
+    public int getEntriesMoved() {
+        return entriesMoved;
+    }
+
+    public long getPauseNanos() {
+        return pauseNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "Resize[" + cause + "] " + oldCapacity + " -> " + newCapacity +
+                ", entries moved: " + entriesMoved + ", pause: " + pauseNanos + " ns";
+    }
+}
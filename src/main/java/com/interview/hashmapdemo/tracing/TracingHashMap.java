@@ -0,0 +1,215 @@
+package com.interview.hashmapdemo.tracing;
+
+import java.util.*;
+
+// HashMap wrapper that times every get/put and reports resizes and treeifications to a
+// MapTracer. HashMap exposes neither its capacity nor its bins, so the wrapper keeps a
+// shadow of both using HashMap's own sizing rules (tableSizeFor, threshold, spread,
+// TREEIFY_THRESHOLD, MIN_TREEIFY_CAPACITY). Bookkeeping happens outside the timed region.
+public class TracingHashMap<K, V> extends AbstractMap<K, V> {
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private static final int TREEIFY_THRESHOLD = 8;
+    private static final int UNTREEIFY_THRESHOLD = 6;
+    private static final int MIN_TREEIFY_CAPACITY = 64;
+
+    private final HashMap<K, V> map;
+    private final MapTracer tracer;
+    private final float loadFactor;
+    // HashMap allocates its table lazily on the first put
+    private int capacity;
+    private int threshold;
+    private int[] binSizes;
+    private boolean[] treeBins;
+    private Set<Map.Entry<K, V>> entrySet;
+
+    public TracingHashMap(MapTracer tracer) {
+        this(DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR, tracer);
+    }
+
+    public TracingHashMap(int initialCapacity, float loadFactor, MapTracer tracer) {
+        this.map = new HashMap<>(initialCapacity, loadFactor);
+        this.tracer = tracer;
+        this.loadFactor = loadFactor;
+        this.capacity = Math.max(tableSizeFor(initialCapacity), 1);
+    }
+
+    private static int tableSizeFor(int cap) {
+        int n = -1 >>> Integer.numberOfLeadingZeros(cap - 1);
+        return n < 0 ? 1 : n >= MAXIMUM_CAPACITY ? MAXIMUM_CAPACITY : n + 1;
+    }
+
+    private static int spread(Object key) {
+        int h;
+        return key == null ? 0 : (h = key.hashCode()) ^ (h >>> 16);
+    }
+
+    public MapTracer getTracer() {
+        return tracer;
+    }
+
+    public int getCapacity() {
+        return binSizes == null ? 0 : capacity;
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public V get(Object key) {
+        long start = System.nanoTime();
+        V value = map.get(key);
+        tracer.recordGet(System.nanoTime() - start);
+        return value;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        int sizeBefore = map.size();
+        long start = System.nanoTime();
+        V old = map.put(key, value);
+        long nanos = System.nanoTime() - start;
+        boolean grew = map.size() > sizeBefore && onInsert(key, nanos);
+        tracer.recordPut(nanos, grew);
+        return old;
+    }
+
+    // Replays HashMap.putVal on the shadow table; returns true if the put resized or treeified
+    private boolean onInsert(K key, long nanos) {
+        boolean grew = false;
+        if (binSizes == null) {
+            binSizes = new int[capacity];
+            treeBins = new boolean[capacity];
+            threshold = (int) (capacity * loadFactor);
+        }
+        int bucket = spread(key) & (capacity - 1);
+        int existing = binSizes[bucket]++;
+        if (existing >= TREEIFY_THRESHOLD && !treeBins[bucket]) {
+            if (capacity < MIN_TREEIFY_CAPACITY) {
+                resizeShadow(ResizeEvent.Cause.COLLISIONS, nanos);
+            } else {
+                treeBins[bucket] = true;
+                tracer.recordTreeify(new TreeifyEvent(bucket, capacity, existing + 1, nanos));
+            }
+            grew = true;
+        }
+        if (map.size() > threshold) {
+            resizeShadow(ResizeEvent.Cause.THRESHOLD, nanos);
+            grew = true;
+        }
+        return grew;
+    }
+
+    private void resizeShadow(ResizeEvent.Cause cause, long nanos) {
+        if (capacity >= MAXIMUM_CAPACITY) {
+            return;
+        }
+        int oldCapacity = capacity;
+        boolean[] oldTreeBins = treeBins;
+        capacity = oldCapacity << 1;
+        threshold = (int) (capacity * loadFactor);
+        binSizes = new int[capacity];
+        treeBins = new boolean[capacity];
+        for (K key : map.keySet()) {
+            binSizes[spread(key) & (capacity - 1)]++;
+        }
+        // A split tree bin stays a tree only if it keeps more than UNTREEIFY_THRESHOLD nodes
+        for (int i = 0; i < capacity; i++) {
+            treeBins[i] = oldTreeBins[i & (oldCapacity - 1)] && binSizes[i] > UNTREEIFY_THRESHOLD;
+        }
+        tracer.recordResize(new ResizeEvent(cause, oldCapacity, capacity, map.size(), nanos));
+    }
+
+    private void onRemove(Object key) {
+        int bucket = spread(key) & (capacity - 1);
+        if (--binSizes[bucket] == 0) {
+            treeBins[bucket] = false;
+        }
+    }
+
+    @Override
+    public V remove(Object key) {
+        if (!map.containsKey(key)) {
+            return null;
+        }
+        V old = map.remove(key);
+        onRemove(key);
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        map.clear();
+        if (binSizes != null) {
+            Arrays.fill(binSizes, 0);
+            Arrays.fill(treeBins, false);
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        Set<Map.Entry<K, V>> es = entrySet;
+        return es != null ? es : (entrySet = new EntrySet());
+    }
+
+    // Delegates to the HashMap's entry set but keeps the shadow bins in sync on removal
+    private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            Iterator<Map.Entry<K, V>> delegate = map.entrySet().iterator();
+            return new Iterator<Map.Entry<K, V>>() {
+                private K lastKey;
+
+                @Override
+                public boolean hasNext() {
+                    return delegate.hasNext();
+                }
+
+                @Override
+                public Map.Entry<K, V> next() {
+                    Map.Entry<K, V> entry = delegate.next();
+                    lastKey = entry.getKey();
+                    return entry;
+                }
+
+                @Override
+                public void remove() {
+                    delegate.remove();
+                    onRemove(lastKey);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return map.entrySet().contains(o);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            if (!map.entrySet().remove(o)) {
+                return false;
+            }
+            onRemove(((Map.Entry<?, ?>) o).getKey());
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            TracingHashMap.this.clear();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.interview.hashmapdemo.tracing;
+
+// A bin converted from a linked list to a red-black tree, observed by TracingHashMap
+public class TreeifyEvent {
+    private final int bucket;
+    private final int capacity;
+    private final int binSize;
+    private final long pauseNanos;
+
+    public TreeifyEvent(int bucket, int capacity, int binSize, long pauseNanos) {
+        this.bucket = bucket;
+        this.capacity = capacity;
+        this.binSize = binSize;
+        this.pauseNanos = pauseNanos;
+    }
+
+    public int getBucket() {
+        return bucket;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getBinSize() {
+        return binSize;
+    }
+
+    public long getPauseNanos() {
+        return pauseNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "Treeify bucket " + bucket + " of " + capacity +
+                ", bin size: " + binSize + ", pause: " + pauseNanos + " ns";
+    }
+}
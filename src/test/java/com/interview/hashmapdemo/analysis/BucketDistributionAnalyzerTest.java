@@ -0,0 +1,109 @@
+package com.interview.hashmapdemo.analysis;
+
+import com.interview.hashmapdemo.hash.CollidingStrings;
+import org.junit.jupiter.api.Test;
+import java.util.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BucketDistributionAnalyzerTest {
+
+    private static final class PoorHashCode {
+        private final int value;
+
+        PoorHashCode(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof PoorHashCode && ((PoorHashCode) obj).value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            return value % 2; // Only two possible hash codes
+        }
+    }
+
+    // Test case 1: Integer keys 0..999, whose hash codes are all distinct and consecutive
+    // Expected: HashMap's final table size, at most one key per bucket, one probe per hit
+    @Test
+    void testUniformKeys() {
+        List<Integer> keys = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            keys.add(i);
+        }
+        BucketDistribution distribution = BucketDistributionAnalyzer.analyze(keys);
+        assertEquals(1000, distribution.getEntryCount());
+        assertEquals(2048, distribution.getCapacity());
+        assertEquals(1, distribution.getLongestChain());
+        assertEquals(1048, distribution.getEmptyBuckets());
+        assertEquals(0, distribution.getTreeifiedBins());
+        assertEquals(1.0, distribution.getChainedHitProbes(), 1e-9);
+        assertEquals(1.0, distribution.getOpenAddressingHitProbes(), 1e-9);
+        assertTrue(distribution.problems().isEmpty(), distribution.report());
+    }
+
+    // Test case 2: The PoorHashCode keys of HashCollisionProblemTest (value % 2)
+    // Expected: Two chains of 50 that treeify once the table reaches 64 buckets, and problems reported
+    @Test
+    void testPoorHashCodeDistribution() {
+        Map<PoorHashCode, String> map = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            map.put(new PoorHashCode(i), "value" + i);
+        }
+        BucketDistribution distribution = BucketDistributionAnalyzer.analyze(map);
+        assertEquals(2, distribution.getDistinctHashCodes());
+        assertEquals(256, distribution.getCapacity());
+        assertEquals(50, distribution.getLongestChain());
+        assertEquals(2, distribution.getHistogram()[50]);
+        assertEquals(2, distribution.getTreeifiedBins());
+        // Linear probing walks a cluster of 100 keys
+        assertTrue(distribution.getOpenAddressingHitProbes() > 40);
+        assertEquals(4, distribution.problems().size(), distribution.report());
+    }
+
+    // Test case 3: Keys 0, 1 and 16 in a 16-bucket table
+    // Expected: Hand-computed probe counts for both layouts
+    @Test
+    void testProbeCounts() {
+        BucketDistribution distribution = BucketDistributionAnalyzer.analyze(Arrays.asList(0, 1, 16));
+        assertEquals(16, distribution.getCapacity());
+        // Buckets {0, 16} and {1}
+        assertEquals(4.0 / 3, distribution.getChainedHitProbes(), 1e-9);
+        assertEquals(3.0 / 16, distribution.getChainedMissProbes(), 1e-9);
+        // 16 lands in slot 2 after reading slots 0 and 1
+        assertEquals(5.0 / 3, distribution.getOpenAddressingHitProbes(), 1e-9);
+        // Misses starting at slots 0, 1, 2 read 4, 3 and 2 slots; the other 13 read one
+        assertEquals(22.0 / 16, distribution.getOpenAddressingMissProbes(), 1e-9);
+    }
+
+    // Test case 4: 1024 Strings sharing one String.hashCode()
+    // Expected: One treeified bin holding every key
+    @Test
+    void testCollidingStrings() {
+        BucketDistribution distribution = BucketDistributionAnalyzer.analyze(
+                Arrays.asList(CollidingStrings.generate(1024)));
+        assertEquals(1, distribution.getDistinctHashCodes());
+        assertEquals(1024, distribution.getLongestChain());
+        assertEquals(1, distribution.getTreeifiedBins());
+        // A tree of 1024 nodes is about 10 deep, far cheaper than a list of 1024
+        assertTrue(distribution.getChainedHitProbes() < 11);
+        assertFalse(distribution.problems().isEmpty());
+    }
+
+    // Test case 5: Duplicates and a null key, a presized table, and invalid arguments
+    // Expected: Duplicates counted once; the initial capacity is rounded up like HashMap's
+    @Test
+    void testDuplicatesAndSizing() {
+        BucketDistribution distribution = BucketDistributionAnalyzer.analyze(
+                Arrays.asList("a", "b", "a", null, "b"), 100, 0.75f);
+        assertEquals(3, distribution.getEntryCount());
+        assertEquals(128, distribution.getCapacity());
+        assertTrue(distribution.report().contains("3 keys"));
+        assertThrows(IllegalArgumentException.class,
+                () -> BucketDistributionAnalyzer.analyze(List.of(), -1, 0.75f));
+        assertThrows(IllegalArgumentException.class,
+                () -> BucketDistributionAnalyzer.analyze(List.of(), 16, 0));
+    }
+}
@@ -0,0 +1,62 @@
+package com.interview.hashmapdemo.analysis;
+
+import org.junit.jupiter.api.Test;
+import java.io.StringWriter;
+import java.util.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoadFactorSweepTest {
+
+    // Test case 1: Pareto frontier over synthetic measurements
+    // Expected: Only points that no other point beats on every axis remain
+    @Test
+    void testParetoFrontier() {
+        SweepResult compact = new SweepResult("INTEGER", 1000, 16, 0.9f, 40, 1e6, 2e6);
+        SweepResult fast = new SweepResult("INTEGER", 1000, 16, 0.5f, 60, 2e6, 3e6);
+        SweepResult dominated = new SweepResult("INTEGER", 1000, 16, 0.75f, 65, 1.5e6, 2.5e6);
+        // Worse than everything above, but alone in its group
+        SweepResult otherGroup = new SweepResult("STRING", 1000, 16, 0.75f, 100, 1e5, 1e5);
+
+        List<SweepResult> frontier = LoadFactorSweep.paretoFrontier(
+                Arrays.asList(compact, fast, dominated, otherGroup));
+
+        assertEquals(Arrays.asList(compact, fast, otherGroup), frontier);
+    }
+
+    // Test case 2: A small real sweep
+    // Expected: One result per grid point, with positive measurements
+    @Test
+    void testSmallSweep() {
+        LoadFactorSweep sweep = new LoadFactorSweep(new int[]{16, 1024}, new float[]{0.5f, 0.75f},
+                new int[]{1000}, Collections.singletonList(LoadFactorSweep.KeyType.INTEGER), 1);
+        List<SweepResult> results = sweep.run();
+        assertEquals(4, results.size());
+        for (SweepResult result : results) {
+            assertTrue(result.getInsertOpsPerSecond() > 0);
+            assertTrue(result.getLookupOpsPerSecond() > 0);
+            assertTrue(result.getBytesPerEntry() >= 0);
+        }
+        assertFalse(LoadFactorSweep.paretoFrontier(results).isEmpty());
+    }
+
+    // Test case 3: CSV and HTML reports
+    // Expected: A header plus one row per result, frontier rows flagged
+    @Test
+    void testReports() {
+        List<SweepResult> results = Arrays.asList(
+                new SweepResult("INTEGER", 1000, 16, 0.5f, 60, 2e6, 3e6),
+                new SweepResult("INTEGER", 1000, 16, 0.75f, 65, 1.5e6, 2.5e6));
+
+        StringWriter csv = new StringWriter();
+        LoadFactorSweep.writeCsv(results, csv);
+        String[] lines = csv.toString().trim().split("\\R");
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("keyType,entryCount,initialCapacity,loadFactor"));
+        assertEquals("INTEGER,1000,16,0.50,60.0,2000000,3000000,true", lines[1]);
+        assertTrue(lines[2].endsWith(",false"));
+
+        StringWriter html = new StringWriter();
+        LoadFactorSweep.writeHtml(results, html);
+        assertTrue(html.toString().contains("class=\"frontier\""));
+    }
+}
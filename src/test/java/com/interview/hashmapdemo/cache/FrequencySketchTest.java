@@ -0,0 +1,63 @@
+package com.interview.hashmapdemo.cache;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FrequencySketchTest {
+
+    // Test case 1: Counting a key a few times
+    // Expected: The estimate never undercounts and saturates at 15
+    @Test
+    void testIncrementAndSaturate() {
+        FrequencySketch sketch = new FrequencySketch(64);
+        assertEquals(0, sketch.frequency("key"));
+        for (int i = 1; i <= 20; i++) {
+            sketch.increment("key");
+            assertTrue(sketch.frequency("key") >= Math.min(i, 15));
+        }
+        assertEquals(15, sketch.frequency("key"));
+    }
+
+    // Test case 2: Enough increments to reach the sample size
+    // Expected: Counters are halved, so old popularity ages out
+    @Test
+    void testAging() {
+        FrequencySketch sketch = new FrequencySketch(64);
+        for (int i = 0; i < 10; i++) {
+            sketch.increment("hot");
+        }
+        int before = sketch.frequency("hot");
+        // Sample size is 10 * maximumSize increments
+        for (int i = 0; i < 640; i++) {
+            sketch.increment(i);
+        }
+        assertTrue(sketch.frequency("hot") < before, "Frequency should decay after a reset");
+    }
+
+    // Test case 3: A reset with odd counters, then counting up to the next reset
+    // Expected: size drops to (10 - 8 / 4) / 2 = 4, so the next reset comes 6 increments later
+    @Test
+    void testSizeAfterReset() {
+        // One long of 16 counters and a sample size of 10
+        FrequencySketch sketch = new FrequencySketch(1);
+        for (int i = 0; i < 9; i++) {
+            sketch.increment("a");
+        }
+        // A key whose 4 counters lie in a different quarter of the long than "a"'s
+        int other = 0;
+        while (sketch.frequency(other) != 0) {
+            other++;
+        }
+        // The 10th increment resets with 8 odd counters: four at 9 and four at 1
+        sketch.increment(other);
+        assertEquals(4, sketch.frequency("a"));
+        assertEquals(0, sketch.frequency(other));
+
+        for (int i = 0; i < 5; i++) {
+            sketch.increment(other);
+        }
+        assertEquals(4, sketch.frequency("a"), "No reset while size is below the sample size");
+        sketch.increment(other);
+        assertEquals(2, sketch.frequency("a"), "The 6th increment brings size back to 10");
+    }
+}
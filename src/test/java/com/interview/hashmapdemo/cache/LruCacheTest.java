@@ -0,0 +1,84 @@
+package com.interview.hashmapdemo.cache;
+
+import org.junit.jupiter.api.Test;
+import java.util.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LruCacheTest {
+
+    // Test case 1: Entry bound with the access pattern from KeyOrderingProblem
+    // Expected: The least recently used key is evicted, accessed keys survive
+    @Test
+    void testEvictsLeastRecentlyUsed() {
+        LruCache<Integer, String> cache = new LruCache<>(5);
+        int[] keys = {3, 1, 4, 2, 5};
+        for (int key : keys) {
+            cache.put(key, "value" + key);
+        }
+        cache.get(1);
+        cache.get(3);
+        assertEquals(Arrays.asList(4, 2, 5, 1, 3), cache.keysInAccessOrder());
+
+        cache.put(6, "value6");
+        assertNull(cache.get(4), "Least recently used key should be evicted");
+        assertEquals("value3", cache.get(3));
+        assertEquals(5, cache.size());
+        assertEquals(1, cache.stats().getEvictionCount());
+    }
+
+    // Test case 2: Weight bound
+    // Expected: As many eldest entries as needed are evicted to get back under the weight
+    @Test
+    void testWeightBound() {
+        LruCache<String, String> cache = new LruCache<>(100, 10, (key, value) -> value.length());
+        cache.put("a", "xxxx");
+        cache.put("b", "xxxx");
+        assertEquals(8, cache.weightedSize());
+        cache.put("c", "xxxxxxxx");
+        assertNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals("xxxxxxxx", cache.get("c"));
+        assertEquals(8, cache.weightedSize());
+        assertEquals(2, cache.stats().getEvictionCount());
+
+        // Replacing a value re-weighs the entry
+        cache.put("c", "x");
+        assertEquals(1, cache.weightedSize());
+    }
+
+    // Test case 3: Hit and miss counters
+    // Expected: Every lookup counts exactly once
+    @Test
+    void testStats() {
+        LruCache<String, String> cache = new LruCache<>(10);
+        cache.put("key1", "value1");
+        cache.get("key1");
+        cache.get("key1");
+        cache.get("missing");
+        CacheStats stats = cache.stats();
+        assertEquals(2, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(2.0 / 3, stats.getHitRate(), 1e-9);
+    }
+
+    // Test case 4: Bulk getAll with a loader
+    // Expected: Only missing keys are loaded, in one call, and then cached
+    @Test
+    void testGetAllWithBulkLoader() {
+        LruCache<Integer, String> cache = new LruCache<>(10);
+        cache.put(1, "one");
+        List<Set<Integer>> loaderCalls = new ArrayList<>();
+        Map<Integer, String> result = cache.getAll(Arrays.asList(1, 2, 3), missing -> {
+            loaderCalls.add(new HashSet<>(missing));
+            Map<Integer, String> loaded = new HashMap<>();
+            for (Integer key : missing) {
+                loaded.put(key, "loaded" + key);
+            }
+            return loaded;
+        });
+        assertEquals(Collections.singletonList(new HashSet<>(Arrays.asList(2, 3))), loaderCalls);
+        assertEquals("one", result.get(1));
+        assertEquals("loaded2", result.get(2));
+        assertEquals("loaded3", cache.get(3), "Loaded values should be cached");
+    }
+}
@@ -0,0 +1,181 @@
+package com.interview.hashmapdemo.cache;
+
+import org.junit.jupiter.api.Test;
+import java.util.*;
+import java.util.concurrent.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TinyLfuCacheTest {
+
+    // Test case 1: Basic put, get, replace and remove
+    // Expected: Same return values as a map, and every lookup counted once
+    @Test
+    void testBasicOperations() {
+        TinyLfuCache<String, String> cache = new TinyLfuCache<>(10, Runnable::run);
+        assertNull(cache.put("key1", "value1"));
+        assertEquals("value1", cache.get("key1"));
+        assertEquals("value1", cache.put("key1", "value2"));
+        assertEquals("value2", cache.get("key1"));
+        assertNull(cache.get("missing"));
+        assertEquals("value2", cache.remove("key1"));
+        assertNull(cache.get("key1"));
+        assertNull(cache.remove("key1"));
+
+        CacheStats stats = cache.stats();
+        assertEquals(2, stats.getHitCount());
+        assertEquals(2, stats.getMissCount());
+    }
+
+    // Test case 2: More distinct keys than the maximum size
+    // Expected: After the buffers drain the cache holds at most maximumSize entries
+    @Test
+    void testSizeBound() {
+        TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>(100, Runnable::run);
+        for (int i = 0; i < 1000; i++) {
+            cache.put(i, i);
+        }
+        cache.cleanUp();
+        assertEquals(100, cache.estimatedSize());
+        assertEquals(900, cache.stats().getEvictionCount());
+    }
+
+    // Test case 3: Popular keys requested between runs of one-hit keys longer than the cache
+    // Expected: TinyLFU keeps serving the popular keys, plain LRU loses them to every scan
+    @Test
+    void testScanResistance() {
+        TinyLfuCache<Integer, Integer> tinyLfu = new TinyLfuCache<>(100, Runnable::run);
+        LruCache<Integer, Integer> lru = new LruCache<>(100);
+        int scanKey = 1000;
+        for (int round = 0; round < 20; round++) {
+            for (int key = 0; key < 10; key++) {
+                if (tinyLfu.get(key) == null) {
+                    tinyLfu.put(key, key);
+                }
+                if (lru.get(key) == null) {
+                    lru.put(key, key);
+                }
+            }
+            for (int i = 0; i < 200; i++, scanKey++) {
+                tinyLfu.put(scanKey, scanKey);
+                lru.put(scanKey, scanKey);
+            }
+            tinyLfu.cleanUp();
+        }
+
+        // Until the sketch has seen the popular keys a few times TinyLFU can still lose
+        // some of them; after that only LRU keeps missing
+        long tinyLfuMisses = tinyLfu.stats().getMissCount();
+        long lruMisses = lru.stats().getMissCount();
+        assertEquals(200, lruMisses, "LRU misses every popular key after every scan");
+        assertTrue(tinyLfuMisses <= 50, "TinyLFU misses: " + tinyLfuMisses);
+        for (int key = 0; key < 10; key++) {
+            assertEquals(key, tinyLfu.get(key));
+        }
+    }
+
+    // Test case 4: Null keys and values, illegal maximum size
+    // Expected: NullPointerException and IllegalArgumentException like LruCache
+    @Test
+    void testRejectsIllegalArguments() {
+        TinyLfuCache<String, String> cache = new TinyLfuCache<>(10, Runnable::run);
+        assertThrows(NullPointerException.class, () -> cache.put("key", null));
+        assertThrows(NullPointerException.class, () -> cache.put(null, "value"));
+        assertThrows(IllegalArgumentException.class, () -> new TinyLfuCache<>(0));
+    }
+
+    // Test case 5: clear()
+    // Expected: All entries gone and the cache still usable afterwards
+    @Test
+    void testClear() {
+        TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>(10, Runnable::run);
+        for (int i = 0; i < 10; i++) {
+            cache.put(i, i);
+        }
+        cache.clear();
+        assertEquals(0, cache.estimatedSize());
+        cache.put(1, 1);
+        assertEquals(1, cache.get(1));
+    }
+
+    // Test case 6: Many threads reading and writing through the asynchronous drain
+    // Expected: No exceptions, values always match keys, bound holds once drained
+    @Test
+    void testConcurrentAccess() throws Exception {
+        TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>(500);
+        int threads = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            long seed = t;
+            futures.add(pool.submit(() -> {
+                Random random = new Random(seed);
+                for (int i = 0; i < 100_000; i++) {
+                    int key = random.nextInt(2000);
+                    Integer value = cache.get(key);
+                    if (value == null) {
+                        cache.put(key, key);
+                    } else {
+                        assertEquals(key, value);
+                    }
+                    if (i % 1000 == 0) {
+                        cache.remove(random.nextInt(2000));
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+        cache.cleanUp();
+        assertTrue(cache.estimatedSize() <= 500, "Size after drain: " + cache.estimatedSize());
+        assertTrue(cache.stats().getHitCount() > 0);
+    }
+
+    // Test case 7: A run of one-hit keys, with one earlier popular key among them, put
+    // through a full cache of popular keys and then drained together
+    // Expected: Only the returning key wins admission; each one-hit key is judged and rejected
+    @Test
+    void testOneHitKeysDoNotDisplaceResidents() {
+        TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>(100, Runnable::run);
+        int returning = 500;
+        cache.put(returning, returning);
+        for (int i = 0; i < 8; i++) {
+            cache.get(returning);
+        }
+        cache.cleanUp();
+        cache.remove(returning);
+        cache.cleanUp();
+
+        for (int key = 0; key < 100; key++) {
+            cache.put(key, key);
+        }
+        for (int round = 0; round < 3; round++) {
+            for (int key = 0; key < 100; key++) {
+                cache.get(key);
+            }
+            cache.cleanUp();
+        }
+        for (int key = 1000; key < 1038; key++) {
+            cache.put(key, key);
+        }
+        cache.put(returning, returning);
+        cache.put(1038, 1038);
+        cache.cleanUp();
+
+        int admitted = 0;
+        for (int key = 1000; key < 1038; key++) {
+            admitted += cache.get(key) == null ? 0 : 1;
+        }
+        int kept = 0;
+        for (int key = 0; key < 100; key++) {
+            kept += cache.get(key) == null ? 0 : 1;
+        }
+        assertEquals(0, admitted, "One-hit keys admitted without beating a resident");
+        // One resident makes room for the returning key; key 99, still in the window when
+        // the run began, was a candidate too and lost its tie
+        assertEquals(98, kept);
+        assertEquals(returning, cache.get(returning));
+        assertEquals(1038, cache.get(1038), "The newest key waits in the window");
+    }
+}
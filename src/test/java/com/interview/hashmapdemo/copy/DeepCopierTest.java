@@ -0,0 +1,143 @@
+package com.interview.hashmapdemo.copy;
+
+import org.junit.jupiter.api.Test;
+import java.time.LocalDate;
+import java.util.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DeepCopierTest {
+
+    static class Account {
+        final String id;
+        long balance;
+        int[] history;
+        List<StringBuilder> notes = new ArrayList<>();
+        Object attachment;
+
+        Account() {
+            this("unset");
+        }
+
+        Account(String id) {
+            this.id = id;
+        }
+    }
+
+    static class PremiumAccount extends Account {
+        private Map<String, StringBuilder> perks = new HashMap<>();
+
+        PremiumAccount() {
+        }
+    }
+
+    record Point(int x, int y, StringBuilder label) {
+    }
+
+    static class NoDefaultConstructor {
+        final StringBuilder value;
+
+        NoDefaultConstructor(StringBuilder value) {
+            this.value = value;
+        }
+    }
+
+    // Test case 1: The StringBuilder map from SerializationProblem
+    // Expected: Values are new objects; changing the original does not reach the copy
+    @Test
+    void testCopyMapOfStringBuilders() {
+        HashMap<String, StringBuilder> original = new HashMap<>();
+        original.put("key1", new StringBuilder("value1"));
+        original.put("key2", new StringBuilder("value2"));
+        HashMap<String, StringBuilder> copy = DeepCopier.copyMap(original);
+
+        original.get("key1").append(" modified");
+        assertEquals("value1", copy.get("key1").toString());
+        assertNotSame(original.get("key2"), copy.get("key2"));
+        assertSame(original.keySet().iterator().next().getClass(), String.class);
+    }
+
+    // Test case 2: Plain classes, including final, inherited, array and Object-typed fields
+    // Expected: Every field copied, mutable ones deeply
+    @Test
+    void testFieldCopier() {
+        PremiumAccount original = new PremiumAccount();
+        original.balance = 42;
+        original.history = new int[]{1, 2, 3};
+        original.notes.add(new StringBuilder("note"));
+        original.attachment = new StringBuilder("attachment");
+        original.perks.put("lounge", new StringBuilder("yes"));
+
+        PremiumAccount copy = DeepCopier.copy(original);
+        assertNotSame(original, copy);
+        assertEquals("unset", copy.id);
+        assertEquals(42, copy.balance);
+        assertArrayEquals(new int[]{1, 2, 3}, copy.history);
+        assertNotSame(original.history, copy.history);
+        assertNotSame(original.notes.get(0), copy.notes.get(0));
+        assertEquals("attachment", copy.attachment.toString());
+        assertNotSame(original.attachment, copy.attachment);
+        assertNotSame(original.perks.get("lounge"), copy.perks.get("lounge"));
+        assertEquals("yes", copy.perks.get("lounge").toString());
+    }
+
+    // Test case 3: Records, immutable types, nested JDK collections and arrays
+    // Expected: Records rebuilt through the constructor, immutable values shared
+    @Test
+    void testRecordsAndJdkTypes() {
+        Point point = new Point(1, 2, new StringBuilder("p"));
+        Point copy = DeepCopier.copy(point);
+        assertEquals(1, copy.x());
+        assertNotSame(point.label(), copy.label());
+
+        String s = "shared";
+        LocalDate date = LocalDate.of(2024, 1, 1);
+        assertSame(s, DeepCopier.copy(s));
+        assertSame(date, DeepCopier.copy(date));
+        assertNull(DeepCopier.copy(null));
+
+        LinkedHashMap<String, StringBuilder[]> accessOrder = new LinkedHashMap<>(16, 0.75f, true);
+        accessOrder.put("a", new StringBuilder[]{new StringBuilder("x")});
+        accessOrder.put("b", new StringBuilder[0]);
+        LinkedHashMap<String, StringBuilder[]> mapCopy = DeepCopier.copy(accessOrder);
+        mapCopy.get("a");
+        assertEquals(List.of("b", "a"), new ArrayList<>(mapCopy.keySet()), "Access order should be kept");
+        assertNotSame(accessOrder.get("a")[0], mapCopy.get("a")[0]);
+
+        TreeMap<String, Date> tree = new TreeMap<>(Comparator.reverseOrder());
+        tree.put("a", new Date(1));
+        tree.put("b", new Date(2));
+        TreeMap<String, Date> treeCopy = DeepCopier.copy(tree);
+        assertEquals("b", treeCopy.firstKey());
+        assertNotSame(tree.get("a"), treeCopy.get("a"));
+    }
+
+    // Test case 4: Classes without a no-arg constructor
+    // Expected: Serializable ones go through serialization, others are rejected
+    @Test
+    void testFallbacks() {
+        ArrayDeque<StringBuilder> deque = new ArrayDeque<>(List.of(new StringBuilder("d")));
+        ArrayDeque<StringBuilder> dequeCopy = DeepCopier.copy(deque);
+        assertNotSame(deque.peek(), dequeCopy.peek());
+        assertEquals("d", dequeCopy.peek().toString());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> DeepCopier.copy(new NoDefaultConstructor(new StringBuilder())));
+    }
+
+    // Test case 5: Parallel copy of a map above the parallel threshold
+    // Expected: Same contents as the sequential copy, with independent values
+    @Test
+    void testCopyMapParallel() {
+        HashMap<Integer, StringBuilder> original = new HashMap<>();
+        for (int i = 0; i < DeepCopier.PARALLEL_THRESHOLD * 2; i++) {
+            original.put(i, new StringBuilder("value" + i));
+        }
+        HashMap<Integer, StringBuilder> copy = DeepCopier.copyMapParallel(original);
+        assertEquals(original.size(), copy.size());
+        for (Map.Entry<Integer, StringBuilder> e : original.entrySet()) {
+            StringBuilder copied = copy.get(e.getKey());
+            assertNotSame(e.getValue(), copied);
+            assertEquals(e.getValue().toString(), copied.toString());
+        }
+    }
+}
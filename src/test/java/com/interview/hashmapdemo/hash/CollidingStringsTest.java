@@ -0,0 +1,38 @@
+package com.interview.hashmapdemo.hash;
+
+import org.junit.jupiter.api.Test;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CollidingStringsTest {
+
+    // Test case 1: 1000 generated strings, a count that is not a power of two
+    // Expected: All distinct and all with the same String.hashCode()
+    @Test
+    void testStringsCollide() {
+        String[] strings = CollidingStrings.generate(1000);
+        assertEquals(1000, strings.length);
+        assertEquals(1000, new HashSet<>(Arrays.asList(strings)).size());
+        Set<Integer> hashes = new HashSet<>();
+        for (String s : strings) {
+            hashes.add(s.hashCode());
+        }
+        assertEquals(1, hashes.size());
+    }
+
+    // Test case 2: A common prefix, and counts of zero and one
+    // Expected: Prefixed strings still collide; small and negative counts are handled
+    @Test
+    void testPrefixAndEdgeCounts() {
+        String[] strings = CollidingStrings.generate("X-Header-", 64);
+        for (String s : strings) {
+            assertTrue(s.startsWith("X-Header-"));
+            assertEquals(strings[0].hashCode(), s.hashCode());
+        }
+        assertEquals(0, CollidingStrings.generate(0).length);
+        assertEquals(1, CollidingStrings.generate(1).length);
+        assertThrows(IllegalArgumentException.class, () -> CollidingStrings.generate(-1));
+    }
+}
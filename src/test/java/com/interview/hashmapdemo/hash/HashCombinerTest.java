@@ -0,0 +1,50 @@
+package com.interview.hashmapdemo.hash;
+
+import org.junit.jupiter.api.Test;
+import java.util.Objects;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HashCombinerTest {
+
+    // Test case 1: Static overloads for object and primitive fields, including nulls
+    // Expected: The same values as Objects.hash with the fields boxed
+    @Test
+    void testMatchesObjectsHash() {
+        assertEquals(Objects.hash("Alice"), HashCombiner.hash("Alice"));
+        assertEquals(Objects.hash((Object) null), HashCombiner.hash((Object) null));
+        assertEquals(Objects.hash(-7), HashCombiner.hash(-7));
+        assertEquals(Objects.hash(1L << 40), HashCombiner.hash(1L << 40));
+        assertEquals(Objects.hash("Alice", 30), HashCombiner.hash("Alice", 30));
+        assertEquals(Objects.hash(null, 30), HashCombiner.hash(null, 30));
+        assertEquals(Objects.hash("id", -1L), HashCombiner.hash("id", -1L));
+        assertEquals(Objects.hash(3, 4), HashCombiner.hash(3, 4));
+        assertEquals(Objects.hash(3L << 33, 4L), HashCombiner.hash(3L << 33, 4L));
+        assertEquals(Objects.hash("a", 5, 6), HashCombiner.hash("a", 5, 6));
+        assertEquals(Objects.hash("a", 5, 1L << 40), HashCombiner.hash("a", 5, 1L << 40));
+        assertEquals(Objects.hash("a", "b", -5), HashCombiner.hash("a", "b", -5));
+        assertEquals(Objects.hash("a", "b", -5L << 35), HashCombiner.hash("a", "b", -5L << 35));
+        assertEquals(Objects.hash("a", "b", null), HashCombiner.hash("a", "b", null));
+        assertEquals(Objects.hash("a", "b", "c", null), HashCombiner.hash("a", "b", "c", null));
+    }
+
+    // Test case 2: The fluent form and combine() over every primitive type
+    // Expected: The same value as Objects.hash over the boxed fields
+    @Test
+    void testFluentAndCombine() {
+        int expected = Objects.hash("name", 42, 7L, 1.5, 2.5f, false, 'c', (short) -3, (byte) 9);
+        assertEquals(expected, HashCombiner.start().with("name").with(42).with(7L).with(1.5).with(2.5f)
+                .with(false).with('c').with((short) -3).with((byte) 9).hash());
+        int h = HashCombiner.SEED;
+        h = HashCombiner.combine(h, "name");
+        h = HashCombiner.combine(h, 42);
+        h = HashCombiner.combine(h, 7L);
+        h = HashCombiner.combine(h, 1.5);
+        h = HashCombiner.combine(h, 2.5f);
+        h = HashCombiner.combine(h, false);
+        h = HashCombiner.combine(h, 'c');
+        h = HashCombiner.combine(h, (short) -3);
+        h = HashCombiner.combine(h, (byte) 9);
+        assertEquals(expected, h);
+        assertEquals(Objects.hash(), HashCombiner.start().hash());
+    }
+}
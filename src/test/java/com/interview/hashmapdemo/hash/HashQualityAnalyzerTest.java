@@ -0,0 +1,67 @@
+package com.interview.hashmapdemo.hash;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HashQualityAnalyzerTest {
+
+    private record Pair(int a, int b) {
+        // Ignores b entirely
+        @Override
+        public int hashCode() {
+            return a;
+        }
+    }
+
+    // Test case 1: Long keys hashed with SipHash
+    // Expected: Full entropy, avalanche near 0.5 and no problems even under STRICT
+    @Test
+    void testStrongHashPassesStrict() {
+        HashQualityReport report = HashQualityAnalyzer.analyze(input -> input,
+                (Long key) -> (int) SipHash.hash(1, 2, key), 1 << 14, 42);
+        assertEquals(1 << 14, report.getKeyCount());
+        assertEquals(0.5, report.getAvalanche().mean(), 0.01);
+        assertTrue(report.getMaxBitBias() < 0.02);
+        assertTrue(report.problems(HashQualityReport.Thresholds.STRICT).isEmpty(), report.report());
+    }
+
+    // Test case 2: Random Integer keys, whose hashCode is the value itself
+    // Expected: Uniform buckets pass DEFAULT; one flipped hash bit per input bit fails STRICT
+    @Test
+    void testIdentityHashHasNoAvalanche() {
+        HashQualityReport report = HashQualityAnalyzer.analyze(input -> (int) input);
+        assertTrue(report.problems().isEmpty(), report.report());
+        assertEquals(1.0 / 32, report.getAvalanche().mean(), 1e-9);
+        assertEquals(0.5, report.getAvalanche().worstBias(), 1e-9);
+        assertEquals(1, report.problems(HashQualityReport.Thresholds.STRICT).size(), report.report());
+    }
+
+    // Test case 3: Only two possible hash codes, as PoorHashCode in HashCollisionProblemTest
+    // Expected: One bit of entropy, and every table size flagged as uneven
+    @Test
+    void testTwoHashCodes() {
+        HashQualityReport report = HashQualityAnalyzer.analyze(input -> new Pair((int) (input & 1), (int) (input >>> 1)));
+        assertEquals(2, report.getDistinctHashCodes());
+        assertEquals(1.0, report.getEntropyBits(), 0.01);
+        assertEquals(1 + report.getTableFits().size(), report.problems().size());
+    }
+
+    // Test case 4: A hashCode that ignores one of two 10-bit fields
+    // Expected: About 10 of 14 bits of entropy, flagged as low entropy
+    @Test
+    void testIgnoredField() {
+        HashQualityReport report = HashQualityAnalyzer.analyze(
+                input -> new Pair((int) (input & 1023), (int) ((input >>> 10) & 1023)));
+        assertTrue(report.getEntropyBits() < 10.01, report.report());
+        assertTrue(report.problems().get(0).startsWith("low entropy"), report.report());
+    }
+
+    // Test case 5: The same generator and seed twice, and an invalid sample size
+    // Expected: Identical reports; the sample size is validated
+    @Test
+    void testRepeatable() {
+        KeyGenerator<String> generator = input -> Long.toString(input, 36);
+        assertEquals(HashQualityAnalyzer.analyze(generator).report(), HashQualityAnalyzer.analyze(generator).report());
+        assertThrows(IllegalArgumentException.class, () -> HashQualityAnalyzer.analyze(generator, 1));
+    }
+}
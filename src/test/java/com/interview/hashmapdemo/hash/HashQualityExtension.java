@@ -0,0 +1,55 @@
+package com.interview.hashmapdemo.hash;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+// Supplies a Gate to @HashQualityTest methods, configured from the annotation. The
+// gate runs HashQualityAnalyzer, publishes the report as a test report entry and
+// fails the test with the report when the hash misses a threshold.
+public class HashQualityExtension implements ParameterResolver {
+
+    public static final class Gate {
+        private final HashQualityTest settings;
+        private final ExtensionContext context;
+
+        private Gate(HashQualityTest settings, ExtensionContext context) {
+            this.settings = settings;
+            this.context = context;
+        }
+
+        public HashQualityReport.Thresholds thresholds() {
+            return settings.strict() ? HashQualityReport.Thresholds.STRICT : HashQualityReport.Thresholds.DEFAULT;
+        }
+
+        public <K> HashQualityReport check(KeyGenerator<? extends K> generator) {
+            HashQualityReport report = HashQualityAnalyzer.analyze(generator, Object::hashCode,
+                    settings.sampleSize(), settings.seed());
+            context.publishReportEntry("hashQuality", report.toString());
+            List<String> problems = report.problems(thresholds());
+            if (!problems.isEmpty()) {
+                fail("hashCode() fails the quality gate:\n  " + String.join("\n  ", problems)
+                        + "\n" + report.report());
+            }
+            return report;
+        }
+    }
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == Gate.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        HashQualityTest settings = extensionContext.getRequiredTestMethod().getAnnotation(HashQualityTest.class);
+        if (settings == null) {
+            throw new IllegalStateException("A Gate is only available to @HashQualityTest methods");
+        }
+        return new Gate(settings, extensionContext);
+    }
+}
@@ -0,0 +1,30 @@
+package com.interview.hashmapdemo.hash;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Marks a test that gates a key class's hashCode(). The method takes a
+// HashQualityExtension.Gate and hands it a KeyGenerator for realistic keys:
+//
+//   @HashQualityTest
+//   void personHash(HashQualityExtension.Gate gate) {
+//       gate.check(input -> new Person(NAMES[(int) (input & 1023)], (int) ((input >>> 10) % 100)));
+//   }
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Test
+@ExtendWith(HashQualityExtension.class)
+public @interface HashQualityTest {
+
+    int sampleSize() default 1 << 14;
+
+    long seed() default 42;
+
+    // Also require unbiased hash bits and full avalanche (HashQualityReport.Thresholds.STRICT)
+    boolean strict() default false;
+}
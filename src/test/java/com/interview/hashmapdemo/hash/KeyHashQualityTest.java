@@ -0,0 +1,34 @@
+package com.interview.hashmapdemo.hash;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The gate itself. The demo key classes are gated next to their problems, e.g.
+// IncorrectHashCodeEqualsProblemTest gates IncorrectHashCodeEqualsProblem.PersonCorrect.
+public class KeyHashQualityTest {
+    private static final String[] NAMES = {"Alice", "Bob", "Carol", "Dave", "Eve", "Frank", "Grace", "Heidi"};
+
+    // The sort of shortcut the gate is meant to catch
+    private record LengthHashedPerson(String name, int age) {
+        @Override
+        public int hashCode() {
+            return name.length() + age;
+        }
+    }
+
+    // Test case 1: Plain String keys
+    // Expected: Passes the default gate and returns the report
+    @HashQualityTest
+    void testStringKeysPass(HashQualityExtension.Gate gate) {
+        HashQualityReport report = gate.check(input -> Long.toString(input, 36));
+        assertEquals(1 << 14, report.getKeyCount());
+    }
+
+    // Test case 2: A hashCode built from the name's length and the age
+    // Expected: The gate fails on low entropy
+    @HashQualityTest
+    void testLengthHashFails(HashQualityExtension.Gate gate) {
+        AssertionError error = assertThrows(AssertionError.class, () -> gate.check(input -> new LengthHashedPerson(
+                NAMES[(int) (input & 7)], 18 + (int) ((input >>> 8 & 0xFF) % 63))));
+        assertTrue(error.getMessage().contains("low entropy"), error.getMessage());
+    }
+}
@@ -0,0 +1,57 @@
+package com.interview.hashmapdemo.hash;
+
+import org.junit.jupiter.api.Test;
+import java.nio.charset.StandardCharsets;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SipHashTest {
+    // Key bytes 00..0f of the reference implementation's test vectors
+    private static final long K0 = 0x0706050403020100L;
+    private static final long K1 = 0x0f0e0d0c0b0a0908L;
+
+    private static byte[] sequence(int length) {
+        byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte) i;
+        }
+        return data;
+    }
+
+    // Test case 1: Reference vectors for messages 00, 00 01 .. 07 and 00 01 .. 0e
+    // Expected: The published SipHash-2-4 outputs, covering empty, full-block and tail-only inputs
+    @Test
+    void testReferenceVectors() {
+        assertEquals(0x726fdb47dd0e0e31L, SipHash.hash(K0, K1, sequence(0)));
+        assertEquals(0x93f5f5799a932462L, SipHash.hash(K0, K1, sequence(8)));
+        assertEquals(0xa129ca6149be45e5L, SipHash.hash(K0, K1, sequence(15)));
+    }
+
+    // Test case 2: Strings of every tail length, hashed directly and as UTF-16LE bytes
+    // Expected: Both paths agree, including for non-ASCII chars
+    @Test
+    void testCharsMatchUtf16Bytes() {
+        StringBuilder sb = new StringBuilder();
+        for (int length = 0; length < 20; length++) {
+            String s = sb.toString();
+            assertEquals(SipHash.hash(K0, K1, s.getBytes(StandardCharsets.UTF_16LE)),
+                    SipHash.hash(K0, K1, s), "length " + length);
+            sb.append(length % 3 == 0 ? '\u00e9' : (char) ('a' + length));
+        }
+    }
+
+    // Test case 3: A long hashed directly and as its 8 little-endian bytes
+    // Expected: The same hash, matching the 8-byte reference vector
+    @Test
+    void testLongMatchesBytes() {
+        assertEquals(SipHash.hash(K0, K1, sequence(8)), SipHash.hash(K0, K1, 0x0706050403020100L));
+        assertEquals(SipHash.hash(K0, K1, new byte[]{-1, -1, -1, -1, -1, -1, -1, -1}), SipHash.hash(K0, K1, -1L));
+    }
+
+    // Test case 4: One input under two different keys
+    // Expected: Different hashes, so a collision found under one key says nothing about another
+    @Test
+    void testKeyChangesHash() {
+        assertNotEquals(SipHash.hash(K0, K1, "flood"), SipHash.hash(K0 + 1, K1, "flood"));
+        assertNotEquals(SipHash.hash(K0, K1, "flood"), SipHash.hash(K0, K1 + 1, "flood"));
+    }
+}
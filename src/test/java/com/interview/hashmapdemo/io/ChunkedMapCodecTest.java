@@ -0,0 +1,133 @@
+package com.interview.hashmapdemo.io;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChunkedMapCodecTest {
+
+    private static HashMap<String, String> sampleMap(int size) {
+        HashMap<String, String> map = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put("key" + i, "value" + i);
+        }
+        map.put("", "empty key");
+        map.put("unicode", "a\u00e7\u00e3o, \u6771\u4eac, \ud83d\ude00");
+        return map;
+    }
+
+    // Test case 1: Round trip with the default partitioning on the common pool
+    // Expected: Equal map read back
+    @Test
+    void testRoundTrip(@TempDir Path dir) throws IOException {
+        HashMap<String, String> original = sampleMap(100_000);
+        Path file = dir.resolve("map.chunked");
+        ChunkedMapCodec.writeFile(original, file);
+        assertEquals(original, ChunkedMapCodec.readFile(file));
+
+        ChunkedMapCodec.writeFile(new HashMap<>(), file);
+        assertEquals(new HashMap<>(), ChunkedMapCodec.readFile(file));
+    }
+
+    // Test case 2: Explicit partition counts and pools of different sizes
+    // Expected: Same contents regardless of partitions or parallelism
+    @Test
+    void testPartitionsAndPools(@TempDir Path dir) throws IOException {
+        HashMap<String, String> original = sampleMap(20_000);
+        Path file = dir.resolve("map.chunked");
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int partitions : new int[]{1, 2, 64, ChunkedMapCodec.MAX_PARTITIONS}) {
+                ChunkedMapCodec.writeFile(original, file, partitions, pool);
+                assertEquals(partitions, ChunkedMapCodec.partitionCount(file));
+                assertEquals(original, ChunkedMapCodec.readFile(file, pool));
+            }
+        } finally {
+            pool.shutdown();
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> ChunkedMapCodec.writeFile(original, file, 3, ForkJoinPool.commonPool()));
+    }
+
+    // Test case 3: Reading partitions one at a time
+    // Expected: Each partition holds only its hash range, and together they make up the map
+    @Test
+    void testReadPartition(@TempDir Path dir) throws IOException {
+        HashMap<String, String> original = sampleMap(10_000);
+        Path file = dir.resolve("map.chunked");
+        ChunkedMapCodec.writeFile(original, file, 16, ForkJoinPool.commonPool());
+        HashMap<String, String> combined = new HashMap<>();
+        for (int p = 0; p < 16; p++) {
+            HashMap<String, String> partition = ChunkedMapCodec.readPartition(file, p);
+            for (String key : partition.keySet()) {
+                assertEquals(p, ChunkedMapCodec.partition(key, 4));
+            }
+            combined.putAll(partition);
+        }
+        assertEquals(original, combined);
+    }
+
+    // Test case 4: Null keys or values
+    // Expected: NullPointerException, since the result is a ConcurrentHashMap
+    @Test
+    void testRejectsNulls(@TempDir Path dir) {
+        HashMap<String, String> withNull = sampleMap(10);
+        withNull.put("null value", null);
+        assertThrows(NullPointerException.class,
+                () -> ChunkedMapCodec.writeFile(withNull, dir.resolve("map.chunked")));
+    }
+
+    // Test case 5: Bad magic, a corrupt index and a truncated file
+    // Expected: StreamCorruptedException for bad metadata, EOFException for missing bytes
+    @Test
+    void testRejectsCorruptInput(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("map.chunked");
+        ChunkedMapCodec.writeFile(sampleMap(1000), file, 4, ForkJoinPool.commonPool());
+        byte[] bytes = Files.readAllBytes(file);
+
+        Path badMagic = dir.resolve("bad-magic");
+        byte[] copy = bytes.clone();
+        copy[0] = 0;
+        Files.write(badMagic, copy);
+        assertThrows(StreamCorruptedException.class, () -> ChunkedMapCodec.readFile(badMagic));
+
+        Path badCount = dir.resolve("bad-count");
+        Files.write(badCount, bytes);
+        try (FileChannel channel = FileChannel.open(badCount, StandardOpenOption.WRITE)) {
+            // First index entry's count
+            channel.write(ByteBuffer.allocate(4).putInt(0, 1), ChunkedMapCodec.HEADER_SIZE + 12);
+        }
+        assertThrows(StreamCorruptedException.class, () -> ChunkedMapCodec.readFile(badCount));
+
+        Path truncated = dir.resolve("truncated");
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 10));
+        assertThrows(EOFException.class, () -> ChunkedMapCodec.readFile(truncated));
+        ConcurrentHashMap<String, String> ok = ChunkedMapCodec.readFile(file);
+        assertEquals(1002, ok.size());
+    }
+
+    // Test case 6: An index whose counts agree with the header total but not with the segment lengths
+    // Expected: StreamCorruptedException before any map is presized from the counts
+    @Test
+    void testRejectsCountsLargerThanSegments(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("map.chunked");
+        ChunkedMapCodec.writeFile(sampleMap(100), file, 2, ForkJoinPool.commonPool());
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file));
+        int firstCount = ChunkedMapCodec.HEADER_SIZE + 12;
+        long total = bytes.getLong(12) - bytes.getInt(firstCount) + Integer.MAX_VALUE;
+        bytes.putLong(12, total).putInt(firstCount, Integer.MAX_VALUE);
+        Files.write(file, bytes.array());
+
+        assertThrows(StreamCorruptedException.class, () -> ChunkedMapCodec.readFile(file));
+        assertThrows(StreamCorruptedException.class, () -> ChunkedMapCodec.readPartition(file, 0));
+    }
+}
@@ -0,0 +1,128 @@
+package com.interview.hashmapdemo.io;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DurableMapTest {
+
+    // Test case 1: put, putAll, remove and clear, then reopen
+    // Expected: The reopened map matches the state at close
+    @Test
+    void testReopenReplaysLog(@TempDir Path dir) throws IOException {
+        HashMap<String, String> expected = new HashMap<>();
+        try (DurableMap map = DurableMap.open(dir)) {
+            map.put("a", "1");
+            map.put("b", "2");
+            map.clear();
+            assertNull(map.put("c", "3"));
+            assertEquals("3", map.put("c", "a\u00e7\u00e3o"));
+            map.putAll(Map.of("d", "4", "e", "5"));
+            assertEquals("4", map.remove("d"));
+            assertNull(map.remove("missing"));
+            expected.putAll(map);
+        }
+        assertEquals(Map.of("c", "a\u00e7\u00e3o", "e", "5"), expected);
+        try (DurableMap map = DurableMap.open(dir)) {
+            assertEquals(expected, map);
+        }
+    }
+
+    // Test case 2: A "crash" by abandoning the map without close(), then reopening
+    // Expected: Every write whose put returned is recovered
+    @Test
+    void testRecoversAcknowledgedWritesWithoutClose(@TempDir Path dir) throws IOException {
+        DurableMap abandoned = DurableMap.open(dir);
+        for (int i = 0; i < 100; i++) {
+            abandoned.put("key" + i, "value" + i);
+        }
+        abandoned.remove("key5");
+        try (DurableMap map = DurableMap.open(dir)) {
+            assertEquals(99, map.size());
+            assertEquals("value99", map.get("key99"));
+            assertFalse(map.containsKey("key5"));
+        }
+        abandoned.close();
+    }
+
+    // Test case 3: A torn record and garbage at the end of the log
+    // Expected: Ignored on open and cut off, so later appends stay readable
+    @Test
+    void testTornTailIsTruncated(@TempDir Path dir) throws IOException {
+        try (DurableMap map = DurableMap.open(dir)) {
+            map.put("a", "1");
+            map.put("b", "2");
+        }
+        Path log = dir.resolve(DurableMap.LOG_FILE);
+        long validSize = Files.size(log);
+        Files.write(log, new byte[]{0, 0, 0, 20, 1, 2, 3, 4, 1}, StandardOpenOption.APPEND);
+
+        try (DurableMap map = DurableMap.open(dir)) {
+            assertEquals(Map.of("a", "1", "b", "2"), map);
+            assertEquals(validSize, Files.size(log));
+            map.put("c", "3");
+        }
+        try (DurableMap map = DurableMap.open(dir)) {
+            assertEquals(Map.of("a", "1", "b", "2", "c", "3"), map);
+        }
+    }
+
+    // Test case 4: Writes past the checkpoint threshold, and an explicit checkpoint
+    // Expected: A snapshot is written, the log stays small, and nothing is lost
+    @Test
+    void testCheckpoint(@TempDir Path dir) throws IOException {
+        HashMap<String, String> expected = new HashMap<>();
+        try (DurableMap map = DurableMap.open(dir, Duration.ZERO, 4096)) {
+            for (int i = 0; i < 2000; i++) {
+                map.put("key" + (i % 300), "value" + i);
+                expected.put("key" + (i % 300), "value" + i);
+            }
+            assertTrue(Files.exists(dir.resolve(DurableMap.SNAPSHOT_FILE)));
+            assertTrue(Files.size(dir.resolve(DurableMap.LOG_FILE)) < 4096 + 64);
+            map.remove("key1");
+            expected.remove("key1");
+            map.checkpoint();
+            assertEquals(0, Files.size(dir.resolve(DurableMap.LOG_FILE)));
+        }
+        try (DurableMap map = DurableMap.open(dir)) {
+            assertEquals(expected, map);
+        }
+    }
+
+    // Test case 5: Concurrent writers with a batch window
+    // Expected: Fewer syncs than writes, and every write present after reopen
+    @Test
+    void testGroupCommit(@TempDir Path dir) throws Exception {
+        int threads = 8;
+        int writesPerThread = 100;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try (DurableMap map = DurableMap.open(dir, Duration.ofMillis(2), DurableMap.DEFAULT_CHECKPOINT_BYTES)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < writesPerThread; i++) {
+                        map.put("t" + thread + "-" + i, "v" + i);
+                    }
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get(60, TimeUnit.SECONDS);
+            }
+            assertTrue(map.syncCount() < threads * writesPerThread,
+                    "Syncs: " + map.syncCount() + " for " + threads * writesPerThread + " writes");
+        } finally {
+            executor.shutdownNow();
+        }
+        try (DurableMap map = DurableMap.open(dir)) {
+            assertEquals(threads * writesPerThread, map.size());
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.interview.hashmapdemo.io;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FrontCodedMapCodecTest {
+
+    private static HashMap<String, String> sampleMap(int size) {
+        HashMap<String, String> map = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put("key" + i, "value" + (i % 10));
+        }
+        map.put("", "empty key");
+        map.put("unicode", "a\u00e7\u00e3o, \u6771\u4eac, \ud83d\ude00");
+        map.put("unicode-prefix-a\u00e7\u00e3o", "unique");
+        map.put("unicode-prefix-a\u00e7a\u00ed", "value1");
+        return map;
+    }
+
+    // Test case 1: Round trip with nulls, empty strings, shared and unshared prefixes
+    // Expected: Equal map read back, including the null key and null values
+    @Test
+    void testRoundTrip(@TempDir Path dir) throws IOException {
+        HashMap<String, String> original = sampleMap(10_000);
+        original.put(null, "null key");
+        original.put("null value", null);
+        Path file = dir.resolve("map.fc");
+        FrontCodedMapCodec.writeFile(original, file);
+        assertEquals(original, FrontCodedMapCodec.readFile(file));
+
+        FrontCodedMapCodec.writeFile(new HashMap<>(), file);
+        assertEquals(new HashMap<>(), FrontCodedMapCodec.readFile(file));
+    }
+
+    // Test case 2: The "key" + i maps from HashCollisionProblem
+    // Expected: Well under the size of StringMapCodec and Java serialization
+    @Test
+    void testSmallerThanOtherFormats(@TempDir Path dir) throws IOException {
+        HashMap<String, String> original = sampleMap(100_000);
+        Path frontCoded = dir.resolve("map.fc");
+        Path codec = dir.resolve("map.bin");
+        FrontCodedMapCodec.writeFile(original, frontCoded);
+        StringMapCodec.writeFile(original, codec);
+        ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(serialized)) {
+            out.writeObject(original);
+        }
+
+        long size = Files.size(frontCoded);
+        assertTrue(size * 2 < Files.size(codec), size + " vs codec " + Files.size(codec));
+        assertTrue(size * 4 < serialized.size(), size + " vs serialized " + serialized.size());
+    }
+
+    // Test case 3: Repeated values
+    // Expected: The decoded map shares one String instance per repeated value
+    @Test
+    void testDictionaryValuesAreShared(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("map.fc");
+        FrontCodedMapCodec.writeFile(sampleMap(100), file);
+        HashMap<String, String> read = FrontCodedMapCodec.readFile(file);
+        assertEquals("value3", read.get("key3"));
+        assertSame(read.get("key3"), read.get("key13"));
+        assertSame(read.get("key1"), read.get("unicode-prefix-a\u00e7a\u00ed"));
+    }
+
+    // Test case 4: Streaming through MapEntryReader, with keys and values longer than the buffer
+    // Expected: Entries arrive in key order and match the map
+    @Test
+    void testStreamingRead(@TempDir Path dir) throws IOException {
+        HashMap<String, String> original = sampleMap(5000);
+        String longKey = "k".repeat(StringMapCodec.STREAM_BUFFER_SIZE * 2);
+        original.put(longKey, "v".repeat(StringMapCodec.STREAM_BUFFER_SIZE * 3));
+        original.put(longKey + "x", "short");
+        Path file = dir.resolve("map.fc");
+        FrontCodedMapCodec.writeFile(original, file);
+
+        HashMap<String, String> read = new HashMap<>();
+        String previous = null;
+        try (MapEntryReader<String, String> reader = MapEntryReader.fromFrontCodedFile(file)) {
+            assertEquals(original.size(), reader.expectedSize());
+            while (reader.hasNext()) {
+                Map.Entry<String, String> entry = reader.next();
+                if (previous != null) {
+                    assertTrue(previous.compareTo(entry.getKey()) < 0);
+                }
+                previous = entry.getKey();
+                read.put(entry.getKey(), entry.getValue());
+            }
+            assertThrows(NoSuchElementException.class, reader::next);
+        }
+        assertEquals(original, read);
+    }
+
+    // Test case 5: Bad magic, a prefix longer than the previous key, and a truncated file
+    // Expected: StreamCorruptedException for bad data, EOFException for missing bytes
+    @Test
+    void testRejectsCorruptInput(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("map.fc");
+        FrontCodedMapCodec.writeFile(Map.of("a", "1", "b", "2"), file);
+        byte[] bytes = Files.readAllBytes(file);
+
+        Path badMagic = dir.resolve("bad-magic");
+        byte[] copy = bytes.clone();
+        copy[0] = 0;
+        Files.write(badMagic, copy);
+        assertThrows(StreamCorruptedException.class, () -> FrontCodedMapCodec.readFile(badMagic));
+
+        Path badPrefix = dir.resolve("bad-prefix");
+        copy = bytes.clone();
+        // First key's shared length, with no previous key to share with
+        copy[FrontCodedMapCodec.HEADER_SIZE] = 5;
+        Files.write(badPrefix, copy);
+        assertThrows(StreamCorruptedException.class, () -> FrontCodedMapCodec.readFile(badPrefix));
+
+        Path truncated = dir.resolve("truncated");
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(EOFException.class, () -> FrontCodedMapCodec.readFile(truncated));
+    }
+
+    // Test case 6: A header claiming Integer.MAX_VALUE entries and dictionary strings
+    // Expected: StreamCorruptedException from a file, whose size shows they cannot fit;
+    // EOFException from a stream when the strings run out. Never OutOfMemoryError.
+    @Test
+    void testRejectsHugeCounts(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("map.fc");
+        FrontCodedMapCodec.writeFile(Map.of("a", "1", "b", "1"), file);
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file));
+        bytes.putInt(8, Integer.MAX_VALUE).putInt(12, Integer.MAX_VALUE);
+        Files.write(file, bytes.array());
+
+        assertThrows(StreamCorruptedException.class, () -> FrontCodedMapCodec.readFile(file));
+        assertThrows(EOFException.class, () -> FrontCodedMapCodec.read(
+                Channels.newChannel(new ByteArrayInputStream(bytes.array()))));
+    }
+
+    // Test case 7: A key suffix, a dictionary string and an inline value each claiming about 2^31 bytes
+    // Expected: EOFException when the stream runs out, not OutOfMemoryError
+    @Test
+    void testRejectsHugeLengths(@TempDir Path dir) throws IOException {
+        byte[] huge = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07};
+        ByteBuffer header = ByteBuffer.allocate(FrontCodedMapCodec.HEADER_SIZE)
+                .putInt(FrontCodedMapCodec.MAGIC).putInt(FrontCodedMapCodec.VERSION);
+
+        Path suffix = dir.resolve("suffix");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.write(header.putInt(8, 1).putInt(12, 0).array());
+        bytes.write(0);
+        bytes.write(huge);
+        Files.write(suffix, bytes.toByteArray());
+        assertThrows(EOFException.class, () -> FrontCodedMapCodec.readFile(suffix));
+
+        Path dictionary = dir.resolve("dictionary");
+        bytes.reset();
+        bytes.write(header.putInt(8, 1).putInt(12, 1).array());
+        bytes.write(huge);
+        Files.write(dictionary, bytes.toByteArray());
+        assertThrows(EOFException.class, () -> FrontCodedMapCodec.readFile(dictionary));
+
+        Path inline = dir.resolve("inline");
+        bytes.reset();
+        bytes.write(header.putInt(8, 1).putInt(12, 0).array());
+        // Key "a", then an inline value
+        bytes.write(new byte[]{0, 2, 'a', 1});
+        bytes.write(huge);
+        Files.write(inline, bytes.toByteArray());
+        assertThrows(EOFException.class, () -> FrontCodedMapCodec.readFile(inline));
+    }
+}
@@ -0,0 +1,165 @@
+package com.interview.hashmapdemo.io;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MapEntryReaderTest {
+
+    private static HashMap<String, String> sampleMap(int size) {
+        HashMap<String, String> map = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put("key" + i, "value" + (i % 10));
+        }
+        map.put(null, "null key");
+        map.put("null value", null);
+        return map;
+    }
+
+    private static HashMap<String, String> collect(MapEntryReader<String, String> reader) throws IOException {
+        HashMap<String, String> map = new HashMap<>();
+        try (reader) {
+            while (reader.hasNext()) {
+                Map.Entry<String, String> e = reader.next();
+                assertFalse(map.containsKey(e.getKey()), "Duplicate key " + e.getKey());
+                map.put(e.getKey(), e.getValue());
+            }
+        }
+        return map;
+    }
+
+    private static void writeJava(Object map, Path file) throws IOException {
+        try (ObjectOutputStream oos = new ObjectOutputStream(Files.newOutputStream(file))) {
+            oos.writeObject(map);
+        }
+    }
+
+    // Test case 1: Iterating a StringMapCodec file entry by entry
+    // Expected: Every entry exactly once, and the header count as the expected size
+    @Test
+    void testCodecFile(@TempDir Path dir) throws IOException {
+        HashMap<String, String> original = sampleMap(50_000);
+        Path file = dir.resolve("map.bin");
+        StringMapCodec.writeFile(original, file);
+        MapEntryReader<String, String> reader = MapEntryReader.fromCodecFile(file);
+        assertEquals(original.size(), reader.expectedSize());
+        assertEquals(original, collect(reader));
+    }
+
+    // Test case 2: Iterating a HashMap written by ObjectOutputStream, with shared values
+    // Expected: Every entry exactly once, null keys and values included
+    @Test
+    void testJavaSerializationFile(@TempDir Path dir) throws IOException {
+        HashMap<String, String> original = sampleMap(50_000);
+        Path file = dir.resolve("map.ser");
+        writeJava(original, file);
+        assertEquals(original, collect(MapEntryReader.fromJavaSerializationFile(file)));
+
+        writeJava(new HashMap<>(), file);
+        assertEquals(new HashMap<>(), collect(MapEntryReader.fromJavaSerializationFile(file)));
+    }
+
+    // Test case 3: Filtering and aggregating through the Stream view
+    // Expected: Same answers as on the materialized map, for both formats
+    @Test
+    void testStreamView(@TempDir Path dir) throws IOException {
+        HashMap<String, String> original = sampleMap(10_000);
+        Map<String, Long> expected = original.values().stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.groupingBy(v -> v, Collectors.counting()));
+
+        Path codecFile = dir.resolve("map.bin");
+        StringMapCodec.writeFile(original, codecFile);
+        try (Stream<Map.Entry<String, String>> entries = MapEntryReader.fromCodecFile(codecFile).stream()) {
+            assertEquals(expected, entries.map(Map.Entry::getValue).filter(Objects::nonNull)
+                    .collect(Collectors.groupingBy(v -> v, Collectors.counting())));
+        }
+
+        Path javaFile = dir.resolve("map.ser");
+        writeJava(original, javaFile);
+        MapEntryReader<String, String> reader = MapEntryReader.fromJavaSerializationFile(javaFile);
+        try (Stream<Map.Entry<String, String>> entries = reader.stream()) {
+            assertEquals(expected, entries.map(Map.Entry::getValue).filter(Objects::nonNull)
+                    .collect(Collectors.groupingBy(v -> v, Collectors.counting())));
+        }
+    }
+
+    // Test case 4: Closing a Java-serialization reader after a few entries
+    // Expected: No more entries, and the producer does not block the test
+    @Test
+    void testEarlyClose(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("map.ser");
+        writeJava(sampleMap(100_000), file);
+        MapEntryReader<String, String> reader = MapEntryReader.fromJavaSerializationFile(file);
+        for (int i = 0; i < 10; i++) {
+            assertNotNull(reader.next());
+        }
+        reader.close();
+        assertFalse(reader.hasNext());
+    }
+
+    // Test case 5: Java-serialized objects that are not a plain HashMap, and truncated input
+    // Expected: Failures surface from the iterator as UncheckedIOException
+    @Test
+    void testRejectsUnsupportedInput(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("map.ser");
+        writeJava(new TreeMap<>(Map.of("a", "b")), file);
+        MapEntryReader<String, String> treeMap = MapEntryReader.fromJavaSerializationFile(file);
+        assertThrows(UncheckedIOException.class, treeMap::hasNext);
+        treeMap.close();
+
+        HashMap<String, Object> nested = new HashMap<>();
+        nested.put("inner", new HashMap<>(Map.of("a", "b")));
+        writeJava(nested, file);
+        MapEntryReader<String, Object> nestedReader = MapEntryReader.fromJavaSerializationFile(file);
+        assertThrows(UncheckedIOException.class, nestedReader::hasNext);
+        nestedReader.close();
+
+        Path codecFile = dir.resolve("map.bin");
+        StringMapCodec.writeFile(sampleMap(100), codecFile);
+        byte[] bytes = Files.readAllBytes(codecFile);
+        Files.write(codecFile, Arrays.copyOf(bytes, bytes.length - 5));
+        try (MapEntryReader<String, String> reader = MapEntryReader.fromCodecFile(codecFile)) {
+            assertThrows(UncheckedIOException.class, () -> {
+                while (reader.hasNext()) {
+                    reader.next();
+                }
+            });
+        }
+    }
+
+    // Test case 6: A socket-like stream that times out part way through the entries
+    // Expected: The timeout surfaces from the iterator instead of blocking it forever
+    @Test
+    void testReadTimeoutReachesConsumer(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("map.ser");
+        writeJava(sampleMap(10_000), file);
+        byte[] bytes = Files.readAllBytes(file);
+        InputStream timingOut = new InputStream() {
+            private int position;
+
+            @Override
+            public int read() throws IOException {
+                if (position == bytes.length / 2) {
+                    throw new java.net.SocketTimeoutException("Read timed out");
+                }
+                return bytes[position++] & 0xFF;
+            }
+        };
+        MapEntryReader<String, String> reader = MapEntryReader.fromJavaSerialization(timingOut);
+        UncheckedIOException e = assertTimeoutPreemptively(java.time.Duration.ofSeconds(10),
+                () -> assertThrows(UncheckedIOException.class, () -> {
+                    while (reader.hasNext()) {
+                        reader.next();
+                    }
+                }));
+        assertInstanceOf(java.net.SocketTimeoutException.class, e.getCause());
+        reader.close();
+    }
+}
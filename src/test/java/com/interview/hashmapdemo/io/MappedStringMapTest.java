@@ -0,0 +1,158 @@
+package com.interview.hashmapdemo.io;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappedStringMapTest {
+
+    // Test case 1: Basic put, get, replace and remove against a fresh file
+    // Expected: Same results as HashMap, including non-ASCII and empty strings
+    @Test
+    void testBasicOperations(@TempDir Path dir) throws IOException {
+        try (MappedStringMap map = MappedStringMap.open(dir.resolve("map.bin"))) {
+            assertNull(map.put("key1", "value1"));
+            assertNull(map.put("", "empty key"));
+            assertNull(map.put("unicode", "a\u00e7\u00e3o, \u6771\u4eac, \ud83d\ude00"));
+            assertEquals("value1", map.get("key1"));
+            assertEquals("empty key", map.get(""));
+            assertEquals("a\u00e7\u00e3o, \u6771\u4eac, \ud83d\ude00", map.get("unicode"));
+            assertNull(map.get("missing"));
+            assertNull(map.get(42));
+
+            // Same length: overwritten in place; different length: appended
+            assertEquals("value1", map.put("key1", "VALUE1"));
+            assertEquals("VALUE1", map.put("key1", "a much longer value"));
+            assertEquals("a much longer value", map.get("key1"));
+
+            assertEquals("empty key", map.remove(""));
+            assertNull(map.remove(""));
+            assertFalse(map.containsKey(""));
+            assertEquals(2, map.size());
+            assertThrows(NullPointerException.class, () -> map.put(null, "v"));
+            assertThrows(NullPointerException.class, () -> map.put("k", null));
+        }
+    }
+
+    // Test case 2: Reopening a file after close
+    // Expected: All entries present without reinserting anything
+    @Test
+    void testReopenKeepsEntries(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("map.bin");
+        HashMap<String, String> expected = new HashMap<>();
+        try (MappedStringMap map = MappedStringMap.open(file)) {
+            for (int i = 0; i < 1000; i++) {
+                map.put("key" + i, "value" + i);
+                expected.put("key" + i, "value" + i);
+            }
+            map.remove("key7");
+            expected.remove("key7");
+            map.force();
+        }
+        try (MappedStringMap map = MappedStringMap.open(file)) {
+            assertEquals(expected, map);
+            assertEquals(expected, new HashMap<>(map));
+        }
+    }
+
+    // Test case 3: Growing well past the initial slot table and data area
+    // Expected: The file is rewritten and renamed in place, no entries are lost
+    @Test
+    void testGrowth(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("map.bin");
+        long initialSize;
+        try (MappedStringMap map = MappedStringMap.open(file)) {
+            initialSize = Files.size(file);
+            for (int i = 0; i < 50_000; i++) {
+                map.put("key" + i, "value-" + i + "-" + "x".repeat(i % 17));
+            }
+            assertEquals(50_000, map.size());
+        }
+        assertTrue(Files.size(file) > initialSize);
+        assertFalse(Files.exists(dir.resolve("map.bin.rewrite")), "Temporary file should be renamed away");
+        try (MappedStringMap map = MappedStringMap.open(file)) {
+            for (int i = 0; i < 50_000; i++) {
+                assertEquals("value-" + i + "-" + "x".repeat(i % 17), map.get("key" + i));
+            }
+        }
+    }
+
+    // Test case 4: Churn of removals and reinsertions, then compact()
+    // Expected: Contents match a HashMap, and compaction does not change them
+    @Test
+    void testChurnAndCompact(@TempDir Path dir) throws IOException {
+        Random random = new Random(42);
+        HashMap<String, String> expected = new HashMap<>();
+        try (MappedStringMap map = MappedStringMap.open(dir.resolve("map.bin"), 100)) {
+            for (int i = 0; i < 20_000; i++) {
+                String key = "key" + random.nextInt(500);
+                if (random.nextBoolean()) {
+                    String value = "v".repeat(random.nextInt(20));
+                    assertEquals(expected.put(key, value), map.put(key, value));
+                } else {
+                    assertEquals(expected.remove(key), map.remove(key));
+                }
+            }
+            assertEquals(expected, map);
+            map.compact();
+            assertEquals(expected, map);
+        }
+    }
+
+    // Test case 5: Entry set iteration, Iterator.remove and setValue
+    // Expected: Changes are written through to the file
+    @Test
+    void testIteratorWritesThrough(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("map.bin");
+        try (MappedStringMap map = MappedStringMap.open(file)) {
+            for (int i = 0; i < 100; i++) {
+                map.put("key" + i, "value" + i);
+            }
+            Iterator<Map.Entry<String, String>> it = map.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<String, String> e = it.next();
+                int n = Integer.parseInt(e.getKey().substring(3));
+                if (n % 2 == 0) {
+                    it.remove();
+                } else {
+                    e.setValue("odd" + n);
+                }
+            }
+            Iterator<Map.Entry<String, String>> stale = map.entrySet().iterator();
+            map.put("new", "entry");
+            assertThrows(ConcurrentModificationException.class, stale::next);
+        }
+        try (MappedStringMap map = MappedStringMap.open(file)) {
+            assertEquals(51, map.size());
+            assertEquals("odd1", map.get("key1"));
+            assertNull(map.get("key2"));
+        }
+    }
+
+    // Test case 6: Opening a file that is not a mapped map, and using a closed map
+    // Expected: StreamCorruptedException, then IllegalStateException after close
+    @Test
+    void testRejectsForeignFileAndClosedUse(@TempDir Path dir) throws IOException {
+        Path foreign = dir.resolve("codec.bin");
+        StringMapCodec.writeFile(Map.of("a", "b"), foreign);
+        assertThrows(StreamCorruptedException.class, () -> MappedStringMap.open(foreign));
+
+        Path file = dir.resolve("map.bin");
+        MappedStringMap.open(file).close();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4).putInt(0, 3), 8);
+        }
+        assertThrows(StreamCorruptedException.class, () -> MappedStringMap.open(file));
+
+        MappedStringMap map = MappedStringMap.open(dir.resolve("other.bin"));
+        map.close();
+        assertThrows(IllegalStateException.class, () -> map.get("key"));
+    }
+}
@@ -0,0 +1,152 @@
+package com.interview.hashmapdemo.io;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StringMapCodecTest {
+
+    private static HashMap<String, String> sampleMap() {
+        HashMap<String, String> map = new HashMap<>();
+        map.put("key1", "value1");
+        map.put("key2", "value2");
+        map.put("", "empty key");
+        map.put("unicode", "a\u00e7\u00e3o, \u6771\u4eac, \ud83d\ude00");
+        map.put(null, "null key");
+        map.put("null value", null);
+        return map;
+    }
+
+    // Test case 1: Round trip through a heap ByteBuffer
+    // Expected: Equal map, including null keys and values, empty and non-ASCII strings
+    @Test
+    void testEncodeDecodeRoundTrip() throws IOException {
+        HashMap<String, String> original = sampleMap();
+        ByteBuffer encoded = StringMapCodec.encode(original);
+        assertEquals(original, StringMapCodec.decode(encoded));
+        assertFalse(encoded.hasRemaining(), "Decoding should consume the whole buffer");
+
+        assertEquals(new HashMap<>(), StringMapCodec.decode(StringMapCodec.encode(new HashMap<>())));
+    }
+
+    // Test case 2: Decoding from a direct ByteBuffer
+    // Expected: Same result as from a heap buffer
+    @Test
+    void testDecodeDirectBuffer() throws IOException {
+        HashMap<String, String> original = sampleMap();
+        original.put("long", "x".repeat(5000));
+        ByteBuffer heap = StringMapCodec.encode(original);
+        ByteBuffer direct = ByteBuffer.allocateDirect(heap.remaining());
+        direct.put(heap).flip();
+        assertEquals(original, StringMapCodec.decode(direct));
+    }
+
+    // Test case 3: Streaming to and from a file, with strings larger than the stream buffer
+    // Expected: Equal map read back
+    @Test
+    void testFileRoundTrip(@TempDir Path dir) throws IOException {
+        HashMap<String, String> original = sampleMap();
+        for (int i = 0; i < 20_000; i++) {
+            original.put("key" + i, "value" + i);
+        }
+        original.put("huge", "y".repeat(StringMapCodec.STREAM_BUFFER_SIZE * 3 + 7));
+        Path file = dir.resolve("map.bin");
+        StringMapCodec.writeFile(original, file);
+        assertEquals(original, StringMapCodec.readFile(file));
+    }
+
+    // Test case 4: Compared with ObjectOutputStream on the same map
+    // Expected: The codec output is smaller
+    @Test
+    void testSmallerThanJavaSerialization() throws IOException {
+        HashMap<String, String> map = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            map.put("key" + i, "value" + i);
+        }
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(map);
+        }
+        int codecSize = StringMapCodec.encode(map).remaining();
+        assertTrue(codecSize < baos.size(), "Codec: " + codecSize + " bytes, Java serialization: " + baos.size());
+    }
+
+    // Test case 5: Corrupt and truncated input
+    // Expected: StreamCorruptedException for a bad header, EOFException for missing bytes
+    @Test
+    void testRejectsCorruptInput() throws IOException {
+        ByteBuffer encoded = StringMapCodec.encode(sampleMap());
+        ByteBuffer badMagic = ByteBuffer.allocate(encoded.remaining()).put(encoded.duplicate()).flip();
+        badMagic.putInt(0, 0xCAFEBABE);
+        assertThrows(StreamCorruptedException.class, () -> StringMapCodec.decode(badMagic));
+
+        ByteBuffer truncated = encoded.duplicate();
+        truncated.limit(truncated.limit() - 3);
+        assertThrows(EOFException.class, () -> StringMapCodec.decode(truncated));
+
+        byte[] bytes = new byte[encoded.remaining() - 3];
+        encoded.duplicate().get(bytes);
+        assertThrows(EOFException.class,
+                () -> StringMapCodec.read(Channels.newChannel(new ByteArrayInputStream(bytes))));
+    }
+
+    // Test case 6: A header claiming Integer.MAX_VALUE entries with no entries behind it
+    // Expected: StreamCorruptedException from decode, EOFException from read, not OutOfMemoryError
+    @Test
+    void testRejectsHugeEntryCount() {
+        ByteBuffer header = ByteBuffer.allocate(StringMapCodec.HEADER_SIZE + 4)
+                .putInt(StringMapCodec.MAGIC).putInt(StringMapCodec.VERSION).putInt(Integer.MAX_VALUE)
+                .put(new byte[]{1, 'a', 1, 'b'}).flip();
+        assertThrows(StreamCorruptedException.class, () -> StringMapCodec.decode(header.duplicate()));
+
+        byte[] bytes = new byte[header.remaining()];
+        header.duplicate().get(bytes);
+        assertThrows(EOFException.class,
+                () -> StringMapCodec.read(Channels.newChannel(new ByteArrayInputStream(bytes))));
+    }
+
+    // Test case 7: A 17-byte stream whose one key claims a length of 2^31 - 2 bytes
+    // Expected: EOFException once the stream runs out, not a 2GB allocation
+    @Test
+    void testRejectsHugeStringLength() {
+        byte[] bytes = ByteBuffer.allocate(StringMapCodec.HEADER_SIZE + 5)
+                .putInt(StringMapCodec.MAGIC).putInt(StringMapCodec.VERSION).putInt(1)
+                .put(new byte[]{(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07})
+                .array();
+        assertThrows(EOFException.class,
+                () -> StringMapCodec.read(Channels.newChannel(new ByteArrayInputStream(bytes))));
+    }
+
+    // Test case 8: Presizing from a file, which shows how many bytes the entries can take
+    // Expected: A plausible count is used in full, beyond the cap for unknown streams;
+    // a count the file cannot hold is StreamCorruptedException
+    @Test
+    void testPresizeFromFileSize(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("map.bin");
+        int count = StringMapCodec.MAX_PRESIZE_ENTRIES * 2;
+        HashMap<String, String> map = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            map.put("k" + i, "v");
+        }
+        StringMapCodec.writeFile(map, file);
+        try (FileChannel channel = FileChannel.open(file)) {
+            ByteBuffer empty = ByteBuffer.allocate(0);
+            assertEquals(count, StringMapCodec.presizeEntries(count, empty, channel, StringMapCodec.MIN_ENTRY_SIZE));
+            assertEquals(StringMapCodec.MAX_PRESIZE_ENTRIES, StringMapCodec.presizeEntries(count, empty,
+                    Channels.newChannel(Channels.newInputStream(channel)), StringMapCodec.MIN_ENTRY_SIZE));
+        }
+        assertEquals(map, StringMapCodec.readFile(file));
+
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file));
+        bytes.putInt(8, Integer.MAX_VALUE);
+        Files.write(file, bytes.array());
+        assertThrows(StreamCorruptedException.class, () -> StringMapCodec.readFile(file));
+    }
+}
@@ -0,0 +1,139 @@
+package com.interview.hashmapdemo.map;
+
+import org.junit.jupiter.api.Test;
+import java.util.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompactLinkedMapTest {
+
+    // Test case 1: The insertion sequence from KeyOrderingProblem
+    // Expected: Iteration follows insertion order, like LinkedHashMap
+    @Test
+    void testInsertionOrder() {
+        CompactLinkedMap<Integer, String> map = new CompactLinkedMap<>();
+        int[] keys = {3, 1, 4, 2, 5};
+        for (int key : keys) {
+            map.put(key, "value" + key);
+        }
+        assertEquals(Arrays.asList(3, 1, 4, 2, 5), new ArrayList<>(map.keySet()));
+
+        // Replacing a value keeps the position, removing and re-adding moves to the end
+        map.put(1, "updated");
+        map.remove(4);
+        map.put(4, "value4");
+        assertEquals(Arrays.asList(3, 1, 2, 5, 4), new ArrayList<>(map.keySet()));
+        assertEquals("updated", map.get(1));
+    }
+
+    // Test case 2: Null keys and null values
+    // Expected: Like LinkedHashMap, one null key and null values are allowed
+    @Test
+    void testNullKeyAndValue() {
+        CompactLinkedMap<String, String> map = new CompactLinkedMap<>();
+        map.put(null, "Value for null key");
+        map.put("key", null);
+        assertEquals("Value for null key", map.get(null));
+        assertTrue(map.containsKey("key"), "Key mapped to null should be present");
+        assertEquals("Value for null key", map.remove(null));
+        assertFalse(map.containsKey(null));
+        assertEquals(Collections.singletonList("key"), new ArrayList<>(map.keySet()));
+    }
+
+    // Test case 3: Growth through byte, short and int index slots
+    // Expected: Every key still found and order preserved after each widening
+    @Test
+    void testGrowthThroughIndexWidths() {
+        CompactLinkedMap<Integer, Integer> map = new CompactLinkedMap<>();
+        int entries = 100_000;
+        for (int i = 0; i < entries; i++) {
+            map.put(i, i * 2);
+        }
+        assertEquals(entries, map.size());
+        for (int i = 0; i < entries; i++) {
+            assertEquals(i * 2, map.get(i));
+        }
+        int expected = 0;
+        for (Integer key : map.keySet()) {
+            assertEquals(expected++, key);
+        }
+    }
+
+    // Test case 4: Removing most entries triggers tombstone compaction
+    // Expected: Survivors keep their relative order and stay reachable
+    @Test
+    void testCompactionPreservesOrder() {
+        CompactLinkedMap<Integer, String> map = new CompactLinkedMap<>();
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, "value" + i);
+        }
+        for (int i = 0; i < 1000; i++) {
+            if (i % 10 != 0) {
+                map.remove(i);
+            }
+        }
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i += 10) {
+            expected.add(i);
+            assertEquals("value" + i, map.get(i));
+        }
+        assertEquals(expected, new ArrayList<>(map.keySet()));
+    }
+
+    // Test case 5: Random operations against LinkedHashMap
+    // Expected: Same contents and same iteration order throughout
+    @Test
+    void testRandomOperationsMatchLinkedHashMap() {
+        Random random = new Random(42);
+        CompactLinkedMap<Integer, Integer> map = new CompactLinkedMap<>();
+        Map<Integer, Integer> reference = new LinkedHashMap<>();
+        for (int i = 0; i < 100_000; i++) {
+            int key = random.nextInt(500);
+            if (random.nextInt(3) == 0) {
+                assertEquals(reference.remove(key), map.remove(key));
+            } else {
+                assertEquals(reference.put(key, i), map.put(key, i));
+            }
+        }
+        assertEquals(reference.size(), map.size());
+        assertEquals(new ArrayList<>(reference.entrySet()), new ArrayList<>(map.entrySet()));
+        assertEquals(reference, map);
+    }
+
+    // Test case 6: Removing through the iterator, then forEach
+    // Expected: Remaining entries visited once each, in order
+    @Test
+    void testIteratorRemoveAndForEach() {
+        CompactLinkedMap<Integer, Integer> map = new CompactLinkedMap<>();
+        for (int i = 0; i < 100; i++) {
+            map.put(i, i);
+        }
+        Iterator<Map.Entry<Integer, Integer>> it = map.entrySet().iterator();
+        while (it.hasNext()) {
+            if (it.next().getKey() % 2 == 0) {
+                it.remove();
+            }
+        }
+        assertEquals(50, map.size());
+        List<Integer> visited = new ArrayList<>();
+        map.forEach((key, value) -> visited.add(key));
+        for (int i = 0; i < 50; i++) {
+            assertEquals(2 * i + 1, visited.get(i));
+        }
+        assertThrows(IllegalStateException.class, () -> map.entrySet().iterator().remove());
+    }
+
+    // Test case 7: Structural modification while iterating
+    // Expected: ConcurrentModificationException like LinkedHashMap
+    @Test
+    void testConcurrentModificationDuringIteration() {
+        CompactLinkedMap<Integer, Integer> map = new CompactLinkedMap<>();
+        for (int i = 0; i < 10; i++) {
+            map.put(i, i);
+        }
+        assertThrows(ConcurrentModificationException.class, () -> {
+            for (Integer key : map.keySet()) {
+                map.put(key + 100, key);
+            }
+        });
+    }
+}
@@ -0,0 +1,162 @@
+package com.interview.hashmapdemo.map;
+
+import org.junit.jupiter.api.Test;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrentLong2ObjectMapTest {
+
+    private static void runThreads(int threads, IntConsumerTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CyclicBarrier start = new CyclicBarrier(threads);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run(thread);
+                    return null;
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface IntConsumerTask {
+        void run(int thread) throws Exception;
+    }
+
+    // Test case 1: Single-threaded semantics, including key 0 and negative keys
+    // Expected: Same results as HashMap<Long, V>; null values are rejected
+    @Test
+    void testBasicOperations() {
+        ConcurrentLong2ObjectMap<String> map = new ConcurrentLong2ObjectMap<>();
+        assertNull(map.put(1, "one"));
+        assertEquals("one", map.put(1, "uno"));
+        assertEquals("uno", map.putIfAbsent(1, "ein"));
+        assertNull(map.putIfAbsent(-1, "minus one"));
+        assertNull(map.put(0, "zero"));
+        assertEquals("zero", map.putIfAbsent(0, "nil"));
+        assertEquals(3, map.size());
+        assertEquals("minus one", map.get(-1));
+        assertEquals("fallback", map.getOrDefault(2, "fallback"));
+        assertEquals("zero", map.remove(0));
+        assertNull(map.remove(0));
+        assertEquals("uno", map.remove(1));
+        assertNull(map.remove(1));
+        assertFalse(map.containsKey(1));
+        assertEquals(1, map.size());
+        assertThrows(NullPointerException.class, () -> map.put(5, null));
+        map.clear();
+        assertTrue(map.isEmpty());
+    }
+
+    // Test case 2: Random operations compared against HashMap<Long, String>
+    // Expected: Identical contents across resizes and tombstone rebuilds
+    @Test
+    void testMatchesHashMap() {
+        ConcurrentLong2ObjectMap<String> map = new ConcurrentLong2ObjectMap<>();
+        HashMap<Long, String> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 200_000; i++) {
+            long key = random.nextInt(20_000) - 10_000L;
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                assertEquals(expected.put(key, "v" + i), map.put(key, "v" + i));
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        HashMap<Long, String> actual = new HashMap<>();
+        map.forEach((key, value) -> assertNull(actual.put(key, value), "Duplicate key " + key));
+        assertEquals(expected, actual);
+    }
+
+    // Test case 3: Eight threads inserting disjoint ranges while readers look up finished keys
+    // Expected: Every key present with its own value, and no reader ever misses a key it saw written
+    @Test
+    void testConcurrentInsertsDuringResize() throws Exception {
+        ConcurrentLong2ObjectMap<Long> map = new ConcurrentLong2ObjectMap<>();
+        int threads = 8;
+        int perThread = 50_000;
+        runThreads(threads, thread -> {
+            long base = (long) thread * perThread * 1_000_003L;
+            for (int i = 0; i < perThread; i++) {
+                long key = base + i * 1_000_003L;
+                assertNull(map.put(key, key));
+                // Earlier keys of this thread must stay visible while the table grows
+                long earlier = base + (i / 2) * 1_000_003L;
+                assertEquals(earlier, map.get(earlier));
+            }
+        });
+        assertEquals(threads * perThread, map.size());
+        for (int t = 0; t < threads; t++) {
+            long base = (long) t * perThread * 1_000_003L;
+            for (int i = 0; i < perThread; i++) {
+                long key = base + i * 1_000_003L;
+                assertEquals(key, map.get(key));
+            }
+        }
+    }
+
+    // Test case 4: All threads racing putIfAbsent on the same keys
+    // Expected: Exactly one winner per key, and every loser sees the winner's value
+    @Test
+    void testPutIfAbsentHasOneWinner() throws Exception {
+        ConcurrentLong2ObjectMap<Integer> map = new ConcurrentLong2ObjectMap<>();
+        int threads = 8;
+        int keys = 20_000;
+        AtomicInteger winners = new AtomicInteger();
+        runThreads(threads, thread -> {
+            for (int i = 1; i <= keys; i++) {
+                Integer previous = map.putIfAbsent(i, thread);
+                if (previous == null) {
+                    winners.incrementAndGet();
+                } else {
+                    assertEquals(previous, map.get(i));
+                }
+            }
+        });
+        assertEquals(keys, winners.get());
+        assertEquals(keys, map.size());
+    }
+
+    // Test case 5: Threads putting and removing their own interleaved keys concurrently
+    // Expected: The final map is the union of each thread's own view
+    @Test
+    void testConcurrentPutRemoveStress() throws Exception {
+        ConcurrentLong2ObjectMap<String> map = new ConcurrentLong2ObjectMap<>();
+        int threads = 8;
+        List<Map<Long, String>> views = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            views.add(new HashMap<>());
+        }
+        runThreads(threads, thread -> {
+            Map<Long, String> view = views.get(thread);
+            SplittableRandom random = new SplittableRandom(thread);
+            for (int i = 0; i < 100_000; i++) {
+                long key = (long) random.nextInt(5_000) * threads + thread;
+                if (random.nextInt(4) == 0) {
+                    assertEquals(view.remove(key), map.remove(key));
+                } else {
+                    String value = thread + ":" + i;
+                    assertEquals(view.put(key, value), map.put(key, value));
+                }
+            }
+        });
+        HashMap<Long, String> expected = new HashMap<>();
+        views.forEach(expected::putAll);
+        HashMap<Long, String> actual = new HashMap<>();
+        map.forEach(actual::put);
+        assertEquals(expected, actual);
+        assertEquals(expected.size(), map.size());
+    }
+}
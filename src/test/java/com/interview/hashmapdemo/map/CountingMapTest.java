@@ -0,0 +1,84 @@
+package com.interview.hashmapdemo.map;
+
+import org.junit.jupiter.api.Test;
+import java.util.*;
+import java.util.concurrent.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CountingMapTest {
+
+    // Test case 1: increment, add, sum, remove and total on a single thread
+    // Expected: Plain counting semantics, 0 for keys never counted
+    @Test
+    void testCounting() {
+        CountingMap<String> counts = new CountingMap<>();
+        counts.increment("a");
+        counts.increment("a");
+        counts.add("b", 5);
+        counts.add("c", -2);
+        assertEquals(2, counts.sum("a"));
+        assertEquals(5, counts.sum("b"));
+        assertEquals(0, counts.sum("missing"));
+        assertEquals(5, counts.total());
+        assertEquals(3, counts.size());
+        assertEquals(-2, counts.remove("c"));
+        assertEquals(0, counts.remove("c"));
+        assertEquals(Map.of("a", 2L, "b", 5L), counts.snapshot());
+        counts.clear();
+        assertTrue(counts.isEmpty());
+    }
+
+    // Test case 2: topK over a known distribution
+    // Expected: The k highest counts in descending order
+    @Test
+    void testTopK() {
+        CountingMap<Integer> counts = new CountingMap<>();
+        for (int key = 1; key <= 100; key++) {
+            counts.add(key, key * 10L);
+        }
+        List<Map.Entry<Integer, Long>> top = counts.topK(3);
+        assertEquals(List.of(100, 99, 98), top.stream().map(Map.Entry::getKey).toList());
+        assertEquals(1000L, top.get(0).getValue());
+        assertEquals(100, counts.topK(1000).size());
+        assertTrue(counts.topK(0).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> counts.topK(-1));
+    }
+
+    // Test case 3: Eight threads counting a small set of hot keys
+    // Expected: No lost increments
+    @Test
+    void testConcurrentIncrements() throws Exception {
+        CountingMap<String> counts = new CountingMap<>();
+        int threads = 8;
+        int perThread = 100_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        counts.increment("key" + (i % 4));
+                    }
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals((long) threads * perThread, counts.total());
+        assertEquals((long) threads * perThread / 4, counts.sum("key0"));
+        assertEquals(4, counts.size());
+    }
+
+    // Test case 4: k far larger than the number of keys
+    // Expected: Every key, without sizing the heap from k
+    @Test
+    void testTopKWithHugeK() {
+        CountingMap<String> counts = new CountingMap<>();
+        counts.increment("only");
+        assertEquals(List.of(Map.entry("only", 1L)), counts.topK(Integer.MAX_VALUE));
+        assertEquals(1, counts.topK(500_000_000).size());
+    }
+}
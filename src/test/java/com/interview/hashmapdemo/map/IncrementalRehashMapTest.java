@@ -0,0 +1,109 @@
+package com.interview.hashmapdemo.map;
+
+import org.junit.jupiter.api.Test;
+import java.util.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IncrementalRehashMapTest {
+
+    // Test case 1: Crossing the resize threshold computed as in LoadFactorProblem
+    // Expected: The map enters rehashing mode instead of copying everything in one put
+    @Test
+    void testThresholdStartsIncrementalRehash() {
+        int initialCapacity = 1024;
+        float loadFactor = 0.75f;
+        IncrementalRehashMap<Integer, String> map = new IncrementalRehashMap<>(initialCapacity, loadFactor, 1);
+        int resizeThreshold = (int) (initialCapacity * loadFactor);
+        for (int i = 0; i <= resizeThreshold; i++) {
+            map.put(i, "value" + i);
+        }
+        assertTrue(map.isRehashing(), "Put crossing the threshold should only start the migration");
+        for (int i = 0; i <= resizeThreshold; i++) {
+            assertEquals("value" + i, map.get(i), "Entries must be reachable while rehashing");
+        }
+    }
+
+    // Test case 2: Migration finishes after enough subsequent writes
+    // Expected: Rehashing ends and every entry is still present
+    @Test
+    void testMigrationCompletes() {
+        IncrementalRehashMap<Integer, String> map = new IncrementalRehashMap<>(16, 0.75f, 2);
+        for (int i = 0; i < 13; i++) {
+            map.put(i, "value" + i);
+        }
+        assertTrue(map.isRehashing());
+        for (int i = 13; i < 24; i++) {
+            map.put(i, "value" + i);
+        }
+        assertFalse(map.isRehashing(), "Subsequent puts should finish the migration");
+        assertEquals(24, map.size());
+    }
+
+    // Test case 3: Random operations compared against HashMap
+    // Expected: Identical contents at every point, including mid-migration
+    @Test
+    void testRandomOperationsMatchHashMap() {
+        Random random = new Random(11);
+        IncrementalRehashMap<Integer, Integer> map = new IncrementalRehashMap<>(2, 0.75f, 1);
+        HashMap<Integer, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 50000; i++) {
+            int key = random.nextInt(5000);
+            switch (random.nextInt(4)) {
+                case 0:
+                    assertEquals(expected.remove(key), map.remove(key));
+                    break;
+                case 1:
+                    assertEquals(expected.get(key), map.get(key));
+                    break;
+                default:
+                    assertEquals(expected.put(key, i), map.put(key, i));
+            }
+        }
+        assertEquals(expected, map);
+    }
+
+    // Test case 4: Iterating while a migration is in progress
+    // Expected: Each entry is visited once; iterator removal and value updates are allowed
+    @Test
+    void testIterationDuringRehash() {
+        IncrementalRehashMap<Integer, Integer> map = new IncrementalRehashMap<>(64, 0.75f, 1);
+        for (int i = 0; i < 50; i++) {
+            map.put(i, i);
+        }
+        assertTrue(map.isRehashing());
+        Set<Integer> seen = new HashSet<>();
+        Iterator<Map.Entry<Integer, Integer>> it = map.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Integer, Integer> entry = it.next();
+            assertTrue(seen.add(entry.getKey()), "Entry visited twice: " + entry);
+            if (entry.getKey() % 2 == 0) {
+                it.remove();
+            } else {
+                map.put(entry.getKey(), -entry.getValue());
+            }
+        }
+        assertEquals(50, seen.size());
+        assertEquals(25, map.size());
+        assertEquals(-7, map.get(7));
+        assertNull(map.get(8));
+    }
+
+    // Test case 5: Removing absent keys while iterating during a migration
+    // Expected: No ConcurrentModificationException and no migration step, as HashMap tolerates the same
+    @Test
+    void testRemoveAbsentKeyDuringIteration() {
+        IncrementalRehashMap<Integer, Integer> map = new IncrementalRehashMap<>(64, 0.75f, 1);
+        for (int i = 0; i < 50; i++) {
+            map.put(i, i);
+        }
+        assertTrue(map.isRehashing());
+        int visited = 0;
+        for (Map.Entry<Integer, Integer> entry : map.entrySet()) {
+            assertNull(map.remove(-1 - entry.getKey()));
+            visited++;
+        }
+        assertEquals(50, visited);
+        assertEquals(50, map.size());
+        assertTrue(map.isRehashing(), "Misses do not advance the migration");
+    }
+}
@@ -0,0 +1,66 @@
+package com.interview.hashmapdemo.map;
+
+import org.junit.jupiter.api.Test;
+import java.util.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class Int2ObjectMapTest {
+
+    // Test case 1: Basic put/get/remove with primitive keys
+    // Expected: Same semantics as HashMap<Integer, V>
+    @Test
+    void testBasicOperations() {
+        Int2ObjectMap<String> map = new Int2ObjectMap<>();
+        assertNull(map.put(1, "one"));
+        assertEquals("one", map.put(1, "uno"), "put should return previous value");
+        assertEquals("uno", map.get(1));
+        assertNull(map.get(2), "Absent key should return null");
+        assertEquals("fallback", map.getOrDefault(2, "fallback"));
+        assertEquals("uno", map.remove(1));
+        assertTrue(map.isEmpty());
+    }
+
+    // Test case 2: Key 0 is the empty-slot sentinel internally
+    // Expected: It still behaves like any other key
+    @Test
+    void testZeroKey() {
+        Int2ObjectMap<String> map = new Int2ObjectMap<>();
+        assertFalse(map.containsKey(0));
+        map.put(0, "zero");
+        assertTrue(map.containsKey(0));
+        assertEquals("zero", map.get(0));
+        assertEquals(1, map.size());
+        assertEquals("zero", map.remove(0));
+        assertFalse(map.containsKey(0));
+        assertEquals(0, map.size());
+    }
+
+    // Test case 3: Random operations compared against HashMap<Integer, String>
+    // Expected: Identical contents, including across resizes and backward shifts
+    @Test
+    void testRandomOperationsMatchHashMap() {
+        Random random = new Random(3);
+        Int2ObjectMap<String> map = new Int2ObjectMap<>(2);
+        HashMap<Integer, String> expected = new HashMap<>();
+        for (int i = 0; i < 50000; i++) {
+            int key = random.nextInt(3000) - 1500;
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                assertEquals(expected.put(key, "value" + i), map.put(key, "value" + i));
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        Map<Integer, String> actual = new HashMap<>();
+        map.forEach(actual::put);
+        assertEquals(expected, actual);
+    }
+
+    // Test case 4: Invalid construction arguments
+    // Expected: IllegalArgumentException, as with HashMap
+    @Test
+    void testIllegalArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new Int2ObjectMap<String>(-1));
+        assertThrows(IllegalArgumentException.class, () -> new Int2ObjectMap<String>(16, 1.0f));
+    }
+}
@@ -0,0 +1,57 @@
+package com.interview.hashmapdemo.map;
+
+import org.junit.jupiter.api.Test;
+import java.util.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IntIntMapTest {
+
+    // Test case 1: Absent keys return the configured noEntryValue
+    // Expected: No null and no boxing for missing keys
+    @Test
+    void testNoEntryValue() {
+        IntIntMap map = new IntIntMap(16, 0.75f, -1);
+        assertEquals(-1, map.get(42));
+        assertEquals(-1, map.put(42, 7), "put on absent key should return noEntryValue");
+        assertEquals(7, map.put(42, 8));
+        assertEquals(8, map.remove(42));
+        assertEquals(-1, map.remove(42));
+    }
+
+    // Test case 2: addTo for counting workloads
+    // Expected: Starts from zero and accumulates, including for key 0
+    @Test
+    void testAddTo() {
+        IntIntMap counts = new IntIntMap();
+        for (int i = 0; i < 100; i++) {
+            counts.addTo(i % 5, 1);
+        }
+        assertEquals(5, counts.size());
+        for (int key = 0; key < 5; key++) {
+            assertEquals(20, counts.get(key), "Each key should be counted 20 times");
+        }
+    }
+
+    // Test case 3: Random operations compared against HashMap<Integer, Integer>
+    // Expected: Identical contents, including across resizes and backward shifts
+    @Test
+    void testRandomOperationsMatchHashMap() {
+        Random random = new Random(5);
+        IntIntMap map = new IntIntMap(2);
+        HashMap<Integer, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 50000; i++) {
+            int key = random.nextInt(3000) - 1500;
+            if (random.nextInt(3) == 0) {
+                Integer old = expected.remove(key);
+                assertEquals(old == null ? 0 : old, map.remove(key));
+            } else {
+                Integer old = expected.put(key, i);
+                assertEquals(old == null ? 0 : old, map.put(key, i));
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        Map<Integer, Integer> actual = new HashMap<>();
+        map.forEach(actual::put);
+        assertEquals(expected, actual);
+    }
+}
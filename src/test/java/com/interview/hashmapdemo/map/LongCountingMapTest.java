@@ -0,0 +1,80 @@
+package com.interview.hashmapdemo.map;
+
+import org.junit.jupiter.api.Test;
+import java.util.*;
+import java.util.concurrent.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LongCountingMapTest {
+
+    // Test case 1: Counting ids, including 0 and negative ids
+    // Expected: Same results as CountingMap<Long>
+    @Test
+    void testCounting() {
+        LongCountingMap counts = new LongCountingMap();
+        counts.increment(0);
+        counts.increment(-7);
+        counts.add(-7, 4);
+        counts.add(1L << 40, 3);
+        assertEquals(1, counts.sum(0));
+        assertEquals(5, counts.sum(-7));
+        assertEquals(0, counts.sum(42));
+        assertEquals(9, counts.total());
+        assertEquals(Map.of(0L, 1L, -7L, 5L, 1L << 40, 3L), counts.snapshot());
+        assertEquals(1, counts.remove(0));
+        assertEquals(2, counts.size());
+    }
+
+    // Test case 2: topK over a known distribution
+    // Expected: The k highest counts in descending order
+    @Test
+    void testTopK() {
+        LongCountingMap counts = new LongCountingMap();
+        for (long key = 1; key <= 1000; key++) {
+            counts.add(key * 1_000_003L, key);
+        }
+        List<LongCountingMap.Count> top = counts.topK(2);
+        assertEquals(List.of(new LongCountingMap.Count(1000 * 1_000_003L, 1000),
+                new LongCountingMap.Count(999 * 1_000_003L, 999)), top);
+    }
+
+    // Test case 3: Eight threads counting overlapping ids while the table grows
+    // Expected: No lost increments, one adder per id
+    @Test
+    void testConcurrentIncrements() throws Exception {
+        LongCountingMap counts = new LongCountingMap();
+        int threads = 8;
+        int ids = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int round = 0; round < 10; round++) {
+                        for (long id = 0; id < ids; id++) {
+                            counts.increment(id * 31);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(ids, counts.size());
+        assertEquals((long) threads * 10 * ids, counts.total());
+        assertEquals(threads * 10, counts.sum(31 * 9_999L));
+    }
+
+    // Test case 4: k far larger than the number of ids
+    // Expected: Every id, without sizing the heap from k
+    @Test
+    void testTopKWithHugeK() {
+        LongCountingMap counts = new LongCountingMap();
+        counts.increment(42);
+        assertEquals(List.of(new LongCountingMap.Count(42, 1)), counts.topK(Integer.MAX_VALUE));
+        assertEquals(1, counts.topK(500_000_000).size());
+    }
+}
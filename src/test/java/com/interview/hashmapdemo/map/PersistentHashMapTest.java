@@ -0,0 +1,157 @@
+package com.interview.hashmapdemo.map;
+
+import org.junit.jupiter.api.Test;
+import java.util.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PersistentHashMapTest {
+
+    // Key with a chosen hash code, to force collisions at every trie level
+    private static final class FixedHashKey {
+        private final String name;
+        private final int hash;
+
+        FixedHashKey(String name, int hash) {
+            this.name = name;
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof FixedHashKey && ((FixedHashKey) obj).name.equals(name);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    // Test case 1: with/without return new versions and leave earlier ones untouched
+    // Expected: Each snapshot keeps exactly the entries it had when taken
+    @Test
+    void testSnapshotsAreIndependent() {
+        PersistentHashMap<String, Integer> v0 = PersistentHashMap.empty();
+        PersistentHashMap<String, Integer> v1 = v0.with("a", 1).with("b", 2);
+        PersistentHashMap<String, Integer> v2 = v1.with("a", 10).without("b").with("c", 3);
+
+        assertTrue(v0.isEmpty());
+        assertEquals(Map.of("a", 1, "b", 2), v1);
+        assertEquals(Map.of("a", 10, "c", 3), v2);
+        assertSame(v1, v1.with("a", 1), "Putting the same value should return the same map");
+        assertSame(v1, v1.without("missing"));
+        assertThrows(UnsupportedOperationException.class, () -> v1.put("d", 4));
+    }
+
+    // Test case 2: Random operations against a HashMap, keeping every 1000th version
+    // Expected: Every version still matches the HashMap copy taken at that point
+    @Test
+    void testRandomOperationsMatchHashMap() {
+        Random random = new Random(42);
+        HashMap<Integer, Integer> expected = new HashMap<>();
+        PersistentHashMap<Integer, Integer> map = PersistentHashMap.empty();
+        List<HashMap<Integer, Integer>> expectedSnapshots = new ArrayList<>();
+        List<PersistentHashMap<Integer, Integer>> snapshots = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            int key = random.nextInt(5000);
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                map = map.without(key);
+            } else {
+                expected.put(key, i);
+                map = map.with(key, i);
+            }
+            if (i % 1000 == 0) {
+                expectedSnapshots.add(new HashMap<>(expected));
+                snapshots.add(map);
+            }
+        }
+        assertEquals(expected, map);
+        assertEquals(expected.size(), map.size());
+        for (int i = 0; i < snapshots.size(); i++) {
+            assertEquals(expectedSnapshots.get(i), snapshots.get(i));
+        }
+    }
+
+    // Test case 3: Keys with identical and near-identical hash codes, plus null key and value
+    // Expected: Collision chains and deep tries behave like HashMap, including removal down to empty
+    @Test
+    void testCollisionsAndNulls() {
+        HashMap<Object, String> expected = new HashMap<>();
+        PersistentHashMap<Object, String> map = PersistentHashMap.empty();
+        List<Object> keys = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            keys.add(new FixedHashKey("same" + i, 12345));
+            keys.add(new FixedHashKey("near" + i, i << 27));
+        }
+        keys.add(null);
+        for (Object key : keys) {
+            expected.put(key, String.valueOf(key));
+            map = map.with(key, String.valueOf(key));
+        }
+        map = map.with("null value", null);
+        expected.put("null value", null);
+        assertEquals(expected, map);
+        assertTrue(map.containsKey("null value"));
+        assertNull(map.get(new FixedHashKey("absent", 12345)));
+
+        Collections.shuffle(keys, new Random(7));
+        for (Object key : keys) {
+            map = map.without(key);
+            expected.remove(key);
+            assertEquals(expected, map);
+        }
+        assertEquals(Collections.singletonMap("null value", null), map);
+    }
+
+    // Test case 4: Bulk loading through the builder, and editing a built map's builder
+    // Expected: build() results are never changed by later builder calls
+    @Test
+    void testBuilder() {
+        PersistentHashMap.Builder<Integer, String> builder = PersistentHashMap.builder();
+        for (int i = 0; i < 10_000; i++) {
+            builder.put(i, "v" + i);
+        }
+        builder.remove(5);
+        PersistentHashMap<Integer, String> first = builder.build();
+        assertEquals(9_999, first.size());
+
+        builder.put(1, "changed").remove(2);
+        PersistentHashMap<Integer, String> second = builder.build();
+        assertEquals("v1", first.get(1));
+        assertEquals("v2", first.get(2));
+        assertEquals("changed", second.get(1));
+        assertFalse(second.containsKey(2));
+
+        PersistentHashMap<Integer, String> third = first.toBuilder().put(10_000, "new").build();
+        assertFalse(first.containsKey(10_000));
+        assertEquals(10_000, third.size());
+        assertEquals(new HashMap<>(first), PersistentHashMap.copyOf(new HashMap<>(first)));
+    }
+
+    // Test case 5: Iteration and forEach
+    // Expected: Each entry once, and equals/hashCode consistent with HashMap
+    @Test
+    void testIterationAndEquality() {
+        HashMap<String, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 3000; i++) {
+            expected.put("key" + i, i);
+        }
+        PersistentHashMap<String, Integer> map = PersistentHashMap.copyOf(expected);
+        HashMap<String, Integer> iterated = new HashMap<>();
+        for (Map.Entry<String, Integer> e : map.entrySet()) {
+            assertNull(iterated.put(e.getKey(), e.getValue()), "Duplicate key " + e.getKey());
+        }
+        HashMap<String, Integer> visited = new HashMap<>();
+        map.forEach(visited::put);
+        assertEquals(expected, iterated);
+        assertEquals(expected, visited);
+        assertEquals(expected.hashCode(), map.hashCode());
+        assertEquals(map, expected);
+    }
+}
@@ -0,0 +1,132 @@
+package com.interview.hashmapdemo.map;
+
+import org.junit.jupiter.api.Test;
+import java.util.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RobinHoodHashMapTest {
+
+    // Test case 1: Basic put/get/remove behaves like HashMap
+    // Expected: Same return values as java.util.HashMap
+    @Test
+    void testBasicOperations() {
+        RobinHoodHashMap<String, Integer> map = new RobinHoodHashMap<>();
+        assertNull(map.put("one", 1));
+        assertNull(map.put("two", 2));
+        assertEquals(1, map.put("one", 11), "put should return previous value");
+        assertEquals(11, map.get("one"));
+        assertEquals(2, map.remove("two"));
+        assertNull(map.get("two"));
+        assertEquals(1, map.size());
+    }
+
+    // Test case 2: Null keys and null values
+    // Expected: Like HashMap, one null key and null values are allowed
+    @Test
+    void testNullKeyAndValue() {
+        RobinHoodHashMap<String, String> map = new RobinHoodHashMap<>();
+        map.put(null, "Value for null key");
+        map.put("key", null);
+        assertEquals("Value for null key", map.get(null));
+        assertTrue(map.containsKey("key"), "Key mapped to null should be present");
+        assertTrue(map.containsKey(null));
+        assertEquals("Value for null key", map.remove(null));
+        assertFalse(map.containsKey(null));
+    }
+
+    // Test case 3: Keys that all collide on the same hash code
+    // Expected: Still correct, only slower
+    @Test
+    void testCollidingKeys() {
+        class FixedHashCode {
+            private final int value;
+
+            FixedHashCode(int value) {
+                this.value = value;
+            }
+
+            @Override
+            public boolean equals(Object obj) {
+                return obj instanceof FixedHashCode && ((FixedHashCode) obj).value == value;
+            }
+
+            @Override
+            public int hashCode() {
+                return 1;
+            }
+        }
+
+        RobinHoodHashMap<FixedHashCode, Integer> map = new RobinHoodHashMap<>();
+        for (int i = 0; i < 200; i++) {
+            map.put(new FixedHashCode(i), i);
+        }
+        for (int i = 0; i < 200; i += 2) {
+            map.remove(new FixedHashCode(i));
+        }
+        assertEquals(100, map.size());
+        for (int i = 0; i < 200; i++) {
+            assertEquals(i % 2 == 0 ? null : i, map.get(new FixedHashCode(i)));
+        }
+    }
+
+    // Test case 4: Random operations compared against HashMap
+    // Expected: Contents are identical after every step, including across resizes
+    @Test
+    void testRandomOperationsMatchHashMap() {
+        Random random = new Random(7);
+        RobinHoodHashMap<Integer, Integer> map = new RobinHoodHashMap<>(4, 0.9f);
+        HashMap<Integer, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 50000; i++) {
+            int key = random.nextInt(2000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                assertEquals(expected.put(key, i), map.put(key, i));
+            }
+        }
+        assertEquals(expected, map);
+        assertEquals(expected.hashCode(), map.hashCode());
+    }
+
+    // Test case 5: Removing through the iterator
+    // Expected: Every entry is visited exactly once even when backward shifts wrap around
+    @Test
+    void testIteratorRemove() {
+        for (int seed = 0; seed < 20; seed++) {
+            Random random = new Random(seed);
+            RobinHoodHashMap<Integer, Integer> map = new RobinHoodHashMap<>(64, 0.9f);
+            for (int i = 0; i < 55; i++) {
+                map.put(random.nextInt(), i);
+            }
+            Set<Integer> seen = new HashSet<>();
+            Set<Integer> kept = new HashSet<>();
+            Iterator<Map.Entry<Integer, Integer>> it = map.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<Integer, Integer> entry = it.next();
+                assertTrue(seen.add(entry.getKey()), "Entry visited twice: " + entry);
+                if (entry.getValue() % 2 == 0) {
+                    it.remove();
+                } else {
+                    kept.add(entry.getKey());
+                }
+            }
+            assertEquals(55, seen.size(), "Every entry should be visited");
+            assertEquals(kept, map.keySet());
+        }
+    }
+
+    // Test case 6: Structural modification during iteration
+    // Expected: Fail-fast ConcurrentModificationException, as with HashMap
+    @Test
+    void testConcurrentModificationDuringIteration() {
+        RobinHoodHashMap<Integer, String> map = new RobinHoodHashMap<>();
+        for (int i = 0; i < 10; i++) {
+            map.put(i, "value" + i);
+        }
+        assertThrows(ConcurrentModificationException.class, () -> {
+            for (Integer key : map.keySet()) {
+                map.put(key + 100, "new");
+            }
+        });
+    }
+}
@@ -0,0 +1,77 @@
+package com.interview.hashmapdemo.map;
+
+import com.interview.hashmapdemo.hash.CollidingStrings;
+import org.junit.jupiter.api.Test;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SeededHashMapTest {
+
+    // Test case 1: Random String operations compared against HashMap, including a null key
+    // Expected: Identical contents
+    @Test
+    void testStringMapMatchesHashMap() {
+        SeededHashMap<String, Integer> map = SeededHashMap.forStrings();
+        HashMap<String, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 50_000; i++) {
+            String key = random.nextInt(50) == 0 ? null : "key" + random.nextInt(5_000);
+            if (random.nextInt(4) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                assertEquals(expected.put(key, i), map.put(key, i));
+            }
+        }
+        assertEquals(expected, map);
+    }
+
+    // Test case 2: byte[] keys looked up with equal but distinct arrays
+    // Expected: Found by content
+    @Test
+    void testByteArrayKeys() {
+        SeededHashMap<byte[], String> map = SeededHashMap.forByteArrays();
+        map.put(new byte[]{1, 2, 3}, "a");
+        map.put(new byte[0], "empty");
+        assertEquals("a", map.get(new byte[]{1, 2, 3}));
+        assertEquals("empty", map.get(new byte[0]));
+        assertNull(map.get(new byte[]{1, 2}));
+        assertEquals("a", map.remove(new byte[]{1, 2, 3}));
+        assertEquals(1, map.size());
+    }
+
+    // Test case 3: 4096 Strings sharing one String.hashCode()
+    // Expected: The seeded hash spreads them over (nearly) as many distinct hash values
+    @Test
+    void testCollidingStringsSpread() {
+        SeededHashMap<String, Integer> map = SeededHashMap.forStrings();
+        HashingStrategy<? super String> strategy = map.strategy();
+        String[] keys = CollidingStrings.generate(4096);
+        Set<Integer> hashes = new HashSet<>();
+        for (int i = 0; i < keys.length; i++) {
+            hashes.add(strategy.hash(keys[i]));
+            map.put(keys[i], i);
+        }
+        assertTrue(hashes.size() > 4090, "Only " + hashes.size() + " distinct hashes");
+        for (int i = 0; i < keys.length; i++) {
+            assertEquals(i, map.get(keys[i]));
+        }
+    }
+
+    // Test case 4: The same key in two maps
+    // Expected: Different hashes, since each map draws its own SipHash key
+    @Test
+    void testSeedIsPerInstance() {
+        HashingStrategy<? super String> first = SeededHashMap.<Integer>forStrings().strategy();
+        HashingStrategy<? super String> second = SeededHashMap.<Integer>forStrings().strategy();
+        int differing = 0;
+        for (int i = 0; i < 10; i++) {
+            if (first.hash("key" + i) != second.hash("key" + i)) {
+                differing++;
+            }
+        }
+        assertTrue(differing > 0);
+    }
+}
@@ -0,0 +1,122 @@
+package com.interview.hashmapdemo.map;
+
+import org.junit.jupiter.api.Test;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StrategyHashMapTest {
+
+    record Person(String name, int age) {
+    }
+
+    // Test case 1: byte[] keys, which HashMap can only compare by identity
+    // Expected: A different array with the same contents finds the entry
+    @Test
+    void testByteArrayKeys() {
+        StrategyHashMap<byte[], String> map = new StrategyHashMap<>(HashingStrategy.byteArray());
+        map.put("user:42".getBytes(StandardCharsets.UTF_8), "Alice");
+        assertEquals("Alice", map.get("user:42".getBytes(StandardCharsets.UTF_8)));
+        assertEquals("Alice", map.put("user:42".getBytes(StandardCharsets.UTF_8), "Bob"));
+        assertEquals(1, map.size());
+        assertNull(map.get(new byte[0]));
+
+        HashMap<byte[], String> plain = new HashMap<>();
+        plain.put("user:42".getBytes(StandardCharsets.UTF_8), "Alice");
+        assertNull(plain.get("user:42".getBytes(StandardCharsets.UTF_8)), "HashMap compares arrays by identity");
+    }
+
+    // Test case 2: Case-insensitive CharSequence keys, including Unicode case pairs
+    // Expected: Same matches as String.equalsIgnoreCase, for Strings and StringBuilders
+    @Test
+    void testCaseInsensitiveKeys() {
+        StrategyHashMap<CharSequence, Integer> map = new StrategyHashMap<>(HashingStrategy.caseInsensitive());
+        map.put("Content-Type", 1);
+        map.put("\u00c7A", 2);
+        assertEquals(1, map.get("content-type"));
+        assertEquals(1, map.get(new StringBuilder("CONTENT-TYPE")));
+        assertEquals(2, map.get("\u00e7a"));
+        map.put("\ud801\udc00", 4);
+        assertEquals(4, map.get("\ud801\udc28"));
+        assertEquals(1, map.put("CONTENT-type", 3));
+        assertEquals(3, map.size());
+        assertTrue(map.containsKey("Content-Type"));
+        assertEquals("Content-Type", map.keySet().stream()
+                .filter(k -> k.length() == 12).findFirst().orElseThrow().toString(), "The first key is kept");
+
+        HashingStrategy<CharSequence> strategy = HashingStrategy.caseInsensitive();
+        // The last four hold Deseret letters, which lie outside the BMP and need surrogate pairs
+        String[] words = {"stra\u00dfe", "STRASSE", "\u0130stanbul", "istanbul", "\u01c5", "\u01c6", "\u01c4",
+                "\u03c3", "\u03c2", "\u03a3", "\ud801\udc00", "\ud801\udc28", "a\ud801\udc00b", "A\ud801\udc28B"};
+        for (String a : words) {
+            for (String b : words) {
+                assertEquals(a.equalsIgnoreCase(b), strategy.equals(a, b), a + " vs " + b);
+                if (strategy.equals(a, b)) {
+                    assertEquals(strategy.hash(a), strategy.hash(b), a + " vs " + b);
+                }
+            }
+        }
+    }
+
+    // Test case 3: Identity strategy
+    // Expected: Equal but distinct objects are separate keys, as in IdentityHashMap
+    @Test
+    void testIdentityKeys() {
+        StrategyHashMap<String, Integer> map = new StrategyHashMap<>(HashingStrategy.identity());
+        String a = new String("key");
+        String b = new String("key");
+        map.put(a, 1);
+        map.put(b, 2);
+        assertEquals(2, map.size());
+        assertEquals(1, map.get(a));
+        assertNull(map.get("key" + System.nanoTime()));
+    }
+
+    // Test case 4: A custom strategy on a subset of fields, plus null keys and removal
+    // Expected: Keys that agree on name are the same key; null key behaves as in HashMap
+    @Test
+    void testCustomStrategy() {
+        HashingStrategy<Person> byName = new HashingStrategy<>() {
+            @Override
+            public int hash(Person key) {
+                return key.name().hashCode();
+            }
+
+            @Override
+            public boolean equals(Person key, Person other) {
+                return key.name().equals(other.name());
+            }
+        };
+        StrategyHashMap<Person, String> map = new StrategyHashMap<>(byName);
+        map.put(new Person("Alice", 30), "first");
+        assertEquals("first", map.put(new Person("Alice", 31), "second"));
+        map.put(null, "null key");
+        assertEquals("null key", map.get(null));
+        assertEquals(2, map.size());
+        assertEquals("second", map.remove(new Person("Alice", 99)));
+        assertEquals(1, map.size());
+    }
+
+    // Test case 5: Random operations against a HashMap keyed by the lower-cased string
+    // Expected: Identical contents across resizes and removals
+    @Test
+    void testMatchesWrapperKeyedHashMap() {
+        StrategyHashMap<CharSequence, Integer> map =
+                new StrategyHashMap<>(HashingStrategy.caseInsensitive(), Map.of("Seed", 0));
+        HashMap<String, Integer> expected = new HashMap<>(Map.of("seed", 0));
+        Random random = new Random(42);
+        for (int i = 0; i < 50_000; i++) {
+            String key = "Key" + random.nextInt(2000);
+            String variant = random.nextBoolean() ? key.toUpperCase(Locale.ROOT) : key;
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key.toLowerCase(Locale.ROOT)), map.remove(variant));
+            } else {
+                assertEquals(expected.put(key.toLowerCase(Locale.ROOT), i), map.put(variant, i));
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        for (Map.Entry<String, Integer> e : expected.entrySet()) {
+            assertEquals(e.getValue(), map.get(e.getKey().toUpperCase(Locale.ROOT)));
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.interview.hashmapdemo.problem1;
 
 import org.junit.jupiter.api.Test;
+import com.interview.hashmapdemo.hash.HashQualityTest;
+import com.interview.hashmapdemo.hash.HashQualityExtension;
 import java.util.HashMap;
 import static org.junit.jupiter.api.Assertions.*;
 import java.util.Objects;
@@ -253,4 +255,31 @@ public class IncorrectHashCodeEqualsProblemTest {
         assertNull(map.get(person3), 
             "HashMap should not find different object");
     }
-} 
\ No newline at end of file
+
+    private static final String[] NAMES = {
+            "Alice", "Bob", "Carol", "Dave", "Eve", "Frank", "Grace", "Heidi", "Ivan", "Judy",
+            "Mallory", "Niaj", "Olivia", "Peggy", "Rupert", "Sybil", "Trent", "Uma", "Victor", "Walter",
+            "Xavier", "Yvonne", "Zoe", "Aaron", "Bella", "Chen", "Diego", "Elena", "Farah", "Goran",
+            "Hana", "Igor", "Jamal", "Keiko", "Lars", "Maya", "Nils", "Omar", "Priya", "Quinn"};
+
+    private static IncorrectHashCodeEqualsProblem.PersonCorrect person(long input) {
+        return new IncorrectHashCodeEqualsProblem.PersonCorrect(
+                NAMES[(int) ((input & 0xFF) % NAMES.length)], 18 + (int) ((input >>> 8 & 0xFF) % 63));
+    }
+
+    // Test case 7: Hash quality of PersonCorrect over 40 names and ages 18 to 80
+    // Expected: Passes the default gate
+    @HashQualityTest
+    void testPersonCorrectHashQuality(HashQualityExtension.Gate gate) {
+        gate.check(IncorrectHashCodeEqualsProblemTest::person);
+    }
+
+    // Test case 8: PersonCorrect under the strict gate
+    // Expected: Fails, since one more year of age changes only the low hash bits
+    @HashQualityTest(strict = true)
+    void testPersonCorrectIsNotStrict(HashQualityExtension.Gate gate) {
+        AssertionError error = assertThrows(AssertionError.class,
+                () -> gate.check(IncorrectHashCodeEqualsProblemTest::person));
+        assertTrue(error.getMessage().contains("weak avalanche"), error.getMessage());
+    }
+}
@@ -1,6 +1,8 @@
 package com.interview.hashmapdemo.problem2;
 
 import org.junit.jupiter.api.Test;
+import com.interview.hashmapdemo.hash.HashQualityTest;
+import com.interview.hashmapdemo.hash.HashQualityExtension;
 import java.util.HashMap;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -171,4 +173,11 @@ public class MutatingKeyProblemTest {
         key.addItem("c");
         assertNull(map.get(key), "Should not find value after collection modification");
     }
-} 
\ No newline at end of file
+
+    // Test case 5: Hash quality of MutatingKeyProblem's MutableKey over "key" + number values
+    // Expected: Passes the default gate
+    @HashQualityTest
+    void testMutableKeyHashQuality(HashQualityExtension.Gate gate) {
+        gate.check(input -> new MutatingKeyProblem.MutableKey("key" + (input & 0xFFFFF)));
+    }
+}
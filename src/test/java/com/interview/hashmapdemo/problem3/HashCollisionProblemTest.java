@@ -1,6 +1,8 @@
 package com.interview.hashmapdemo.problem3;
 
 import org.junit.jupiter.api.Test;
+import com.interview.hashmapdemo.hash.HashQualityTest;
+import com.interview.hashmapdemo.hash.HashQualityExtension;
 import java.util.HashMap;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -152,4 +154,11 @@ public class HashCollisionProblemTest {
         assertEquals("value1", map.get(key3), "Should find equal object with good hash code");
         assertEquals("value2", map.get(key2), "Should find different object with good hash code");
     }
-} 
\ No newline at end of file
+
+    // Test case 5: Hash quality of HashCollisionProblem's BadHashKey over "key" + number values
+    // Expected: Passes the default gate
+    @HashQualityTest
+    void testBadHashKeyHashQuality(HashQualityExtension.Gate gate) {
+        gate.check(input -> new HashCollisionProblem.BadHashKey("key" + (input & 0xFFFFF)));
+    }
+}
@@ -1,6 +1,8 @@
 package com.interview.hashmapdemo.problem4;
 
 import org.junit.jupiter.api.Test;
+import com.interview.hashmapdemo.hash.HashQualityTest;
+import com.interview.hashmapdemo.hash.HashQualityExtension;
 import java.util.HashMap;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -111,4 +113,14 @@ public class EqualsVsDoubleEqualsProblemTest {
         assertFalse(str.equals(nullStr), "String should not be equal to null using equals()");
         assertTrue(nullStr == null, "null should be equal to null using ==");
     }
-} 
\ No newline at end of file
+
+    // Test case 6: Hash quality of EqualsVsDoubleEqualsProblem's Employee over ids E000000 to E999999
+    // Expected: Passes the default gate
+    @HashQualityTest
+    void testEmployeeHashQuality(HashQualityExtension.Gate gate) {
+        gate.check(input -> {
+            String number = Long.toString((input & Long.MAX_VALUE) % 1_000_000);
+            return new EqualsVsDoubleEqualsProblem.Employee("E" + "0".repeat(6 - number.length()) + number, "Name");
+        });
+    }
+}
@@ -0,0 +1,82 @@
+package com.interview.hashmapdemo.tracing;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LatencyHistogramTest {
+
+    // Test case 1: Percentiles of a known uniform distribution
+    // Expected: Within the ~3% bucket precision, never below the true value
+    @Test
+    void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100000; i++) {
+            histogram.record(i);
+        }
+        assertEquals(100000, histogram.count());
+        assertEquals(100000, histogram.max());
+        long p50 = histogram.percentile(0.5);
+        long p99 = histogram.percentile(0.99);
+        assertTrue(p50 >= 50000 && p50 <= 50000 * 1.04, "p50 was " + p50);
+        assertTrue(p99 >= 99000 && p99 <= 100000, "p99 was " + p99);
+        assertEquals(50000.5, histogram.mean(), 0.001);
+    }
+
+    // Test case 2: A single outlier among fast operations
+    // Expected: Invisible at p50/p99, visible at max
+    @Test
+    void testOutlierShowsUpInMax() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 10000; i++) {
+            histogram.record(20);
+        }
+        histogram.record(5_000_000);
+        assertEquals(20, histogram.percentile(0.99));
+        assertEquals(5_000_000, histogram.max());
+    }
+
+    // Test case 3: Concurrent recording
+    // Expected: No lost updates without any locking
+    @Test
+    void testConcurrentRecording() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 10000; i++) {
+                    histogram.record(i);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(80000, histogram.count());
+        assertEquals(9999, histogram.max());
+    }
+
+    // Test case 4: Combining per-thread histograms
+    // Expected: Same count, mean, max and percentiles as recording into one histogram
+    @Test
+    void testAdd() {
+        LatencyHistogram combined = new LatencyHistogram();
+        LatencyHistogram single = new LatencyHistogram();
+        for (int t = 1; t <= 4; t++) {
+            LatencyHistogram perThread = new LatencyHistogram();
+            for (int i = 0; i < 1000; i++) {
+                perThread.record(i * t);
+                single.record(i * t);
+            }
+            combined.add(perThread);
+        }
+        assertEquals(single.count(), combined.count());
+        assertEquals(single.max(), combined.max());
+        assertEquals(single.mean(), combined.mean(), 0.001);
+        assertEquals(single.percentile(0.5), combined.percentile(0.5));
+        assertEquals(single.percentile(0.99), combined.percentile(0.99));
+    }
+}
@@ -0,0 +1,88 @@
+package com.interview.hashmapdemo.tracing;
+
+import org.junit.jupiter.api.Test;
+import java.util.Iterator;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TracingHashMapTest {
+
+    // Test case 1: Growing past the threshold from LoadFactorProblem's parameters
+    // Expected: One resize event per doubling, with capacities as HashMap computes them
+    @Test
+    void testResizeEvents() {
+        MapTracer tracer = new MapTracer();
+        TracingHashMap<Integer, String> map = new TracingHashMap<>(16, 0.75f, tracer);
+        for (int i = 0; i < 100; i++) {
+            map.put(i, "value" + i);
+        }
+        List<ResizeEvent> resizes = tracer.getResizes();
+        // 16 -> 32 -> 64 -> 128 -> 256 at sizes 13, 25, 49 and 97
+        assertEquals(4, resizes.size());
+        assertEquals(16, resizes.get(0).getOldCapacity());
+        assertEquals(32, resizes.get(0).getNewCapacity());
+        assertEquals(13, resizes.get(0).getEntriesMoved());
+        assertEquals(256, map.getCapacity());
+        assertEquals(4, tracer.getGrowthPutLatency().count());
+        assertEquals(96, tracer.getSteadyPutLatency().count());
+    }
+
+    // Test case 2: Colliding keys
+    // Expected: Resizes caused by collisions while small, then a treeification
+    @Test
+    void testTreeifyEvents() {
+        class FixedHashCode implements Comparable<FixedHashCode> {
+            private final int value;
+
+            FixedHashCode(int value) {
+                this.value = value;
+            }
+
+            @Override
+            public boolean equals(Object obj) {
+                return obj instanceof FixedHashCode && ((FixedHashCode) obj).value == value;
+            }
+
+            @Override
+            public int hashCode() {
+                return 1;
+            }
+
+            @Override
+            public int compareTo(FixedHashCode other) {
+                return Integer.compare(value, other.value);
+            }
+        }
+
+        MapTracer tracer = new MapTracer();
+        TracingHashMap<FixedHashCode, Integer> map = new TracingHashMap<>(tracer);
+        for (int i = 0; i < 12; i++) {
+            map.put(new FixedHashCode(i), i);
+        }
+        // 9th and 10th colliding keys resize 16 -> 32 -> 64, the 11th treeifies
+        assertEquals(2, tracer.getResizes().size());
+        assertEquals(ResizeEvent.Cause.COLLISIONS, tracer.getResizes().get(0).getCause());
+        assertEquals(1, tracer.getTreeifications().size());
+        assertEquals(64, tracer.getTreeifications().get(0).getCapacity());
+    }
+
+    // Test case 3: Gets and removals through every view
+    // Expected: Behaves like the wrapped HashMap and records get latencies
+    @Test
+    void testDelegation() {
+        MapTracer tracer = new MapTracer();
+        TracingHashMap<String, String> map = new TracingHashMap<>(tracer);
+        map.put("key1", "value1");
+        map.put("key2", "value2");
+        map.put("key3", "value3");
+        assertEquals("value1", map.get("key1"));
+        assertNull(map.get("missing"));
+        assertEquals(2, tracer.getGetLatency().count());
+        assertEquals("value2", map.remove("key2"));
+        Iterator<String> it = map.keySet().iterator();
+        it.next();
+        it.remove();
+        assertEquals(1, map.size());
+        assertTrue(tracer.report().contains("resizes: 0"));
+    }
+}